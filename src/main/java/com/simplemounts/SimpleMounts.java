@@ -1,8 +1,13 @@
 package com.simplemounts;
 
+import com.simplemounts.api.MountService;
+import com.simplemounts.api.SimpleMountsAPI;
 import com.simplemounts.commands.MountCommand;
 import com.simplemounts.core.ConfigManager;
 import com.simplemounts.core.DatabaseManager;
+import com.simplemounts.core.DebugLogger;
+import com.simplemounts.core.DistanceMonitor;
+import com.simplemounts.core.EventPrefilter;
 import com.simplemounts.core.MountManager;
 import com.simplemounts.core.ShutdownHandler;
 import com.simplemounts.gui.GUIListener;
@@ -10,11 +15,14 @@ import com.simplemounts.gui.GUIManager;
 import com.simplemounts.listeners.CustomTamingListener;
 import com.simplemounts.listeners.InventoryListener;
 import com.simplemounts.listeners.ItemInteractionListener;
+import com.simplemounts.listeners.MountIndexListener;
 import com.simplemounts.listeners.MountInteractionListener;
 import com.simplemounts.listeners.PlayerListener;
 import com.simplemounts.listeners.ServerListener;
 import com.simplemounts.recipes.RecipeManager;
 import com.simplemounts.util.NameValidator;
+import com.simplemounts.util.PluginCompatibility;
+import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitRunnable;
 
@@ -25,12 +33,17 @@ public final class SimpleMounts extends JavaPlugin {
     private static SimpleMounts instance;
     
     private ConfigManager configManager;
+    private DebugLogger debugLogger;
     private DatabaseManager databaseManager;
     private MountManager mountManager;
+    private DistanceMonitor distanceMonitor;
     private ShutdownHandler shutdownHandler;
     private GUIManager guiManager;
     private RecipeManager recipeManager;
     private NameValidator nameValidator;
+    private PluginCompatibility pluginCompatibility;
+    private MountService mountService;
+    private EventPrefilter eventPrefilter;
     
     @Override
     public void onEnable() {
@@ -44,9 +57,13 @@ public final class SimpleMounts extends JavaPlugin {
             registerListeners();
             registerRecipes();
             registerShutdownHandler();
+            registerServices();
             scheduleDatabaseMaintenance();
             startDistanceBasedStorage();
             
+            // Soft dependencies may enable after us; detect them once the server is running
+            runSync(pluginCompatibility::reloadCompatibility);
+            
             long loadTime = System.currentTimeMillis() - startTime;
             getLogger().info("SimpleMounts v" + getDescription().getVersion() + " enabled in " + loadTime + "ms");
             
@@ -60,6 +77,15 @@ public final class SimpleMounts extends JavaPlugin {
     @Override
     public void onDisable() {
         try {
+            getServer().getServicesManager().unregisterAll(this);
+            if (mountService != null) {
+                mountService.clear();
+            }
+            
+            if (distanceMonitor != null) {
+                distanceMonitor.stop();
+            }
+            
             if (shutdownHandler != null) {
                 shutdownHandler.handleShutdown();
             }
@@ -72,10 +98,19 @@ public final class SimpleMounts extends JavaPlugin {
                 recipeManager.unregisterRecipes();
             }
             
+            if (mountManager != null) {
+                // No-op if the shutdown handler already flushed it
+                mountManager.getStorageQueue().shutdown(configManager.getShutdownStorageTimeout() * 1000L);
+            }
+            
             if (databaseManager != null) {
                 databaseManager.closeConnection();
             }
             
+            if (debugLogger != null) {
+                debugLogger.shutdown();
+            }
+            
             getLogger().info("SimpleMounts v" + getDescription().getVersion() + " disabled");
             
         } catch (Exception e) {
@@ -86,6 +121,8 @@ public final class SimpleMounts extends JavaPlugin {
     
     private void initializeManagers() {
         configManager = new ConfigManager(this);
+        debugLogger = new DebugLogger(getLogger());
+        debugLogger.configure(configManager);
         databaseManager = new DatabaseManager(this);
         
         // Initialize InventorySerializer for MountAttributes to use
@@ -93,16 +130,25 @@ public final class SimpleMounts extends JavaPlugin {
             new com.simplemounts.serialization.InventorySerializer(this);
         com.simplemounts.data.MountAttributes.setInventorySerializer(inventorySerializer);
         
+        mountService = new MountService(this);
         mountManager = new MountManager(this);
         shutdownHandler = new ShutdownHandler(this);
         guiManager = new GUIManager(this);
         recipeManager = new RecipeManager(this);
         nameValidator = new NameValidator(this);
+        pluginCompatibility = new PluginCompatibility(this);
+        eventPrefilter = new EventPrefilter(this);
         
         if (!databaseManager.initialize()) {
             throw new RuntimeException("Failed to initialize database");
         }
         
+        // Replays snapshots left in the journal by a crash
+        mountManager.getStorageQueue().start();
+        
+        // Checks active_mounts against the world as chunks load
+        mountManager.getReconciler().start();
+        
         getLogger().info("All managers initialized successfully");
     }
     
@@ -129,6 +175,7 @@ public final class SimpleMounts extends JavaPlugin {
         getServer().getPluginManager().registerEvents(new GUIListener(this), this);
         getServer().getPluginManager().registerEvents(new ItemInteractionListener(this), this);
         getServer().getPluginManager().registerEvents(new ServerListener(this), this);
+        getServer().getPluginManager().registerEvents(new MountIndexListener(this), this);
         
         getLogger().info("Event listeners registered successfully");
     }
@@ -138,6 +185,11 @@ public final class SimpleMounts extends JavaPlugin {
         getLogger().info("Recipes registered successfully");
     }
     
+    private void registerServices() {
+        getServer().getServicesManager().register(SimpleMountsAPI.class, mountService, this, ServicePriority.Normal);
+        getLogger().info("Mount API registered successfully");
+    }
+    
     private void registerShutdownHandler() {
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             if (shutdownHandler != null) {
@@ -173,34 +225,29 @@ public final class SimpleMounts extends JavaPlugin {
     }
     
     private void startDistanceBasedStorage() {
-        // Start distance-based auto storage task
-        int checkInterval = configManager.getDistanceStorageCheckInterval();
-        
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                // Run distance checks for all online players
-                for (org.bukkit.entity.Player player : getServer().getOnlinePlayers()) {
-                    runAsync(() -> {
-                        try {
-                            mountManager.checkDistanceStorage(player);
-                        } catch (Exception e) {
-                            getLogger().log(Level.WARNING, "Error during distance check for " + player.getName(), e);
-                        }
-                    });
-                }
-            }
-        }.runTaskTimerAsynchronously(this, checkInterval, checkInterval);
-        
-        getLogger().info("Distance-based storage task started (check interval: " + checkInterval + " ticks)");
+        // Single tick-budgeted job for distance-based auto storage
+        distanceMonitor = new DistanceMonitor(this, mountManager);
+        distanceMonitor.start();
     }
     
     public void reloadConfiguration() {
         try {
             configManager.reloadConfig();
+            debugLogger.configure(configManager);
             if (nameValidator != null) {
                 nameValidator.reloadBlacklist();
             }
+            if (mountManager != null) {
+                mountManager.getRateLimiter().reload();
+                mountManager.getPermissionCache().invalidateAll();
+            }
+            if (pluginCompatibility != null) {
+                pluginCompatibility.detectProtectionPlugins();
+            }
+            if (distanceMonitor != null) {
+                // Picks up a changed distance_storage mode
+                distanceMonitor.start();
+            }
             getLogger().info("Configuration reloaded successfully");
         } catch (Exception e) {
             getLogger().log(Level.SEVERE, "Failed to reload configuration", e);
@@ -215,6 +262,10 @@ public final class SimpleMounts extends JavaPlugin {
         return configManager;
     }
     
+    public DebugLogger getDebugLogger() {
+        return debugLogger;
+    }
+    
     public DatabaseManager getDatabaseManager() {
         return databaseManager;
     }
@@ -223,6 +274,10 @@ public final class SimpleMounts extends JavaPlugin {
         return mountManager;
     }
     
+    public DistanceMonitor getDistanceMonitor() {
+        return distanceMonitor;
+    }
+    
     public ShutdownHandler getShutdownHandler() {
         return shutdownHandler;
     }
@@ -239,6 +294,18 @@ public final class SimpleMounts extends JavaPlugin {
         return nameValidator;
     }
     
+    public PluginCompatibility getPluginCompatibility() {
+        return pluginCompatibility;
+    }
+    
+    public MountService getMountService() {
+        return mountService;
+    }
+    
+    public EventPrefilter getEventPrefilter() {
+        return eventPrefilter;
+    }
+    
     public void runAsync(Runnable task) {
         new BukkitRunnable() {
             @Override
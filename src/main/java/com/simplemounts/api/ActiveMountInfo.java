@@ -0,0 +1,36 @@
+package com.simplemounts.api;
+
+import java.util.UUID;
+
+/**
+ * A mount that is out in the world, as it was when the lookup was made.
+ */
+public class ActiveMountInfo {
+
+    private final UUID entityUuid;
+    private final UUID ownerUuid;
+    private final int mountId;
+    private final String mountName;
+
+    public ActiveMountInfo(UUID entityUuid, UUID ownerUuid, int mountId, String mountName) {
+        this.entityUuid = entityUuid;
+        this.ownerUuid = ownerUuid;
+        this.mountId = mountId;
+        this.mountName = mountName;
+    }
+
+    public UUID getEntityUuid() { return entityUuid; }
+    public UUID getOwnerUuid() { return ownerUuid; }
+    public int getMountId() { return mountId; }
+    public String getMountName() { return mountName; }
+
+    @Override
+    public String toString() {
+        return "ActiveMountInfo{" +
+                "entityUuid=" + entityUuid +
+                ", ownerUuid=" + ownerUuid +
+                ", mountId=" + mountId +
+                ", mountName='" + mountName + '\'' +
+                '}';
+    }
+}
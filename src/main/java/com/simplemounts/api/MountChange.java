@@ -0,0 +1,49 @@
+package com.simplemounts.api;
+
+import java.util.UUID;
+
+/**
+ * One change to a player's mounts. The entity UUID is null when no entity was involved.
+ */
+public class MountChange {
+
+    public enum Type {
+        CLAIMED,
+        SUMMONED,
+        STORED,
+        RENAMED,
+        RELEASED,
+        DIED
+    }
+
+    private final Type type;
+    private final UUID ownerUuid;
+    private final int mountId;
+    private final String mountName;
+    private final UUID entityUuid;
+
+    public MountChange(Type type, UUID ownerUuid, int mountId, String mountName, UUID entityUuid) {
+        this.type = type;
+        this.ownerUuid = ownerUuid;
+        this.mountId = mountId;
+        this.mountName = mountName;
+        this.entityUuid = entityUuid;
+    }
+
+    public Type getType() { return type; }
+    public UUID getOwnerUuid() { return ownerUuid; }
+    public int getMountId() { return mountId; }
+    public String getMountName() { return mountName; }
+    public UUID getEntityUuid() { return entityUuid; }
+
+    @Override
+    public String toString() {
+        return "MountChange{" +
+                "type=" + type +
+                ", ownerUuid=" + ownerUuid +
+                ", mountId=" + mountId +
+                ", mountName='" + mountName + '\'' +
+                ", entityUuid=" + entityUuid +
+                '}';
+    }
+}
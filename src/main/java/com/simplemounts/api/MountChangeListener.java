@@ -0,0 +1,10 @@
+package com.simplemounts.api;
+
+/**
+ * Notified whenever a mount is claimed, summoned, stored, renamed, released or dies.
+ */
+@FunctionalInterface
+public interface MountChangeListener {
+
+    void onMountChange(MountChange change);
+}
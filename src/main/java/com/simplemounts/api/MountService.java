@@ -0,0 +1,207 @@
+package com.simplemounts.api;
+
+import com.simplemounts.SimpleMounts;
+import com.simplemounts.core.MountRegistry;
+import com.simplemounts.data.MountData;
+import com.simplemounts.data.MountType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+
+/**
+ * SimpleMountsAPI backed by a per-player cache of stored mounts. A player's entry is
+ * dropped whenever one of their mounts changes; entries are only filled while no store is
+ * waiting in the storage queue, so the cache never holds rows older than the database.
+ */
+public class MountService implements SimpleMountsAPI {
+
+    private static final int MAX_CACHED_PLAYERS = 2000;
+
+    private final SimpleMounts plugin;
+    private final Map<UUID, List<MountData>> storedCache = new ConcurrentHashMap<>();
+    private final List<MountChangeListener> listeners = new CopyOnWriteArrayList<>();
+    // Bumped on every change so a load that raced with one is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
+    public MountService(SimpleMounts plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public CompletableFuture<List<MountData>> getMounts(UUID playerUuid) {
+        return getMounts(Collections.singletonList(playerUuid), null).thenApply(mounts -> mounts.get(playerUuid));
+    }
+
+    @Override
+    public CompletableFuture<MountData> getMount(UUID playerUuid, int mountId) {
+        return getMounts(playerUuid).thenApply(mounts -> {
+            for (MountData mountData : mounts) {
+                if (mountData.getId() == mountId) {
+                    return mountData;
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Map<UUID, List<MountData>>> getMounts(Collection<UUID> playerUuids, Set<MountType> types) {
+        Map<UUID, List<MountData>> result = new HashMap<>();
+        Set<UUID> missing = new LinkedHashSet<>();
+
+        for (UUID playerUuid : playerUuids) {
+            List<MountData> cached = storedCache.get(playerUuid);
+            if (cached != null) {
+                cacheHits.increment();
+                result.put(playerUuid, filter(cached, types));
+            } else {
+                cacheMisses.increment();
+                missing.add(playerUuid);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return CompletableFuture.completedFuture(result);
+        }
+
+        long loadGeneration = generation.get();
+        boolean cacheable = !plugin.getMountManager().getStorageQueue().hasPending();
+        // A failed load completes exceptionally and skips this, so it is never cached
+        return plugin.getDatabaseManager().getPlayerMountsBatch(missing).thenApply(loaded -> {
+            for (Map.Entry<UUID, List<MountData>> entry : loaded.entrySet()) {
+                List<MountData> mounts = Collections.unmodifiableList(entry.getValue());
+                if (cacheable && generation.get() == loadGeneration) {
+                    if (storedCache.size() >= MAX_CACHED_PLAYERS) {
+                        storedCache.clear();
+                    }
+                    storedCache.put(entry.getKey(), mounts);
+                }
+                result.put(entry.getKey(), filter(mounts, types));
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public Collection<ActiveMountInfo> getActiveMounts(UUID playerUuid) {
+        List<ActiveMountInfo> result = new ArrayList<>();
+        for (MountRegistry.ActiveMount mount : plugin.getMountManager().getRegistry().getOwnedMounts(playerUuid)) {
+            result.add(toInfo(mount));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    @Override
+    public ActiveMountInfo getActiveMount(UUID entityUuid) {
+        MountRegistry.ActiveMount mount = plugin.getMountManager().getRegistry().get(entityUuid);
+        return mount != null ? toInfo(mount) : null;
+    }
+
+    // Other plugins get a copy, never the registry's own entry
+    private static ActiveMountInfo toInfo(MountRegistry.ActiveMount mount) {
+        return new ActiveMountInfo(mount.getEntityUuid(), mount.getOwnerUuid(), mount.getMountId(), mount.getMountName());
+    }
+
+    @Override
+    public void addChangeListener(MountChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(MountChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Drop the owner's cached mounts and tell listeners. Called by SimpleMounts itself.
+     */
+    public void publish(MountChange.Type type, UUID ownerUuid, int mountId, String mountName, UUID entityUuid) {
+        generation.incrementAndGet();
+        storedCache.remove(ownerUuid);
+
+        if (listeners.isEmpty()) {
+            return;
+        }
+
+        MountChange change = new MountChange(type, ownerUuid, mountId, mountName, entityUuid);
+        for (MountChangeListener listener : listeners) {
+            try {
+                listener.onMountChange(change);
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "Mount change listener failed for " + change, e);
+            }
+        }
+    }
+
+    public void clear() {
+        storedCache.clear();
+        listeners.clear();
+    }
+
+    private static List<MountData> filter(List<MountData> mounts, Set<MountType> types) {
+        if (types == null || types.isEmpty()) {
+            return mounts;
+        }
+        List<MountData> filtered = new ArrayList<>();
+        for (MountData mountData : mounts) {
+            if (types.contains(mountData.getMountTypeEnum())) {
+                filtered.add(mountData);
+            }
+        }
+        return filtered;
+    }
+
+    public ServiceStats getStats() {
+        return new ServiceStats(storedCache.size(), listeners.size(), cacheHits.sum(), cacheMisses.sum());
+    }
+
+    public static class ServiceStats {
+        private final int cachedPlayers;
+        private final int listeners;
+        private final long cacheHits;
+        private final long cacheMisses;
+
+        public ServiceStats(int cachedPlayers, int listeners, long cacheHits, long cacheMisses) {
+            this.cachedPlayers = cachedPlayers;
+            this.listeners = listeners;
+            this.cacheHits = cacheHits;
+            this.cacheMisses = cacheMisses;
+        }
+
+        public int getCachedPlayers() { return cachedPlayers; }
+        public int getListeners() { return listeners; }
+        public long getCacheHits() { return cacheHits; }
+        public long getCacheMisses() { return cacheMisses; }
+
+        public double getHitRate() {
+            long total = cacheHits + cacheMisses;
+            return total == 0 ? 0.0 : (double) cacheHits / total;
+        }
+
+        @Override
+        public String toString() {
+            return "ServiceStats{" +
+                    "cachedPlayers=" + cachedPlayers +
+                    ", listeners=" + listeners +
+                    ", cacheHits=" + cacheHits +
+                    ", cacheMisses=" + cacheMisses +
+                    '}';
+        }
+    }
+}
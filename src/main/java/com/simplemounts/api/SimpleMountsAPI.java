@@ -0,0 +1,61 @@
+package com.simplemounts.api;
+
+import com.simplemounts.data.MountData;
+import com.simplemounts.data.MountType;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Read access to SimpleMounts data for other plugins, registered with Bukkit's
+ * ServicesManager:
+ *
+ * <pre>
+ * SimpleMountsAPI api = Bukkit.getServicesManager().load(SimpleMountsAPI.class);
+ * </pre>
+ *
+ * Stored-mount lookups complete immediately when the player's mounts are cached and
+ * otherwise complete off the main thread once the database answers; they complete
+ * exceptionally if the database cannot be read. Active-mount lookups
+ * read in-memory state and are safe from any thread.
+ */
+public interface SimpleMountsAPI {
+
+    /**
+     * All stored mounts a player owns, most recently used first.
+     */
+    CompletableFuture<List<MountData>> getMounts(UUID playerUuid);
+
+    /**
+     * One stored mount, or null if the player has no mount with that id.
+     */
+    CompletableFuture<MountData> getMount(UUID playerUuid, int mountId);
+
+    /**
+     * Stored mounts for several players at once, loading any that are not cached in a
+     * single query. Pass null or an empty set for types to include every type. Every
+     * requested player is present in the result.
+     */
+    CompletableFuture<Map<UUID, List<MountData>>> getMounts(Collection<UUID> playerUuids, Set<MountType> types);
+
+    /**
+     * Mounts the player currently has out in the world.
+     */
+    Collection<ActiveMountInfo> getActiveMounts(UUID playerUuid);
+
+    /**
+     * The active mount for an entity, or null if it is not a summoned SimpleMounts mount.
+     */
+    ActiveMountInfo getActiveMount(UUID entityUuid);
+
+    /**
+     * Listeners may be called on any thread and should return quickly.
+     */
+    void addChangeListener(MountChangeListener listener);
+
+    void removeChangeListener(MountChangeListener listener);
+}
@@ -1,9 +1,20 @@
 package com.simplemounts.commands;
 
 import com.simplemounts.SimpleMounts;
+import com.simplemounts.api.MountService;
+import com.simplemounts.core.ActiveMountReconciler;
+import com.simplemounts.core.DebugLogger;
+import com.simplemounts.core.DistanceMonitor;
+import com.simplemounts.core.EventPrefilter;
 import com.simplemounts.core.MountManager;
+import com.simplemounts.core.PermissionCache;
+import com.simplemounts.core.RateLimiter;
+import com.simplemounts.core.ShutdownStorageEngine;
+import com.simplemounts.core.StorageQueue;
 import com.simplemounts.data.MountData;
 import com.simplemounts.data.MountType;
+import com.simplemounts.util.NameValidator;
+import com.simplemounts.util.PluginCompatibility;
 import org.bukkit.ChatColor;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -33,8 +44,7 @@ public class MountCommand implements CommandExecutor, TabCompleter {
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
         try {
             if (!(sender instanceof Player)) {
-                String message = plugin.getConfigManager().getMessage("player_only_command");
-                sender.sendMessage(ChatColor.translateAlternateColorCodes('&', message));
+                sender.sendMessage(plugin.getConfigManager().formatLine(null, "player_only_command"));
                 return true;
             }
             
@@ -99,20 +109,12 @@ public class MountCommand implements CommandExecutor, TabCompleter {
     }
     
     private void sendMessage(Player player, String key) {
-        sendMessage(player, key, new HashMap<>());
+        sendMessage(player, key, Collections.emptyMap());
     }
     
     private void sendMessage(Player player, String key, Map<String, String> placeholders) {
         try {
-            String message = plugin.getConfigManager().getMessage(key);
-            String prefix = plugin.getConfigManager().getMessagePrefix();
-            
-            // Replace placeholders
-            for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-                message = message.replace("{" + entry.getKey() + "}", entry.getValue());
-            }
-            
-            player.sendMessage(ChatColor.translateAlternateColorCodes('&', prefix + message));
+            player.sendMessage(plugin.getConfigManager().formatMessage(player, key, placeholders));
         } catch (Exception e) {
             plugin.getLogger().warning("Failed to send message with key '" + key + "' to player " + player.getName());
             player.sendMessage(ChatColor.RED + "An error occurred. Please try again.");
@@ -132,7 +134,16 @@ public class MountCommand implements CommandExecutor, TabCompleter {
             }
             
             // Check if this is an ID-based command or name-based command
-            if (args.length >= 3 && isNumeric(args[2])) {
+            if (args[1].contains(",")) {
+                // Format: /mount summon <a,b,c>
+                List<String> selectors = new ArrayList<>();
+                for (String selector : args[1].split(",")) {
+                    if (!selector.trim().isEmpty()) {
+                        selectors.add(selector.trim());
+                    }
+                }
+                mountManager.summonMounts(player, selectors);
+            } else if (args.length >= 3 && isNumeric(args[2])) {
                 // Format: /mount summon <name> <id>
                 String mountName = args[1];
                 int mountId = Integer.parseInt(args[2]);
@@ -189,7 +200,15 @@ public class MountCommand implements CommandExecutor, TabCompleter {
                 return;
             }
             
-            if (args.length > 1) {
+            if (!mountManager.getRateLimiter().tryAcquire(player.getUniqueId(), RateLimiter.Action.STORE)) {
+                sendMessage(player, "rate_limit_exceeded");
+                return;
+            }
+            
+            if (args.length > 1 && args[1].equalsIgnoreCase("all")) {
+                // Store every active mount in one batch
+                mountManager.storeAllMounts(player);
+            } else if (args.length > 1) {
                 // Store specific mount by name
                 String mountName = args[1];
                 plugin.runAsync(() -> {
@@ -580,17 +599,14 @@ public class MountCommand implements CommandExecutor, TabCompleter {
                     String lastAccessed = dateFormat.format(new Date(mount.getLastAccessed()));
                     
                     String chestInfo = mount.hasChestInventory() ? 
-                        ChatColor.translateAlternateColorCodes('&', plugin.getConfigManager().getMessage("mount_has_chest")) : "";
+                        plugin.getConfigManager().formatLine(player, "mount_has_chest") : "";
                     String activeInfo = isActiveMount(player, mount.getMountName()) ? 
-                        ChatColor.translateAlternateColorCodes('&', plugin.getConfigManager().getMessage("mount_is_active")) : "";
+                        plugin.getConfigManager().formatLine(player, "mount_is_active") : "";
                     
-                    String prefix = plugin.getConfigManager().getMessagePrefix();
-                    player.sendMessage(ChatColor.translateAlternateColorCodes('&', 
-                        "&7- &e" + mount.getMountName() + " &7(" + typeName + ")" + chestInfo + activeInfo));
+                    player.sendMessage(ChatColor.GRAY + "- " + ChatColor.YELLOW + mount.getMountName() + 
+                        ChatColor.GRAY + " (" + typeName + ")" + chestInfo + activeInfo);
                     
-                    String lastUsedMsg = ChatColor.translateAlternateColorCodes('&', 
-                        plugin.getConfigManager().getMessage("mount_last_used")) + lastAccessed;
-                    player.sendMessage(ChatColor.translateAlternateColorCodes('&', "  " + lastUsedMsg));
+                    player.sendMessage("  " + plugin.getConfigManager().formatLine(player, "mount_last_used") + lastAccessed);
                 } catch (Exception e) {
                     plugin.getLogger().warning("Error displaying mount: " + mount.getMountName() + " - " + e.getMessage());
                 }
@@ -620,40 +636,24 @@ public class MountCommand implements CommandExecutor, TabCompleter {
             
             sendMessage(player, "mount_info_header");
             
-            String nameMsg = ChatColor.translateAlternateColorCodes('&', 
-                plugin.getConfigManager().getMessage("mount_info_name")) + mountData.getMountName();
-            player.sendMessage(ChatColor.translateAlternateColorCodes('&', nameMsg));
+            player.sendMessage(plugin.getConfigManager().formatLine(player, "mount_info_name") + mountData.getMountName());
             
-            String typeMsg = ChatColor.translateAlternateColorCodes('&', 
-                plugin.getConfigManager().getMessage("mount_info_type")) + type.getDisplayName();
-            player.sendMessage(ChatColor.translateAlternateColorCodes('&', typeMsg));
+            player.sendMessage(plugin.getConfigManager().formatLine(player, "mount_info_type") + type.getDisplayName());
             
-            String createdMsg = ChatColor.translateAlternateColorCodes('&', 
-                plugin.getConfigManager().getMessage("mount_info_created")) + dateFormat.format(new Date(mountData.getCreatedAt()));
-            player.sendMessage(ChatColor.translateAlternateColorCodes('&', createdMsg));
+            player.sendMessage(plugin.getConfigManager().formatLine(player, "mount_info_created") + dateFormat.format(new Date(mountData.getCreatedAt())));
             
-            String lastUsedMsg = ChatColor.translateAlternateColorCodes('&', 
-                plugin.getConfigManager().getMessage("mount_info_last_used")) + dateFormat.format(new Date(mountData.getLastAccessed()));
-            player.sendMessage(ChatColor.translateAlternateColorCodes('&', lastUsedMsg));
+            player.sendMessage(plugin.getConfigManager().formatLine(player, "mount_info_last_used") + dateFormat.format(new Date(mountData.getLastAccessed())));
             
             if (mountData.hasChestInventory()) {
-                String chestMsg = ChatColor.translateAlternateColorCodes('&', 
-                    plugin.getConfigManager().getMessage("mount_has_chest_yes"));
-                player.sendMessage(ChatColor.translateAlternateColorCodes('&', chestMsg));
+                player.sendMessage(plugin.getConfigManager().formatLine(player, "mount_has_chest_yes"));
             } else {
-                String chestMsg = ChatColor.translateAlternateColorCodes('&', 
-                    plugin.getConfigManager().getMessage("mount_has_chest_no"));
-                player.sendMessage(ChatColor.translateAlternateColorCodes('&', chestMsg));
+                player.sendMessage(plugin.getConfigManager().formatLine(player, "mount_has_chest_no"));
             }
             
             if (isActiveMount(player, mountData.getMountName())) {
-                String statusMsg = ChatColor.translateAlternateColorCodes('&', 
-                    plugin.getConfigManager().getMessage("mount_status_active"));
-                player.sendMessage(ChatColor.translateAlternateColorCodes('&', statusMsg));
+                player.sendMessage(plugin.getConfigManager().formatLine(player, "mount_status_active"));
             } else {
-                String statusMsg = ChatColor.translateAlternateColorCodes('&', 
-                    plugin.getConfigManager().getMessage("mount_status_stored"));
-                player.sendMessage(ChatColor.translateAlternateColorCodes('&', statusMsg));
+                player.sendMessage(plugin.getConfigManager().formatLine(player, "mount_status_stored"));
             }
         } catch (Exception e) {
             plugin.getLogger().severe("Error in displayMountInfo: " + e.getMessage());
@@ -667,58 +667,36 @@ public class MountCommand implements CommandExecutor, TabCompleter {
             sendMessage(player, "commands_header");
             
             if (player.hasPermission("simplemounts.summon")) {
-                String helpMsg = ChatColor.translateAlternateColorCodes('&', 
-                    plugin.getConfigManager().getMessage("help_summon"));
-                player.sendMessage(ChatColor.translateAlternateColorCodes('&', helpMsg));
+                player.sendMessage(plugin.getConfigManager().formatLine(player, "help_summon"));
             }
             
             if (player.hasPermission("simplemounts.store")) {
-                String helpMsg = ChatColor.translateAlternateColorCodes('&', 
-                    plugin.getConfigManager().getMessage("help_store"));
-                player.sendMessage(ChatColor.translateAlternateColorCodes('&', helpMsg));
+                player.sendMessage(plugin.getConfigManager().formatLine(player, "help_store"));
             }
             
             if (player.hasPermission("simplemounts.list")) {
-                String helpMsg = ChatColor.translateAlternateColorCodes('&', 
-                    plugin.getConfigManager().getMessage("help_list"));
-                player.sendMessage(ChatColor.translateAlternateColorCodes('&', helpMsg));
+                player.sendMessage(plugin.getConfigManager().formatLine(player, "help_list"));
             }
             
             if (player.hasPermission("simplemounts.release")) {
-                String helpMsg = ChatColor.translateAlternateColorCodes('&', 
-                    plugin.getConfigManager().getMessage("help_release"));
-                player.sendMessage(ChatColor.translateAlternateColorCodes('&', helpMsg));
+                player.sendMessage(plugin.getConfigManager().formatLine(player, "help_release"));
             }
             
             if (player.hasPermission("simplemounts.info")) {
-                String helpMsg = ChatColor.translateAlternateColorCodes('&', 
-                    plugin.getConfigManager().getMessage("help_info"));
-                player.sendMessage(ChatColor.translateAlternateColorCodes('&', helpMsg));
+                player.sendMessage(plugin.getConfigManager().formatLine(player, "help_info"));
             }
             
             if (player.hasPermission("simplemounts.rename")) {
-                String helpMsg = ChatColor.translateAlternateColorCodes('&', 
-                    plugin.getConfigManager().getMessage("help_rename"));
-                player.sendMessage(ChatColor.translateAlternateColorCodes('&', helpMsg));
+                player.sendMessage(plugin.getConfigManager().formatLine(player, "help_rename"));
             }
             
             if (player.hasPermission("simplemounts.admin")) {
-                String helpMsg = ChatColor.translateAlternateColorCodes('&', 
-                    plugin.getConfigManager().getMessage("help_reload"));
-                player.sendMessage(ChatColor.translateAlternateColorCodes('&', helpMsg));
-                
-                String giveMsg = ChatColor.translateAlternateColorCodes('&', 
-                    plugin.getConfigManager().getMessage("help_give"));
-                player.sendMessage(ChatColor.translateAlternateColorCodes('&', giveMsg));
-                
-                String debugMsg = ChatColor.translateAlternateColorCodes('&', 
-                    plugin.getConfigManager().getMessage("help_debug"));
-                player.sendMessage(ChatColor.translateAlternateColorCodes('&', debugMsg));
+                player.sendMessage(plugin.getConfigManager().formatLine(player, "help_reload"));
+                player.sendMessage(plugin.getConfigManager().formatLine(player, "help_give"));
+                player.sendMessage(plugin.getConfigManager().formatLine(player, "help_debug"));
             }
             
-            String helpMsg = ChatColor.translateAlternateColorCodes('&', 
-                plugin.getConfigManager().getMessage("help_help"));
-            player.sendMessage(ChatColor.translateAlternateColorCodes('&', helpMsg));
+            player.sendMessage(plugin.getConfigManager().formatLine(player, "help_help"));
         } catch (Exception e) {
             plugin.getLogger().severe("Error in showHelp: " + e.getMessage());
             e.printStackTrace();
@@ -727,8 +705,7 @@ public class MountCommand implements CommandExecutor, TabCompleter {
     }
     
     private boolean isActiveMount(Player player, String mountName) {
-        return mountManager.getPlayerActiveMounts(player.getUniqueId()).stream()
-            .anyMatch(uuid -> mountName.equals(mountManager.getMountName(uuid)));
+        return mountManager.isMountActive(player, mountName);
     }
     
     
@@ -745,18 +722,7 @@ public class MountCommand implements CommandExecutor, TabCompleter {
     }
     
     private void sendMessage(Player player, String messageKey, String... replacements) {
-        String message = plugin.getConfigManager().getMessage(messageKey);
-        String prefix = plugin.getConfigManager().getMessagePrefix();
-        
-        if (replacements.length > 0) {
-            message = message.replace("{name}", replacements[0]);
-            if (replacements.length > 1) {
-                message = message.replace("{old_name}", replacements[0]);
-                message = message.replace("{new_name}", replacements[1]);
-            }
-        }
-        
-        player.sendMessage(ChatColor.translateAlternateColorCodes('&', prefix + message));
+        player.sendMessage(plugin.getConfigManager().formatMessage(player, messageKey, replacements));
     }
     
     @Override
@@ -784,7 +750,7 @@ public class MountCommand implements CommandExecutor, TabCompleter {
                 case "rename":
                     return Collections.singletonList("<new_name>");
                 case "store":
-                    return Collections.singletonList("<name>");
+                    return Arrays.asList("<name>", "all");
                 default:
                     return new ArrayList<>();
             }
@@ -861,6 +827,14 @@ public class MountCommand implements CommandExecutor, TabCompleter {
             player.sendMessage(ChatColor.YELLOW + "Debug commands:");
             player.sendMessage(ChatColor.YELLOW + "/mount debug gui - Check GUI sessions");
             player.sendMessage(ChatColor.YELLOW + "/mount debug cleargui [player] - Clear GUI session");
+            player.sendMessage(ChatColor.YELLOW + "/mount debug lookupbench [iterations] - Time mount entity lookups");
+            player.sendMessage(ChatColor.YELLOW + "/mount debug storesweep [entities] - Time mount stores as the entity count grows");
+            player.sendMessage(ChatColor.YELLOW + "/mount debug distancebench [iterations] - Compare distance check modes");
+            player.sendMessage(ChatColor.YELLOW + "/mount debug nearby [chunks] - List active mounts near you");
+            player.sendMessage(ChatColor.YELLOW + "/mount debug spawnbench <id> - Compare spawn paths for a stored mount");
+            player.sendMessage(ChatColor.YELLOW + "/mount debug shutdownbench [count] - Time shutdown storage for active mounts");
+            player.sendMessage(ChatColor.YELLOW + "/mount debug blacklistbench [words] - Time name blacklist matching");
+            player.sendMessage(ChatColor.YELLOW + "/mount debug log <category|all|off> [on|off] - Toggle debug logging");
             return;
         }
         
@@ -891,6 +865,151 @@ public class MountCommand implements CommandExecutor, TabCompleter {
                 }
                 break;
                 
+            case "lookupbench":
+                int iterations = args.length >= 3 && isNumeric(args[2]) ? Math.max(1, Math.min(10, Integer.parseInt(args[2]))) : 1;
+                MountManager.LookupBenchmark benchmark = mountManager.benchmarkEntityLookup(iterations);
+                if (benchmark.getLookups() == 0) {
+                    player.sendMessage(ChatColor.YELLOW + "No active mounts to look up (" + benchmark.getLoadedEntities() + " loaded entities).");
+                    break;
+                }
+                player.sendMessage(ChatColor.GREEN + "Entity lookup benchmark (" + benchmark.getLookups() + " lookups, " + benchmark.getLoadedEntities() + " loaded entities):");
+                player.sendMessage(ChatColor.YELLOW + "Direct UUID lookup: " + benchmark.getDirectNanosPerLookup() / 1000.0 + " us/lookup");
+                player.sendMessage(ChatColor.YELLOW + "Full world scan: " + benchmark.getScanNanosPerLookup() / 1000.0 + " us/lookup");
+                plugin.getLogger().info("Lookup benchmark: " + benchmark);
+                break;
+                
+            case "storesweep":
+                int maxFiller = args.length >= 3 && isNumeric(args[2]) ? Math.max(8, Math.min(50000, Integer.parseInt(args[2]))) : 40000;
+                List<MountManager.StoreSweepStep> sweep = mountManager.benchmarkStoreSweep(player.getLocation(), maxFiller);
+                if (sweep.isEmpty()) {
+                    player.sendMessage(ChatColor.YELLOW + "No active mounts to store.");
+                    break;
+                }
+                player.sendMessage(ChatColor.GREEN + "Store latency sweep (" + sweep.get(0).getStores() + " mounts, up to " + maxFiller + " temporary entities):");
+                for (MountManager.StoreSweepStep step : sweep) {
+                    player.sendMessage(ChatColor.YELLOW + String.valueOf(step.getLoadedEntities()) + " entities: direct "
+                        + step.getDirectNanosPerStore() / 1000.0 + " us/store, scan " + step.getScanNanosPerStore() / 1000.0 + " us/store");
+                    plugin.getLogger().info("Store sweep: " + step);
+                }
+                break;
+                
+            case "distancebench":
+                if (plugin.getDistanceMonitor() == null) {
+                    player.sendMessage(ChatColor.RED + "Distance monitor is not running.");
+                    break;
+                }
+                int passes = args.length >= 3 && isNumeric(args[2]) ? Math.max(1, Math.min(10, Integer.parseInt(args[2]))) : 1;
+                DistanceMonitor.DistanceBenchmark distanceBench = plugin.getDistanceMonitor().benchmark(passes);
+                player.sendMessage(ChatColor.GREEN + "Distance benchmark (" + distanceBench.getOwners() + " owners, " + distanceBench.getMounts() + " mounts, "
+                    + distanceBench.getOutOfRange() + " out of range):");
+                player.sendMessage(ChatColor.YELLOW + "Polling: " + String.format("%.2f", distanceBench.getPollingMicrosPerTick()) + " us/tick ("
+                    + distanceBench.getPollingPassNanos() / 1000.0 + " us per full pass)");
+                if (plugin.getDistanceMonitor().isEventDriven()) {
+                    player.sendMessage(ChatColor.YELLOW + "Event mode: " + String.format("%.2f", distanceBench.getLiveEventMicrosPerTick()) + " us/tick measured ("
+                        + distanceBench.getBoundPassNanos() / 1000.0 + " us per bound pass)");
+                } else {
+                    player.sendMessage(ChatColor.YELLOW + "Polling measured: " + String.format("%.2f", distanceBench.getLivePollingMicrosPerTick()) + " us/tick");
+                    player.sendMessage(ChatColor.GRAY + "Set storage.distance_storage.mode to 'event' to measure event mode.");
+                }
+                plugin.getLogger().info("Distance benchmark: " + distanceBench);
+                break;
+                
+            case "nearby":
+                int radius = args.length >= 3 && isNumeric(args[2]) ? Math.max(0, Math.min(32, Integer.parseInt(args[2]))) : 4;
+                org.bukkit.Location here = player.getLocation();
+                List<UUID> nearby = mountManager.getSpatialIndex().getMountsNear(
+                    player.getWorld().getUID(), here.getBlockX() >> 4, here.getBlockZ() >> 4, radius);
+                player.sendMessage(ChatColor.GREEN + "Active mounts within " + radius + " chunks: " + nearby.size()
+                    + " (" + mountManager.getSpatialIndex().size() + " indexed in " + mountManager.getSpatialIndex().getOccupiedChunkCount() + " chunks)");
+                for (UUID entityUuid : nearby) {
+                    UUID ownerUuid = mountManager.getMountOwner(entityUuid);
+                    String ownerName = ownerUuid != null ? plugin.getServer().getOfflinePlayer(ownerUuid).getName() : null;
+                    String mountName = mountManager.getMountName(entityUuid);
+                    player.sendMessage(ChatColor.YELLOW + "- " + (mountName != null ? mountName : "#" + mountManager.getMountId(entityUuid))
+                        + " owned by " + (ownerName != null ? ownerName : ownerUuid));
+                }
+                break;
+                
+            case "spawnbench":
+                if (args.length < 3 || !isNumeric(args[2])) {
+                    player.sendMessage(ChatColor.RED + "Usage: /mount debug spawnbench <id>");
+                    break;
+                }
+                int benchMountId = Integer.parseInt(args[2]);
+                mountManager.getMountData(player, benchMountId).thenAccept(mountData -> plugin.runSync(() -> {
+                    if (mountData == null) {
+                        player.sendMessage(ChatColor.RED + "Mount not found: " + benchMountId);
+                        return;
+                    }
+                    MountManager.SpawnBenchmark spawnBench = mountManager.benchmarkSpawn(player.getLocation(), mountData);
+                    if (spawnBench == null) {
+                        player.sendMessage(ChatColor.RED + "Mount type cannot be spawned.");
+                        return;
+                    }
+                    player.sendMessage(ChatColor.GREEN + "Spawn benchmark (" + spawnBench.getMountType() + "):");
+                    player.sendMessage(ChatColor.YELLOW + "Spawn then apply: " + spawnBench.getLegacyEvents() + " events, "
+                        + spawnBench.getLegacyNanos() / 1000 + " us");
+                    player.sendMessage(ChatColor.YELLOW + "Pre-configured spawn: " + spawnBench.getPreconfiguredEvents() + " events, "
+                        + spawnBench.getPreconfiguredNanos() / 1000 + " us");
+                    plugin.getLogger().info("Spawn benchmark: " + spawnBench);
+                }));
+                break;
+                
+            case "shutdownbench":
+                int benchCount = args.length >= 3 && isNumeric(args[2]) ? Math.max(1, Math.min(5000, Integer.parseInt(args[2]))) : 500;
+                ShutdownStorageEngine.Result shutdownBench = plugin.getShutdownHandler().benchmarkShutdownStorage(benchCount);
+                if (shutdownBench == null) {
+                    player.sendMessage(ChatColor.RED + "No active mounts to benchmark.");
+                    break;
+                }
+                player.sendMessage(ChatColor.GREEN + "Shutdown storage benchmark (" + shutdownBench.getCaptured() + " mounts):");
+                player.sendMessage(ChatColor.YELLOW + "Capture: " + shutdownBench.getCaptureNanos() / 1_000_000L + " ms, serialize: "
+                    + shutdownBench.getSerializeNanos() / 1_000_000L + " ms, write: " + shutdownBench.getWriteNanos() / 1_000_000L + " ms");
+                player.sendMessage((shutdownBench.isWithinTimeout() ? ChatColor.GREEN : ChatColor.RED) + "Total: " + shutdownBench.getTotalMillis()
+                    + " ms of " + shutdownBench.getTimeoutMillis() + " ms timeout");
+                plugin.getLogger().info("Shutdown storage benchmark: " + shutdownBench);
+                break;
+                
+            case "blacklistbench":
+                int wordCount = args.length >= 3 && isNumeric(args[2]) ? Math.max(100, Math.min(50000, Integer.parseInt(args[2]))) : 10000;
+                player.sendMessage(ChatColor.YELLOW + "Running blacklist benchmark with " + wordCount + " words...");
+                plugin.runAsync(() -> {
+                    NameValidator.BlacklistBenchmark blacklistBench = plugin.getNameValidator().benchmark(wordCount, 10000);
+                    plugin.runSync(() -> {
+                        player.sendMessage(ChatColor.GREEN + "Blacklist benchmark (" + blacklistBench.getWords() + " words, "
+                            + blacklistBench.getNames() + " names, " + blacklistBench.getStates() + " states):");
+                        player.sendMessage(ChatColor.YELLOW + "Build: " + blacklistBench.getBuildNanos() / 1_000_000L + " ms");
+                        player.sendMessage(ChatColor.YELLOW + "Automaton: " + String.format("%.2f", blacklistBench.getAutomatonNanosPerName() / 1000.0)
+                            + " us/name, word-by-word: " + String.format("%.2f", blacklistBench.getScanNanosPerName() / 1000.0) + " us/name");
+                        if (blacklistBench.getAutomatonHits() != blacklistBench.getScanHits()) {
+                            player.sendMessage(ChatColor.RED + "Match counts differ: " + blacklistBench.getAutomatonHits() + " vs " + blacklistBench.getScanHits());
+                        }
+                        plugin.getLogger().info("Blacklist benchmark: " + blacklistBench);
+                    });
+                });
+                break;
+                
+            case "log":
+                DebugLogger debugLogger = plugin.getDebugLogger();
+                if (args.length < 3) {
+                    player.sendMessage(ChatColor.YELLOW + "Debug logging: " + debugLogger.describe());
+                    player.sendMessage(ChatColor.GRAY + "Categories: taming, storage, summon, player, protection");
+                    break;
+                }
+                if (args[2].equalsIgnoreCase("all") || args[2].equalsIgnoreCase("off")) {
+                    debugLogger.setAllEnabled(args[2].equalsIgnoreCase("all"));
+                } else {
+                    DebugLogger.Category category = DebugLogger.Category.fromString(args[2]);
+                    if (category == null) {
+                        player.sendMessage(ChatColor.RED + "Unknown debug category: " + args[2]);
+                        break;
+                    }
+                    boolean enable = args.length >= 4 ? args[3].equalsIgnoreCase("on") : !debugLogger.isEnabled(category);
+                    debugLogger.setEnabled(category, enable);
+                }
+                player.sendMessage(ChatColor.GREEN + "Debug logging: " + debugLogger.describe());
+                break;
+                
             default:
                 player.sendMessage(ChatColor.RED + "Unknown debug command: " + debugCommand);
                 break;
@@ -929,6 +1048,49 @@ public class MountCommand implements CommandExecutor, TabCompleter {
                 
                 player.sendMessage(ChatColor.YELLOW + "Memory: " + usedMemory + "MB / " + maxMemory + "MB");
                 player.sendMessage(ChatColor.YELLOW + "Online players: " + plugin.getServer().getOnlinePlayers().size());
+                
+                if (plugin.getDistanceMonitor() != null) {
+                    DistanceMonitor.MonitorStats distanceStats = plugin.getDistanceMonitor().getStats();
+                    player.sendMessage(ChatColor.YELLOW + "Distance monitor: " + String.format("%.1f", distanceStats.getAverageMicros()) + "us avg / "
+                        + distanceStats.getPeakMicros() + "us peak per tick (budget " + distanceStats.getBudgetMicros() + "us, "
+                        + String.format("%.1f", distanceStats.getBudgetUsagePercent()) + "% used)");
+                    player.sendMessage(ChatColor.YELLOW + "Distance checks: " + distanceStats.getPlayersChecked() + " players, "
+                        + distanceStats.getMountsChecked() + " mounts, " + distanceStats.getBudgetExhaustedTicks() + " budget-limited ticks, "
+                        + distanceStats.getLateCycles() + " late cycles");
+                }
+                
+                RateLimiter.RateLimiterStats rateStats = mountManager.getRateLimiter().getStats();
+                player.sendMessage(ChatColor.YELLOW + "Rate limiter: " + rateStats.getTotalRejected() + " rejected (claim "
+                    + rateStats.getRejected(RateLimiter.Action.CLAIM) + ", summon " + rateStats.getRejected(RateLimiter.Action.SUMMON)
+                    + ", store " + rateStats.getRejected(RateLimiter.Action.STORE) + ", rename " + rateStats.getRejected(RateLimiter.Action.RENAME)
+                    + ", gui " + rateStats.getRejected(RateLimiter.Action.GUI_CLICK) + ", global " + rateStats.getGlobalRejected() + ")");
+                
+                StorageQueue.QueueStats queueStats = mountManager.getStorageQueue().getStats();
+                player.sendMessage(ChatColor.YELLOW + "Storage queue: " + queueStats.getPending() + " pending, "
+                    + queueStats.getCommitted() + "/" + queueStats.getSubmitted() + " committed, "
+                    + queueStats.getJournalOpen() + " open in journal, " + queueStats.getFailedBatches() + " failed batches"
+                    + " (last batch " + queueStats.getLastBatchSize() + " in " + queueStats.getLastCommitMillis() + "ms)");
+                MountService.ServiceStats serviceStats = plugin.getMountService().getStats();
+                player.sendMessage(ChatColor.YELLOW + "Mount API: " + serviceStats.getCachedPlayers() + " players cached, "
+                    + String.format("%.1f%%", serviceStats.getHitRate() * 100) + " cache hit rate, " + serviceStats.getListeners() + " listeners");
+                PermissionCache.CacheStats permissionStats = mountManager.getPermissionCache().getStats();
+                player.sendMessage(ChatColor.YELLOW + "Permission cache: " + permissionStats.getCachedPlayers() + " players, "
+                    + String.format("%.1f%%", permissionStats.getHitRate() * 100) + " hit rate");
+                PluginCompatibility.ProtectionStats protectionStats = plugin.getPluginCompatibility().getStats();
+                player.sendMessage(ChatColor.YELLOW + "Protection: " + protectionStats.getCachedDecisions() + " region decisions cached, "
+                    + String.format("%.1f%%", protectionStats.getHitRate() * 100) + " hit rate, " + protectionStats.getEntityBlocks()
+                    + " blocked by entity markers, region checks: " + (protectionStats.getRegionChecks().isEmpty() ? "none" : String.join(", ", protectionStats.getRegionChecks())));
+                EventPrefilter.PrefilterStats prefilterStats = plugin.getEventPrefilter().getStats();
+                player.sendMessage(ChatColor.YELLOW + "Event prefilter: " + String.format("%.1f%%", prefilterStats.getFilterRate() * 100)
+                    + " filtered (taming " + prefilterStats.getFiltered(EventPrefilter.Stage.TAMING) + "/" + prefilterStats.getHandled(EventPrefilter.Stage.TAMING)
+                    + ", interact " + prefilterStats.getFiltered(EventPrefilter.Stage.MOUNT_INTERACTION) + "/" + prefilterStats.getHandled(EventPrefilter.Stage.MOUNT_INTERACTION)
+                    + ", gui " + prefilterStats.getFiltered(EventPrefilter.Stage.GUI_CLICK) + "/" + prefilterStats.getHandled(EventPrefilter.Stage.GUI_CLICK)
+                    + " filtered/handled)");
+                player.sendMessage(ChatColor.YELLOW + "Debug logging: " + plugin.getDebugLogger().describe());
+                ActiveMountReconciler.ReconcileStats reconcileStats = mountManager.getReconciler().getStats();
+                player.sendMessage(ChatColor.YELLOW + "Reconciliation: " + (reconcileStats.isActive() ? "running" : "done") + ", "
+                    + reconcileStats.getAdopted() + " adopted, " + reconcileStats.getStored() + " stored, "
+                    + reconcileStats.getRemoved() + " removed, " + reconcileStats.getPending() + " pending of " + reconcileStats.getRows());
                 break;
                 
             case "maintenance":
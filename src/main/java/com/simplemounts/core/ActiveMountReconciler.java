@@ -0,0 +1,307 @@
+package com.simplemounts.core;
+
+import com.simplemounts.SimpleMounts;
+import com.simplemounts.util.LongObjectMap;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * Reconciles active_mounts with the world after a restart. Rows are streamed once at
+ * startup into per-world, per-chunk buckets; each bucket is checked when its chunk's
+ * entities load (or straight away if they already have). Mounts that are found are
+ * adopted back into the registry, or stored if their owner is offline and logout storage
+ * is on. A mount may have wandered into a neighbouring chunk since its row was written, so
+ * rows whose chunk loads without their entity stay pending until the window closes and are
+ * only deleted then, in batches. Rows whose chunk never loads within the window are left
+ * for the next start.
+ */
+public class ActiveMountReconciler {
+
+    private static final int DELETE_BATCH = 256;
+    private static final long FLUSH_DELAY_TICKS = 40L;
+    private static final long WINDOW_TICKS = 20L * 60 * 10;
+
+    private final SimpleMounts plugin;
+    private final MountManager mountManager;
+
+    // Main thread only
+    private final Map<UUID, Pending> pending = new HashMap<>();
+    private final Map<String, LongObjectMap<List<Pending>>> byChunk = new HashMap<>();
+    private final List<UUID> orphans = new ArrayList<>();
+    private boolean flushScheduled;
+    private boolean active;
+
+    private int rows;
+    private int adopted;
+    private int stored;
+    private int removed;
+
+    public ActiveMountReconciler(SimpleMounts plugin, MountManager mountManager) {
+        this.plugin = plugin;
+        this.mountManager = mountManager;
+    }
+
+    /**
+     * Stream active_mounts off-thread and begin reconciling on the main thread.
+     * Call once the database is initialized.
+     */
+    public void start() {
+        Map<String, LongObjectMap<List<Pending>>> loaded = new HashMap<>();
+
+        plugin.getDatabaseManager().streamActiveMounts((ownerUuid, record) -> {
+            int chunkX = (int) Math.floor(record.getX()) >> 4;
+            int chunkZ = (int) Math.floor(record.getZ()) >> 4;
+            loaded.computeIfAbsent(record.getWorldName(), name -> new LongObjectMap<>())
+                .computeIfAbsent(MountSpatialIndex.chunkKey(chunkX, chunkZ), key -> new ArrayList<>())
+                .add(new Pending(ownerUuid, record, chunkX, chunkZ));
+        }).thenAccept(count -> {
+            if (count > 0) {
+                plugin.runSync(() -> begin(loaded, count));
+            }
+        });
+    }
+
+    private void begin(Map<String, LongObjectMap<List<Pending>>> loaded, int count) {
+        active = true;
+        rows = count;
+
+        for (Map.Entry<String, LongObjectMap<List<Pending>>> worldEntry : loaded.entrySet()) {
+            LongObjectMap<List<Pending>> chunks = worldEntry.getValue();
+            World world = plugin.getServer().getWorld(worldEntry.getKey());
+
+            for (long key : chunks.keys()) {
+                List<Pending> bucket = chunks.get(key);
+                if (world == null) {
+                    // The world is gone, and its entities with it
+                    for (Pending entry : bucket) {
+                        orphan(entry.record.getEntityUuid());
+                    }
+                    continue;
+                }
+
+                for (Pending entry : bucket) {
+                    pending.put(entry.record.getEntityUuid(), entry);
+                }
+                byChunk.computeIfAbsent(world.getName(), name -> new LongObjectMap<>()).put(key, bucket);
+            }
+        }
+
+        // Chunks whose entities finished loading before we got here
+        for (Map.Entry<String, LongObjectMap<List<Pending>>> worldEntry : new HashMap<>(byChunk).entrySet()) {
+            World world = plugin.getServer().getWorld(worldEntry.getKey());
+            for (long key : worldEntry.getValue().keys()) {
+                int chunkX = MountSpatialIndex.chunkX(key);
+                int chunkZ = MountSpatialIndex.chunkZ(key);
+                if (active && world.isChunkLoaded(chunkX, chunkZ)) {
+                    Chunk chunk = world.getChunkAt(chunkX, chunkZ);
+                    if (chunk.isEntitiesLoaded()) {
+                        reconcile(chunk, Arrays.asList(chunk.getEntities()));
+                    }
+                }
+            }
+        }
+
+        if (pending.isEmpty()) {
+            finish();
+        } else if (active) {
+            plugin.runTaskLater(this::finish, WINDOW_TICKS);
+        }
+    }
+
+    /**
+     * Called from EntitiesLoadEvent on the main thread.
+     */
+    public void onEntitiesLoad(Chunk chunk, Collection<Entity> entities) {
+        if (!active) {
+            return;
+        }
+        reconcile(chunk, entities);
+    }
+
+    private void reconcile(Chunk chunk, Collection<Entity> entities) {
+        List<UUID> toStore = new ArrayList<>();
+
+        // Any loaded entity may be a pending mount that wandered out of its recorded chunk
+        for (Entity entity : entities) {
+            Pending entry = pending.remove(entity.getUniqueId());
+            if (entry == null) {
+                continue;
+            }
+            unbucket(entry);
+
+            if (adopt(entry, entity)) {
+                toStore.add(entity.getUniqueId());
+            }
+        }
+
+        // Rows recorded in this chunk whose entity is not here may still turn up next door;
+        // they are deleted at the end of the window if nothing adopts them first
+        LongObjectMap<List<Pending>> chunks = byChunk.get(chunk.getWorld().getName());
+        if (chunks != null) {
+            List<Pending> bucket = chunks.remove(MountSpatialIndex.chunkKey(chunk.getX(), chunk.getZ()));
+            if (bucket != null) {
+                for (Pending entry : bucket) {
+                    entry.chunkLoaded = true;
+                }
+            }
+        }
+
+        if (!toStore.isEmpty()) {
+            stored += mountManager.storeMountEntities(toStore);
+        }
+
+        if (pending.isEmpty()) {
+            finish();
+        }
+    }
+
+    /**
+     * Put the mount back in the registry. Returns true if it should now be stored because
+     * its owner is offline.
+     */
+    private boolean adopt(Pending entry, Entity entity) {
+        if (mountManager.isActiveMount(entity.getUniqueId())) {
+            return false;
+        }
+
+        UUID taggedOwner = mountManager.getOwnership().getOwner(entity);
+        if (!entry.ownerUuid.equals(taggedOwner)) {
+            orphan(entity.getUniqueId());
+            return false;
+        }
+
+        mountManager.registerActiveMount(entry.ownerUuid, entity, entry.record.getMountId(), entry.record.getMountName());
+        adopted++;
+
+        return plugin.getServer().getPlayer(entry.ownerUuid) == null && plugin.getConfigManager().autoStoreOnLogout();
+    }
+
+    private void unbucket(Pending entry) {
+        LongObjectMap<List<Pending>> chunks = byChunk.get(entry.record.getWorldName());
+        if (chunks == null) {
+            return;
+        }
+        long key = MountSpatialIndex.chunkKey(entry.chunkX, entry.chunkZ);
+        List<Pending> bucket = chunks.get(key);
+        if (bucket != null) {
+            bucket.remove(entry);
+            if (bucket.isEmpty()) {
+                chunks.remove(key);
+            }
+        }
+    }
+
+    private void orphan(UUID entityUuid) {
+        orphans.add(entityUuid);
+        if (orphans.size() >= DELETE_BATCH) {
+            flushOrphans();
+        } else if (!flushScheduled) {
+            flushScheduled = true;
+            plugin.runTaskLater(this::flushOrphans, FLUSH_DELAY_TICKS);
+        }
+    }
+
+    private void flushOrphans() {
+        flushScheduled = false;
+        if (orphans.isEmpty()) {
+            return;
+        }
+
+        List<UUID> batch = new ArrayList<>(orphans);
+        orphans.clear();
+        removed += batch.size();
+        plugin.getDatabaseManager().removeActiveMountsBatch(batch).exceptionally(e -> {
+            plugin.getLogger().log(Level.WARNING, "Failed to remove orphaned active mounts", e);
+            return -1;
+        });
+    }
+
+    private void finish() {
+        if (!active) {
+            return;
+        }
+        active = false;
+
+        int left = 0;
+        for (Pending entry : pending.values()) {
+            if (entry.chunkLoaded) {
+                orphan(entry.record.getEntityUuid());
+            } else {
+                left++;
+            }
+        }
+        flushOrphans();
+
+        plugin.getLogger().info("Active mount reconciliation: " + rows + " rows, " + adopted + " adopted, "
+            + stored + " stored, " + removed + " removed, " + left + " left for next start");
+        pending.clear();
+        byChunk.clear();
+    }
+
+    public ReconcileStats getStats() {
+        return new ReconcileStats(active, rows, adopted, stored, removed, pending.size());
+    }
+
+    private static final class Pending {
+        private final UUID ownerUuid;
+        private final DatabaseManager.ActiveMountRecord record;
+        private final int chunkX;
+        private final int chunkZ;
+        // Its recorded chunk has loaded without it; deleted at finish unless adopted elsewhere
+        private boolean chunkLoaded;
+
+        private Pending(UUID ownerUuid, DatabaseManager.ActiveMountRecord record, int chunkX, int chunkZ) {
+            this.ownerUuid = ownerUuid;
+            this.record = record;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+    }
+
+    public static class ReconcileStats {
+        private final boolean active;
+        private final int rows;
+        private final int adopted;
+        private final int stored;
+        private final int removed;
+        private final int pending;
+
+        public ReconcileStats(boolean active, int rows, int adopted, int stored, int removed, int pending) {
+            this.active = active;
+            this.rows = rows;
+            this.adopted = adopted;
+            this.stored = stored;
+            this.removed = removed;
+            this.pending = pending;
+        }
+
+        public boolean isActive() { return active; }
+        public int getRows() { return rows; }
+        public int getAdopted() { return adopted; }
+        public int getStored() { return stored; }
+        public int getRemoved() { return removed; }
+        public int getPending() { return pending; }
+
+        @Override
+        public String toString() {
+            return "ReconcileStats{" +
+                    "active=" + active +
+                    ", rows=" + rows +
+                    ", adopted=" + adopted +
+                    ", stored=" + stored +
+                    ", removed=" + removed +
+                    ", pending=" + pending +
+                    '}';
+        }
+    }
+}
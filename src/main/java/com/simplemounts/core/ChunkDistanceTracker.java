@@ -0,0 +1,391 @@
+package com.simplemounts.core;
+
+import com.simplemounts.SimpleMounts;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityTeleportEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.vehicle.VehicleMoveEvent;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+/**
+ * Event-driven distance tracking. Positions are only recorded when a player or mount
+ * crosses a chunk section boundary (16x16x16), and each owner keeps an upper bound on
+ * how far any of their mounts can be. The exact check in {@link DistanceMonitor} only
+ * runs when that bound could exceed the configured maximum distance.
+ */
+public class ChunkDistanceTracker implements Listener {
+
+    private final SimpleMounts plugin;
+    private final DistanceMonitor monitor;
+    private final MountRegistry registry;
+    private final ConfigManager config;
+
+    private final Map<UUID, OwnerState> owners = new HashMap<>();
+    private final Set<UUID> pendingRechecks = new HashSet<>();
+    private final Map<UUID, UUID> mountOwners = new HashMap<>();
+    private BukkitTask resyncTask;
+
+    // CPU accounting
+    private long startNanos;
+    private long eventsSeen;
+    private long crossings;
+    private long boundChecks;
+    private long exactChecks;
+    private long totalNanos;
+
+    public ChunkDistanceTracker(SimpleMounts plugin, DistanceMonitor monitor, MountManager mountManager) {
+        this.plugin = plugin;
+        this.monitor = monitor;
+        this.registry = mountManager.getRegistry();
+        this.config = plugin.getConfigManager();
+    }
+
+    public void start() {
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+
+        // Unridden mounts wandering around fire no movement events on Spigot, so their
+        // positions are refreshed at a much lower rate than the polling mode checks
+        long resyncInterval = config.getDistanceStorageCheckInterval() * 4L;
+        resyncTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::resyncMounts, resyncInterval, resyncInterval);
+        startNanos = System.nanoTime();
+    }
+
+    public void stop() {
+        HandlerList.unregisterAll(this);
+        if (resyncTask != null) {
+            resyncTask.cancel();
+            resyncTask = null;
+        }
+        owners.clear();
+        mountOwners.clear();
+        pendingRechecks.clear();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        handlePlayerMove(event.getPlayer(), event.getFrom(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        handlePlayerMove(event.getPlayer(), event.getFrom(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onVehicleMove(VehicleMoveEvent event) {
+        eventsSeen++;
+        if (!crossesSection(event.getFrom(), event.getTo())) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        Entity vehicle = event.getVehicle();
+        handleMountMove(vehicle.getUniqueId(), event.getTo());
+
+        // Passengers don't fire their own move events while riding
+        for (Entity passenger : vehicle.getPassengers()) {
+            if (passenger instanceof Player && registry.getOwnedCount(passenger.getUniqueId()) > 0) {
+                updatePlayerSection((Player) passenger, event.getTo());
+            }
+        }
+        totalNanos += System.nanoTime() - start;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityTeleport(EntityTeleportEvent event) {
+        eventsSeen++;
+        if (event.getTo() == null || !crossesSection(event.getFrom(), event.getTo())) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        handleMountMove(event.getEntity().getUniqueId(), event.getTo());
+        totalNanos += System.nanoTime() - start;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        OwnerState state = owners.remove(event.getPlayer().getUniqueId());
+        if (state != null) {
+            for (UUID mountUuid : state.mounts.keySet()) {
+                mountOwners.remove(mountUuid);
+            }
+        }
+        pendingRechecks.remove(event.getPlayer().getUniqueId());
+    }
+
+    private void handlePlayerMove(Player player, Location from, Location to) {
+        eventsSeen++;
+        if (to == null || !crossesSection(from, to)) {
+            return;
+        }
+
+        UUID ownerUuid = player.getUniqueId();
+        if (registry.getOwnedCount(ownerUuid) == 0 && !owners.containsKey(ownerUuid)) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        updatePlayerSection(player, to);
+        totalNanos += System.nanoTime() - start;
+    }
+
+    private void updatePlayerSection(Player player, Location to) {
+        crossings++;
+        OwnerState state = owners.computeIfAbsent(player.getUniqueId(), k -> new OwnerState());
+        state.player = SectionPos.of(to);
+        evaluateOwner(player.getUniqueId(), state);
+    }
+
+    private void handleMountMove(UUID entityUuid, Location to) {
+        UUID ownerUuid = mountOwners.get(entityUuid);
+        if (ownerUuid == null) {
+            MountRegistry.ActiveMount activeMount = registry.get(entityUuid);
+            if (activeMount == null) {
+                return;
+            }
+            ownerUuid = activeMount.getOwnerUuid();
+        }
+
+        crossings++;
+        OwnerState state = owners.computeIfAbsent(ownerUuid, k -> new OwnerState());
+        state.mounts.put(entityUuid, SectionPos.of(to));
+        mountOwners.put(entityUuid, ownerUuid);
+        evaluateOwner(ownerUuid, state);
+    }
+
+    private void evaluateOwner(UUID ownerUuid, OwnerState state) {
+        boundChecks++;
+        Collection<MountRegistry.ActiveMount> activeMounts = registry.getOwnedMounts(ownerUuid);
+
+        if (state.player == null) {
+            Player player = plugin.getServer().getPlayer(ownerUuid);
+            if (player == null) {
+                return;
+            }
+            state.player = SectionPos.of(player.getLocation());
+        }
+
+        // Sync the cached mount sections with the registry
+        Set<UUID> current = new HashSet<>();
+        for (MountRegistry.ActiveMount activeMount : activeMounts) {
+            UUID entityUuid = activeMount.getEntityUuid();
+            current.add(entityUuid);
+            if (!state.mounts.containsKey(entityUuid)) {
+                Entity entity = plugin.getServer().getEntity(entityUuid);
+                if (entity != null) {
+                    state.mounts.put(entityUuid, SectionPos.of(entity.getLocation()));
+                    mountOwners.put(entityUuid, ownerUuid);
+                }
+            }
+        }
+        Iterator<UUID> it = state.mounts.keySet().iterator();
+        while (it.hasNext()) {
+            UUID entityUuid = it.next();
+            if (!current.contains(entityUuid)) {
+                it.remove();
+                mountOwners.remove(entityUuid);
+            }
+        }
+
+        state.boundSquared = 0L;
+        for (SectionPos mountPos : state.mounts.values()) {
+            state.boundSquared = Math.max(state.boundSquared, state.player.maxDistanceSquared(mountPos));
+        }
+
+        int maxDistance = config.getDistanceStorageMaxDistance();
+        if (state.boundSquared <= (long) maxDistance * maxDistance) {
+            // Every mount is provably within range
+            for (MountRegistry.ActiveMount activeMount : activeMounts) {
+                activeMount.clearDistanceWarning();
+            }
+            return;
+        }
+
+        exactChecks++;
+        if (monitor.checkOwner(ownerUuid)) {
+            scheduleRecheck(ownerUuid);
+        }
+    }
+
+    private void scheduleRecheck(UUID ownerUuid) {
+        if (!pendingRechecks.add(ownerUuid)) {
+            return;
+        }
+
+        // Nothing may move during the grace period, so revisit once it has expired
+        long delay = config.getDistanceStorageGracePeriod() * 20L + 1L;
+        plugin.runTaskLater(() -> {
+            pendingRechecks.remove(ownerUuid);
+            OwnerState state = owners.get(ownerUuid);
+            if (state != null) {
+                long start = System.nanoTime();
+                evaluateOwner(ownerUuid, state);
+                totalNanos += System.nanoTime() - start;
+            }
+        }, delay);
+    }
+
+    private void resyncMounts() {
+        long start = System.nanoTime();
+        for (UUID ownerUuid : new ArrayList<>(registry.getOwners())) {
+            OwnerState state = owners.computeIfAbsent(ownerUuid, k -> new OwnerState());
+            boolean moved = false;
+
+            for (MountRegistry.ActiveMount activeMount : registry.getOwnedMounts(ownerUuid)) {
+                Entity entity = plugin.getServer().getEntity(activeMount.getEntityUuid());
+                if (entity == null) {
+                    continue;
+                }
+                SectionPos pos = SectionPos.of(entity.getLocation());
+                if (!pos.equals(state.mounts.put(activeMount.getEntityUuid(), pos))) {
+                    mountOwners.put(activeMount.getEntityUuid(), ownerUuid);
+                    moved = true;
+                }
+            }
+
+            if (moved || state.player == null) {
+                evaluateOwner(ownerUuid, state);
+            }
+        }
+        totalNanos += System.nanoTime() - start;
+    }
+
+    private static boolean crossesSection(Location from, Location to) {
+        return from.getWorld() != to.getWorld()
+            || (from.getBlockX() >> 4) != (to.getBlockX() >> 4)
+            || (from.getBlockY() >> 4) != (to.getBlockY() >> 4)
+            || (from.getBlockZ() >> 4) != (to.getBlockZ() >> 4);
+    }
+
+    public TrackerStats getStats() {
+        // Nominal server ticks (50ms) since the tracker started
+        long ticksElapsed = Math.max(1L, (System.nanoTime() - startNanos) / 50_000_000L);
+        return new TrackerStats(ticksElapsed, totalNanos, eventsSeen, crossings, boundChecks, exactChecks, owners.size());
+    }
+
+    /**
+     * Time one bound evaluation pass over every tracked owner, without running exact checks.
+     */
+    long benchmarkBoundPass() {
+        long start = System.nanoTime();
+        for (OwnerState state : owners.values()) {
+            if (state.player == null) {
+                continue;
+            }
+            long bound = 0L;
+            for (SectionPos mountPos : state.mounts.values()) {
+                bound = Math.max(bound, state.player.maxDistanceSquared(mountPos));
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static class OwnerState {
+        private SectionPos player;
+        private final Map<UUID, SectionPos> mounts = new HashMap<>();
+        private long boundSquared;
+    }
+
+    private static final class SectionPos {
+        private final UUID worldId;
+        private final int x;
+        private final int y;
+        private final int z;
+
+        private SectionPos(UUID worldId, int x, int y, int z) {
+            this.worldId = worldId;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        static SectionPos of(Location location) {
+            World world = location.getWorld();
+            return new SectionPos(world != null ? world.getUID() : null,
+                location.getBlockX() >> 4, location.getBlockY() >> 4, location.getBlockZ() >> 4);
+        }
+
+        /**
+         * Largest possible squared block distance between any two points in these sections.
+         */
+        long maxDistanceSquared(SectionPos other) {
+            if (worldId == null || !worldId.equals(other.worldId)) {
+                return Long.MAX_VALUE;
+            }
+            long dx = (Math.abs(x - other.x) + 1) * 16L;
+            long dy = (Math.abs(y - other.y) + 1) * 16L;
+            long dz = (Math.abs(z - other.z) + 1) * 16L;
+            return dx * dx + dy * dy + dz * dz;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof SectionPos)) return false;
+            SectionPos that = (SectionPos) o;
+            return x == that.x && y == that.y && z == that.z && Objects.equals(worldId, that.worldId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(worldId, x, y, z);
+        }
+    }
+
+    public static class TrackerStats {
+        private final long ticksElapsed;
+        private final long totalNanos;
+        private final long eventsSeen;
+        private final long crossings;
+        private final long boundChecks;
+        private final long exactChecks;
+        private final int trackedOwners;
+
+        public TrackerStats(long ticksElapsed, long totalNanos, long eventsSeen, long crossings,
+                            long boundChecks, long exactChecks, int trackedOwners) {
+            this.ticksElapsed = ticksElapsed;
+            this.totalNanos = totalNanos;
+            this.eventsSeen = eventsSeen;
+            this.crossings = crossings;
+            this.boundChecks = boundChecks;
+            this.exactChecks = exactChecks;
+            this.trackedOwners = trackedOwners;
+        }
+
+        public long getTicksElapsed() { return ticksElapsed; }
+        public long getEventsSeen() { return eventsSeen; }
+        public long getCrossings() { return crossings; }
+        public long getBoundChecks() { return boundChecks; }
+        public long getExactChecks() { return exactChecks; }
+        public int getTrackedOwners() { return trackedOwners; }
+
+        public double getAverageMicrosPerTick() {
+            return ticksElapsed > 0 ? totalNanos / 1000.0 / ticksElapsed : 0.0;
+        }
+
+        @Override
+        public String toString() {
+            return "TrackerStats{" +
+                    "ticksElapsed=" + ticksElapsed +
+                    ", averageMicrosPerTick=" + String.format("%.2f", getAverageMicrosPerTick()) +
+                    ", eventsSeen=" + eventsSeen +
+                    ", crossings=" + crossings +
+                    ", boundChecks=" + boundChecks +
+                    ", exactChecks=" + exactChecks +
+                    ", trackedOwners=" + trackedOwners +
+                    '}';
+        }
+    }
+}
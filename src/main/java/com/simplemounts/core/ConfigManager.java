@@ -1,11 +1,13 @@
 package com.simplemounts.core;
 
 import com.simplemounts.SimpleMounts;
+import com.simplemounts.data.MountType;
 import com.simplemounts.data.TamingItem;
-import org.bukkit.Material;
-import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+
+import java.io.File;
 
 import java.util.*;
 import java.util.logging.Level;
@@ -13,7 +15,10 @@ import java.util.logging.Level;
 public class ConfigManager {
     
     private final SimpleMounts plugin;
-    private FileConfiguration config;
+    // Swapped together on reload; the snapshot backs every typed getter
+    private volatile FileConfiguration config;
+    private volatile ConfigSnapshot snapshot;
+    private volatile MessageCatalog messages;
     
     public ConfigManager(SimpleMounts plugin) {
         this.plugin = plugin;
@@ -22,17 +27,29 @@ public class ConfigManager {
     
     public void loadConfig() {
         plugin.saveDefaultConfig();
-        config = plugin.getConfig();
-        validateConfig();
+        compile(plugin.getConfig());
     }
     
     public void reloadConfig() {
         plugin.reloadConfig();
-        config = plugin.getConfig();
-        validateConfig();
+        compile(plugin.getConfig());
+    }
+    
+    private void compile(FileConfiguration loaded) {
+        validateConfig(loaded);
+        ConfigSnapshot compiled = new ConfigSnapshot(loaded, plugin.getLogger());
+        MessageCatalog catalog = new MessageCatalog(loaded, new File(plugin.getDataFolder(), "lang"),
+                plugin.getLogger(), this::getMessage);
+        config = loaded;
+        snapshot = compiled;
+        messages = catalog;
+    }
+    
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
     }
     
-    private void validateConfig() {
+    private void validateConfig(FileConfiguration config) {
         try {
             // Validate basic settings
             if (config.getInt("limits.default_max_mounts", 5) < 1) {
@@ -51,7 +68,7 @@ public class ConfigManager {
             }
             
             // Validate message keys
-            validateMessageKeys();
+            validateMessageKeys(config);
             
             // Validate distance storage settings
             int maxDistance = config.getInt("storage.distance_storage.max_distance", 32);
@@ -72,6 +89,18 @@ public class ConfigManager {
                 config.set("storage.distance_storage.grace_period", 10);
             }
             
+            String distanceMode = config.getString("storage.distance_storage.mode", "polling").toLowerCase();
+            if (!distanceMode.equals("polling") && !distanceMode.equals("event")) {
+                plugin.getLogger().warning("distance_storage.mode must be 'polling' or 'event', setting to polling");
+                config.set("storage.distance_storage.mode", "polling");
+            }
+            
+            int tickBudget = config.getInt("storage.distance_storage.tick_budget_us", 500);
+            if (tickBudget < 50 || tickBudget > 10000) {
+                plugin.getLogger().warning("distance_storage.tick_budget_us must be between 50 and 10000, setting to 500");
+                config.set("storage.distance_storage.tick_budget_us", 500);
+            }
+            
             plugin.saveConfig();
             
         } catch (Exception e) {
@@ -79,7 +108,7 @@ public class ConfigManager {
         }
     }
     
-    private void validateMessageKeys() {
+    private void validateMessageKeys(FileConfiguration config) {
         try {
             // List of required message keys
             String[] requiredKeys = {
@@ -134,252 +163,253 @@ public class ConfigManager {
     }
     
     public boolean isCustomTamingEnabled() {
-        return config.getBoolean("taming.enable_custom_taming", true);
+        return snapshot.customTamingEnabled;
     }
     
     public int getTamingSuccessChance() {
-        return Math.max(0, Math.min(100, config.getInt("taming.success_chance", 100)));
+        return snapshot.tamingSuccessChance;
     }
     
     public boolean requireEmptyHand() {
-        return config.getBoolean("taming.require_empty_hand", false);
+        return snapshot.requireEmptyHand;
     }
     
     public boolean playTamingEffects() {
-        return config.getBoolean("taming.play_effects", true);
+        return snapshot.playTamingEffects;
     }
     
     public boolean respectProtectionPlugins() {
-        return config.getBoolean("taming.integration.respect_protection_plugins", true);
+        return snapshot.respectProtectionPlugins;
     }
     
     public List<String> getProtectionPlugins() {
-        return config.getStringList("taming.integration.protection_plugins");
+        return snapshot.protectionPlugins;
     }
     
     public TamingItem getTamingItem(String mountType) {
-        ConfigurationSection tamingSection = config.getConfigurationSection("taming.taming_items");
-        if (tamingSection == null) {
-            return getDefaultTamingItem();
-        }
-        
-        ConfigurationSection typeSection = tamingSection.getConfigurationSection(mountType);
-        if (typeSection == null) {
-            typeSection = tamingSection.getConfigurationSection("default");
-            if (typeSection == null) {
-                return getDefaultTamingItem();
-            }
-        }
-        
-        try {
-            String materialName = typeSection.getString("material", "GOLDEN_CARROT");
-            Material material = Material.getMaterial(materialName);
-            if (material == null) {
-                plugin.getLogger().warning("Invalid material '" + materialName + "' for taming item, using GOLDEN_CARROT");
-                material = Material.GOLDEN_CARROT;
-            }
-            
-            String name = typeSection.getString("name", "&6Mount Taming Treat");
-            List<String> lore = typeSection.getStringList("lore");
-            Integer customModelData = typeSection.getInt("custom_model_data", 0);
-            if (customModelData == 0) customModelData = null;
-            
-            Map<Enchantment, Integer> enchantments = new HashMap<>();
-            ConfigurationSection enchantSection = typeSection.getConfigurationSection("enchantments");
-            if (enchantSection != null) {
-                for (String enchantKey : enchantSection.getKeys(false)) {
-                    Enchantment enchantment = Enchantment.getByKey(org.bukkit.NamespacedKey.minecraft(enchantKey.toLowerCase()));
-                    if (enchantment != null) {
-                        enchantments.put(enchantment, enchantSection.getInt(enchantKey));
-                    }
-                }
-            }
-            
-            boolean consumeOnUse = typeSection.getBoolean("consume_on_use", true);
-            
-            return new TamingItem(material, name, lore, customModelData, enchantments, consumeOnUse);
-            
-        } catch (Exception e) {
-            plugin.getLogger().log(Level.WARNING, "Error loading taming item for " + mountType, e);
-            return getDefaultTamingItem();
+        if ("default".equals(mountType)) {
+            return snapshot.defaultTamingItem;
         }
+        return getTamingItem(MountType.fromString(mountType));
     }
     
-    private TamingItem getDefaultTamingItem() {
-        return new TamingItem(
-            Material.GOLDEN_CARROT,
-            "&6Mount Taming Treat",
-            Arrays.asList("&7Right-click a rideable animal", "&7to claim it as your mount!"),
-            null,
-            new HashMap<>(),
-            true
-        );
+    public TamingItem getTamingItem(MountType mountType) {
+        return snapshot.tamingItems.get(mountType);
+    }
+    
+    public TamingItemIndex getTamingItemIndex() {
+        return snapshot.tamingItemIndex;
     }
     
     public Set<String> getEnabledMountTypes() {
-        List<String> enabledTypes = config.getStringList("mount_types.enabled_types");
-        return new HashSet<>(enabledTypes);
+        return new HashSet<>(snapshot.enabledTypeNames);
     }
     
     public boolean isMountTypeEnabled(String mountType) {
-        return getEnabledMountTypes().contains(mountType);
+        return snapshot.enabledTypeNames.contains(mountType);
+    }
+    
+    public boolean isMountTypeEnabled(MountType mountType) {
+        return snapshot.enabledTypes.contains(mountType);
+    }
+    
+    /**
+     * Entity types of the enabled mount types; anything else can never be claimed.
+     */
+    public Set<EntityType> getClaimableEntityTypes() {
+        return snapshot.claimableEntityTypes;
     }
     
     public boolean restoreArmorOnSummon(String mountType) {
-        return config.getBoolean("mount_types." + mountType.toLowerCase() + ".restore_armor", true);
+        return snapshot.restoreArmor.contains(MountType.fromString(mountType));
     }
     
     public boolean restoreChestOnSummon(String mountType) {
-        return config.getBoolean("mount_types." + mountType.toLowerCase() + ".restore_chest", true);
+        return snapshot.restoreChest.contains(MountType.fromString(mountType));
     }
     
     public boolean restoreDecorationsOnSummon(String mountType) {
-        return config.getBoolean("mount_types." + mountType.toLowerCase() + ".restore_decorations", true);
+        return snapshot.restoreDecorations.contains(MountType.fromString(mountType));
     }
     
     public boolean healOnSummon(String mountType) {
-        return config.getBoolean("mount_types." + mountType.toLowerCase() + ".heal_on_summon", true);
+        return healOnSummon(MountType.fromString(mountType));
+    }
+    
+    public boolean healOnSummon(MountType mountType) {
+        return snapshot.healOnSummon.contains(mountType);
     }
     
     public boolean allowVanillaTaming(String mountType) {
-        return config.getBoolean("mount_types." + mountType.toLowerCase() + ".allow_vanilla_taming", false);
+        return snapshot.allowVanillaTaming.contains(MountType.fromString(mountType));
     }
     
     public boolean summonCamelSitting() {
-        return config.getBoolean("mount_types.camel.summon_sitting", false);
+        return snapshot.summonCamelSitting;
     }
     
     public boolean keepStriderWarmOutsideNether() {
-        return config.getBoolean("mount_types.strider.keep_warm_outside_nether", true);
+        return snapshot.keepStriderWarmOutsideNether;
     }
     
     public boolean autoEquipCarrotOnStick() {
-        return config.getBoolean("mount_types.pig.auto_equip_carrot", true);
+        return snapshot.autoEquipCarrotOnStick;
     }
     
     public boolean preserveLlamaCaravan() {
-        return config.getBoolean("mount_types.llama.preserve_caravan", false);
+        return snapshot.preserveLlamaCaravan;
+    }
+    
+    public int getRateLimitBurst(String action, int defaultBurst) {
+        return Math.max(config.getInt("rate_limits." + action + ".burst", defaultBurst), 1);
+    }
+    
+    public long getRateLimitRefillMillis(String action, long defaultRefillMs) {
+        return Math.max(config.getLong("rate_limits." + action + ".refill_ms", defaultRefillMs), 0L); // 0 disables the limit
     }
     
     public int getDefaultMaxMounts() {
-        return config.getInt("limits.default_max_mounts", 5);
+        return snapshot.defaultMaxMounts;
     }
     
     public int getMaxNameLength() {
-        return config.getInt("limits.max_name_length", 16);
+        return snapshot.maxNameLength;
     }
     
     public int getMinNameLength() {
-        return config.getInt("limits.min_name_length", 3);
+        return snapshot.minNameLength;
+    }
+    
+    public boolean normalizeNameBlacklist() {
+        return snapshot.normalizeNameBlacklist;
     }
     
     public int getTypeLimitForMount(String mountType) {
-        return config.getInt("limits.type_limits." + mountType, -1);
+        return getTypeLimitForMount(MountType.fromString(mountType));
+    }
+    
+    public int getTypeLimitForMount(MountType mountType) {
+        return snapshot.typeLimits.get(mountType);
     }
     
     public int getSafeSpotRadius() {
-        return config.getInt("summoning.safe_spot_radius", 10);
+        return snapshot.safeSpotRadius;
     }
     
     public int getMaxHeightDifference() {
-        return config.getInt("summoning.max_height_difference", 5);
+        return snapshot.maxHeightDifference;
+    }
+    
+    public int getMaxBatchSize() {
+        return snapshot.maxBatchSize;
     }
     
     public boolean teleportIfNoSafeSpot() {
-        return config.getBoolean("summoning.teleport_if_no_safe_spot", true);
+        return snapshot.teleportIfNoSafeSpot;
     }
     
     public boolean autoDismissExistingMount() {
-        return config.getBoolean("summoning.auto_dismiss_existing", true);
+        return snapshot.autoDismissExistingMount;
     }
     
     public boolean striderLavaSafety() {
-        return config.getBoolean("summoning.strider_lava_safety", true);
+        return snapshot.striderLavaSafety;
     }
     
     public boolean striderPreferLava() {
-        return config.getBoolean("summoning.strider_prefer_lava", true);
+        return snapshot.striderPreferLava;
     }
     
     public boolean autoStoreOnLogout() {
-        return config.getBoolean("storage.auto_store_on_logout", true);
+        return snapshot.autoStoreOnLogout;
     }
     
     public boolean autoStoreOnDeath() {
-        return config.getBoolean("storage.auto_store_on_death", false);
+        return snapshot.autoStoreOnDeath;
     }
     
     public boolean autoStoreOnWorldChange() {
-        return config.getBoolean("storage.auto_store_on_world_change", false);
+        return snapshot.autoStoreOnWorldChange;
     }
     
     public boolean autoStoreOnDimensionChange() {
-        return config.getBoolean("storage.auto_store_on_dimension_change", true);
+        return snapshot.autoStoreOnDimensionChange;
     }
     
     public boolean autoStoreOnShutdown() {
-        return config.getBoolean("storage.auto_store_on_shutdown", true);
+        return snapshot.autoStoreOnShutdown;
     }
     
     public int getShutdownStorageTimeout() {
-        return config.getInt("storage.shutdown_storage_timeout", 30);
+        return snapshot.shutdownStorageTimeout;
     }
     
     public boolean autoResummonOnLogin() {
-        return config.getBoolean("storage.auto_resummon_on_login", false);
+        return snapshot.autoResummonOnLogin;
     }
     
     public int getDistanceStorageMaxDistance() {
-        int distance = config.getInt("storage.distance_storage.max_distance", 32);
-        return Math.min(Math.max(distance, 1), 64); // Ensure between 1 and 64
+        return snapshot.distanceStorageMaxDistance;
     }
     
     public int getDistanceStorageCheckInterval() {
-        return Math.max(config.getInt("storage.distance_storage.check_interval", 100), 20); // At least 1 second
+        return snapshot.distanceStorageCheckInterval;
     }
     
     public int getDistanceStorageGracePeriod() {
-        return Math.max(config.getInt("storage.distance_storage.grace_period", 10), 1); // At least 1 second
+        return snapshot.distanceStorageGracePeriod;
+    }
+    
+    public String getDistanceStorageMode() {
+        return snapshot.distanceStorageMode;
+    }
+    
+    public boolean isDistanceStorageEventDriven() {
+        return "event".equals(getDistanceStorageMode());
+    }
+    
+    public int getDistanceStorageTickBudgetMicros() {
+        return snapshot.distanceStorageTickBudgetMicros;
     }
     
     public boolean preventMountStealing() {
-        return config.getBoolean("mount_behavior.prevent_mount_stealing", true);
+        return snapshot.preventMountStealing;
     }
     
     public boolean allowMountDamage() {
-        return config.getBoolean("mount_behavior.allow_mount_damage", true);
+        return snapshot.allowMountDamage;
     }
     
     public boolean restoreInventoryOnSummon() {
-        return config.getBoolean("mount_behavior.restore_inventory", true);
+        return snapshot.restoreInventoryOnSummon;
     }
     
     public boolean keepMountsLoaded() {
-        return config.getBoolean("mount_behavior.keep_loaded", false);
+        return snapshot.keepMountsLoaded;
     }
     
     public boolean protectMountInteraction() {
-        return config.getBoolean("mount_behavior.protect_mount_interaction", true);
+        return snapshot.protectMountInteraction;
     }
     
     public boolean protectChestAccess() {
-        return config.getBoolean("mount_behavior.protect_chest_access", true);
+        return snapshot.protectChestAccess;
     }
     
     public boolean enableShutdownHandler() {
-        return config.getBoolean("shutdown.enable_shutdown_handler", true);
+        return snapshot.enableShutdownHandler;
     }
     
     public boolean forceImmediateStorage() {
-        return config.getBoolean("shutdown.force_immediate_storage", true);
+        return snapshot.forceImmediateStorage;
     }
     
     public boolean logShutdownOperations() {
-        return config.getBoolean("shutdown.log_shutdown_operations", true);
+        return snapshot.logShutdownOperations;
     }
     
     public boolean checkConflictsOnStartup() {
-        return config.getBoolean("compatibility.check_conflicts_on_startup", true);
+        return snapshot.checkConflictsOnStartup;
     }
     
     public boolean isPluginCompatibilityEnabled(String pluginName) {
@@ -387,65 +417,94 @@ public class ConfigManager {
     }
     
     public boolean ignoreMythicMobs() {
-        return config.getBoolean("compatibility.plugins.mythicmobs.ignore_mythic_mobs", true);
+        return snapshot.ignoreMythicMobs;
     }
     
     public boolean ignoreNpcs() {
-        return config.getBoolean("compatibility.plugins.citizens.ignore_npcs", true);
+        return snapshot.ignoreNpcs;
     }
     
     public boolean respectSpawnProtection() {
-        return config.getBoolean("compatibility.plugins.essentials.respect_spawn_protection", true);
+        return snapshot.respectSpawnProtection;
     }
     
     public boolean autoDetectNewTypes() {
-        return config.getBoolean("rideable_detection.auto_detect_new_types", true);
+        return snapshot.autoDetectNewTypes;
     }
     
     public List<String> getCustomRideableTypes() {
-        return config.getStringList("rideable_detection.custom_rideable_types");
+        return snapshot.customRideableTypes;
     }
     
     public boolean includeNbtData() {
-        return config.getBoolean("inventory.include_nbt_data", true);
+        return snapshot.includeNbtData;
     }
     
     public boolean compressInventoryData() {
-        return config.getBoolean("inventory.compress_data", true);
+        return snapshot.compressInventoryData;
     }
     
     public int getMaxInventorySlots() {
-        return config.getInt("inventory.max_slots", 27);
+        return snapshot.maxInventorySlots;
     }
     
     public boolean handleNestedInventories() {
-        return config.getBoolean("inventory.handle_nested_inventories", true);
+        return snapshot.handleNestedInventories;
     }
     
     public boolean forceNbtForCustomItems() {
-        return config.getBoolean("inventory.custom_items.force_nbt_for_custom", true);
+        return snapshot.forceNbtForCustomItems;
     }
     
     public boolean createPlaceholdersForFailedItems() {
-        return config.getBoolean("inventory.custom_items.create_placeholders", true);
+        return snapshot.createPlaceholdersForFailedItems;
     }
     
     public boolean validateCustomItemsBeforeStoring() {
-        return config.getBoolean("inventory.custom_items.validate_before_storing", true);
+        return snapshot.validateCustomItemsBeforeStoring;
     }
     
     public List<String> getSupportedCustomItemPlugins() {
-        return config.getStringList("inventory.custom_items.supported_plugins");
+        return snapshot.supportedCustomItemPlugins;
     }
     
     public boolean logCustomItemIssues() {
-        return config.getBoolean("inventory.custom_items.log_custom_item_issues", true);
+        return snapshot.logCustomItemIssues;
     }
     
     public String getMessagePrefix() {
-        return config.getString("messages.prefix", "&8[&6SimpleMounts&8] ");
+        return snapshot.messagePrefix;
+    }
+    
+    public MessageCatalog getMessages() {
+        return messages;
+    }
+    
+    /**
+     * Prefixed, colored message in the player's language. Player may be null (console).
+     */
+    public String formatMessage(Player player, String key, String... args) {
+        return messages.format(player, key, args);
+    }
+    
+    public String formatMessage(Player player, String key, Map<String, String> placeholders) {
+        return messages.format(player, key, placeholders);
+    }
+    
+    /**
+     * Colored message without the prefix.
+     */
+    public String formatLine(Player player, String key, String... args) {
+        return messages.line(player, key, args);
     }
     
+    public String formatLine(Player player, String key, Map<String, String> placeholders) {
+        return messages.line(player, key, placeholders);
+    }
+    
+    /**
+     * Raw message text as written in config.yml, color codes untranslated.
+     */
     public String getMessage(String key) {
         try {
             String message = config.getString("messages." + key);
@@ -492,11 +551,15 @@ public class ConfigManager {
     }
     
     public boolean isDebugEnabled() {
-        return config.getBoolean("debug", false);
+        return snapshot.debugEnabled;
+    }
+    
+    public List<String> getDebugCategories() {
+        return snapshot.debugCategories;
     }
     
     public int getDefaultMountLimit() {
-        return config.getInt("limits.default_max_mounts", 5);
+        return getDefaultMaxMounts();
     }
     
     public FileConfiguration getConfig() {
@@ -0,0 +1,307 @@
+package com.simplemounts.core;
+
+import com.simplemounts.data.MountType;
+import com.simplemounts.data.TamingItem;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.EntityType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * config.yml compiled once into plain fields: numbers clamped, per-type settings as enum
+ * sets and maps, and taming items built up front. Immutable, so ConfigManager can swap a
+ * new one in on reload and readers never see a half-loaded config. Fields are read
+ * through ConfigManager's getters.
+ */
+public final class ConfigSnapshot {
+
+    // Taming
+    final boolean customTamingEnabled;
+    final int tamingSuccessChance;
+    final boolean requireEmptyHand;
+    final boolean playTamingEffects;
+    final boolean respectProtectionPlugins;
+    final List<String> protectionPlugins;
+    final TamingItem defaultTamingItem;
+    final Map<MountType, TamingItem> tamingItems;
+    final TamingItemIndex tamingItemIndex;
+
+    // Mount types
+    final boolean summonCamelSitting;
+    final boolean keepStriderWarmOutsideNether;
+    final boolean autoEquipCarrotOnStick;
+    final boolean preserveLlamaCaravan;
+    final Set<String> enabledTypeNames;
+    final Set<MountType> enabledTypes;
+    final Set<EntityType> claimableEntityTypes;
+    final Set<MountType> restoreArmor;
+    final Set<MountType> restoreChest;
+    final Set<MountType> restoreDecorations;
+    final Set<MountType> healOnSummon;
+    final Set<MountType> allowVanillaTaming;
+
+    // Limits
+    final int defaultMaxMounts;
+    final int maxNameLength;
+    final int minNameLength;
+    final boolean normalizeNameBlacklist;
+    final Map<MountType, Integer> typeLimits;
+
+    // Summoning
+    final int safeSpotRadius;
+    final int maxHeightDifference;
+    final int maxBatchSize;
+    final boolean teleportIfNoSafeSpot;
+    final boolean autoDismissExistingMount;
+    final boolean striderLavaSafety;
+    final boolean striderPreferLava;
+
+    // Storage
+    final boolean autoStoreOnLogout;
+    final boolean autoStoreOnDeath;
+    final boolean autoStoreOnWorldChange;
+    final boolean autoStoreOnDimensionChange;
+    final boolean autoStoreOnShutdown;
+    final int shutdownStorageTimeout;
+    final boolean autoResummonOnLogin;
+    final int distanceStorageCheckInterval;
+    final int distanceStorageGracePeriod;
+    final String distanceStorageMode;
+    final int distanceStorageTickBudgetMicros;
+    final int distanceStorageMaxDistance;
+
+    // Mount behavior
+    final boolean preventMountStealing;
+    final boolean allowMountDamage;
+    final boolean restoreInventoryOnSummon;
+    final boolean keepMountsLoaded;
+    final boolean protectMountInteraction;
+    final boolean protectChestAccess;
+
+    // Shutdown
+    final boolean enableShutdownHandler;
+    final boolean forceImmediateStorage;
+    final boolean logShutdownOperations;
+
+    // Compatibility
+    final boolean checkConflictsOnStartup;
+    final boolean ignoreMythicMobs;
+    final boolean ignoreNpcs;
+    final boolean respectSpawnProtection;
+
+    // Rideable detection
+    final boolean autoDetectNewTypes;
+    final List<String> customRideableTypes;
+
+    // Inventory
+    final boolean includeNbtData;
+    final boolean compressInventoryData;
+    final int maxInventorySlots;
+    final boolean handleNestedInventories;
+    final boolean forceNbtForCustomItems;
+    final boolean createPlaceholdersForFailedItems;
+    final boolean validateCustomItemsBeforeStoring;
+    final List<String> supportedCustomItemPlugins;
+    final boolean logCustomItemIssues;
+
+    // Messages
+    final String messagePrefix;
+
+    // Debug
+    final boolean debugEnabled;
+    final List<String> debugCategories;
+
+    ConfigSnapshot(FileConfiguration config, Logger logger) {
+        // Taming
+        customTamingEnabled = config.getBoolean("taming.enable_custom_taming", true);
+        tamingSuccessChance = Math.max(0, Math.min(100, config.getInt("taming.success_chance", 100)));
+        requireEmptyHand = config.getBoolean("taming.require_empty_hand", false);
+        playTamingEffects = config.getBoolean("taming.play_effects", true);
+        respectProtectionPlugins = config.getBoolean("taming.integration.respect_protection_plugins", true);
+        protectionPlugins = Collections.unmodifiableList(new ArrayList<>(config.getStringList("taming.integration.protection_plugins")));
+
+        ConfigurationSection tamingSection = config.getConfigurationSection("taming.taming_items");
+        TamingItem fallback = compileTamingItem(tamingSection != null ? tamingSection.getConfigurationSection("default") : null, "default", logger);
+        defaultTamingItem = fallback;
+        Map<MountType, TamingItem> items = new EnumMap<>(MountType.class);
+        for (MountType type : MountType.values()) {
+            ConfigurationSection typeSection = tamingSection != null ? tamingSection.getConfigurationSection(type.name()) : null;
+            items.put(type, typeSection != null ? compileTamingItem(typeSection, type.name(), logger) : fallback);
+        }
+        tamingItems = Collections.unmodifiableMap(items);
+        tamingItemIndex = new TamingItemIndex(fallback, items);
+
+        // Mount types
+        summonCamelSitting = config.getBoolean("mount_types.camel.summon_sitting", false);
+        keepStriderWarmOutsideNether = config.getBoolean("mount_types.strider.keep_warm_outside_nether", true);
+        autoEquipCarrotOnStick = config.getBoolean("mount_types.pig.auto_equip_carrot", true);
+        preserveLlamaCaravan = config.getBoolean("mount_types.llama.preserve_caravan", false);
+
+        enabledTypeNames = Collections.unmodifiableSet(new HashSet<>(config.getStringList("mount_types.enabled_types")));
+        enabledTypes = Collections.unmodifiableSet(typesWhere(type -> enabledTypeNames.contains(type.name())));
+        Set<EntityType> claimable = EnumSet.noneOf(EntityType.class);
+        for (MountType type : enabledTypes) {
+            if (type.getEntityType() != null) {
+                claimable.add(type.getEntityType());
+            }
+        }
+        claimableEntityTypes = Collections.unmodifiableSet(claimable);
+        restoreArmor = Collections.unmodifiableSet(typesWhere(type -> config.getBoolean("mount_types." + type.getConfigKey() + ".restore_armor", true)));
+        restoreChest = Collections.unmodifiableSet(typesWhere(type -> config.getBoolean("mount_types." + type.getConfigKey() + ".restore_chest", true)));
+        restoreDecorations = Collections.unmodifiableSet(typesWhere(type -> config.getBoolean("mount_types." + type.getConfigKey() + ".restore_decorations", true)));
+        healOnSummon = Collections.unmodifiableSet(typesWhere(type -> config.getBoolean("mount_types." + type.getConfigKey() + ".heal_on_summon", true)));
+        allowVanillaTaming = Collections.unmodifiableSet(typesWhere(type -> config.getBoolean("mount_types." + type.getConfigKey() + ".allow_vanilla_taming", false)));
+
+        // Limits
+        defaultMaxMounts = config.getInt("limits.default_max_mounts", 5);
+        maxNameLength = config.getInt("limits.max_name_length", 16);
+        minNameLength = config.getInt("limits.min_name_length", 3);
+        normalizeNameBlacklist = config.getBoolean("limits.normalize_blacklist", false);
+
+        Map<MountType, Integer> limits = new EnumMap<>(MountType.class);
+        for (MountType type : MountType.values()) {
+            limits.put(type, config.getInt("limits.type_limits." + type.name(), -1));
+        }
+        typeLimits = Collections.unmodifiableMap(limits);
+
+        // Summoning
+        safeSpotRadius = Math.min(Math.max(config.getInt("summoning.safe_spot_radius", 10), 0), 32); // Bounded snapshot area
+        maxHeightDifference = Math.min(Math.max(config.getInt("summoning.max_height_difference", 5), 0), 32);
+        maxBatchSize = Math.min(Math.max(config.getInt("summoning.max_batch_size", 10), 1), 50);
+        teleportIfNoSafeSpot = config.getBoolean("summoning.teleport_if_no_safe_spot", true);
+        autoDismissExistingMount = config.getBoolean("summoning.auto_dismiss_existing", true);
+        striderLavaSafety = config.getBoolean("summoning.strider_lava_safety", true);
+        striderPreferLava = config.getBoolean("summoning.strider_prefer_lava", true);
+
+        // Storage
+        autoStoreOnLogout = config.getBoolean("storage.auto_store_on_logout", true);
+        autoStoreOnDeath = config.getBoolean("storage.auto_store_on_death", false);
+        autoStoreOnWorldChange = config.getBoolean("storage.auto_store_on_world_change", false);
+        autoStoreOnDimensionChange = config.getBoolean("storage.auto_store_on_dimension_change", true);
+        autoStoreOnShutdown = config.getBoolean("storage.auto_store_on_shutdown", true);
+        shutdownStorageTimeout = config.getInt("storage.shutdown_storage_timeout", 30);
+        autoResummonOnLogin = config.getBoolean("storage.auto_resummon_on_login", false);
+        distanceStorageCheckInterval = Math.max(config.getInt("storage.distance_storage.check_interval", 100), 20); // At least 1 second
+        distanceStorageGracePeriod = Math.max(config.getInt("storage.distance_storage.grace_period", 10), 1); // At least 1 second
+        distanceStorageMode = config.getString("storage.distance_storage.mode", "polling").toLowerCase();
+        distanceStorageTickBudgetMicros = Math.min(Math.max(config.getInt("storage.distance_storage.tick_budget_us", 500), 50), 10000); // 0.05ms to 10ms
+        distanceStorageMaxDistance = Math.min(Math.max(config.getInt("storage.distance_storage.max_distance", 32), 1), 64); // Ensure between 1 and 64
+
+        // Mount behavior
+        preventMountStealing = config.getBoolean("mount_behavior.prevent_mount_stealing", true);
+        allowMountDamage = config.getBoolean("mount_behavior.allow_mount_damage", true);
+        restoreInventoryOnSummon = config.getBoolean("mount_behavior.restore_inventory", true);
+        keepMountsLoaded = config.getBoolean("mount_behavior.keep_loaded", false);
+        protectMountInteraction = config.getBoolean("mount_behavior.protect_mount_interaction", true);
+        protectChestAccess = config.getBoolean("mount_behavior.protect_chest_access", true);
+
+        // Shutdown
+        enableShutdownHandler = config.getBoolean("shutdown.enable_shutdown_handler", true);
+        forceImmediateStorage = config.getBoolean("shutdown.force_immediate_storage", true);
+        logShutdownOperations = config.getBoolean("shutdown.log_shutdown_operations", true);
+
+        // Compatibility
+        checkConflictsOnStartup = config.getBoolean("compatibility.check_conflicts_on_startup", true);
+        ignoreMythicMobs = config.getBoolean("compatibility.plugins.mythicmobs.ignore_mythic_mobs", true);
+        ignoreNpcs = config.getBoolean("compatibility.plugins.citizens.ignore_npcs", true);
+        respectSpawnProtection = config.getBoolean("compatibility.plugins.essentials.respect_spawn_protection", true);
+
+        // Rideable detection
+        autoDetectNewTypes = config.getBoolean("rideable_detection.auto_detect_new_types", true);
+        customRideableTypes = Collections.unmodifiableList(new ArrayList<>(config.getStringList("rideable_detection.custom_rideable_types")));
+
+        // Inventory
+        includeNbtData = config.getBoolean("inventory.include_nbt_data", true);
+        compressInventoryData = config.getBoolean("inventory.compress_data", true);
+        maxInventorySlots = config.getInt("inventory.max_slots", 27);
+        handleNestedInventories = config.getBoolean("inventory.handle_nested_inventories", true);
+        forceNbtForCustomItems = config.getBoolean("inventory.custom_items.force_nbt_for_custom", true);
+        createPlaceholdersForFailedItems = config.getBoolean("inventory.custom_items.create_placeholders", true);
+        validateCustomItemsBeforeStoring = config.getBoolean("inventory.custom_items.validate_before_storing", true);
+        supportedCustomItemPlugins = Collections.unmodifiableList(new ArrayList<>(config.getStringList("inventory.custom_items.supported_plugins")));
+        logCustomItemIssues = config.getBoolean("inventory.custom_items.log_custom_item_issues", true);
+
+        // Messages
+        messagePrefix = config.getString("messages.prefix", "&8[&6SimpleMounts&8] ");
+
+        // Debug
+        debugEnabled = config.getBoolean("debug", false);
+        debugCategories = Collections.unmodifiableList(new ArrayList<>(config.getStringList("debug_categories")));
+    }
+
+    private static Set<MountType> typesWhere(Predicate<MountType> predicate) {
+        Set<MountType> types = EnumSet.noneOf(MountType.class);
+        for (MountType type : MountType.values()) {
+            if (predicate.test(type)) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    private static TamingItem compileTamingItem(ConfigurationSection section, String label, Logger logger) {
+        if (section == null) {
+            return builtInTamingItem();
+        }
+
+        try {
+            String materialName = section.getString("material", "GOLDEN_CARROT");
+            Material material = Material.getMaterial(materialName);
+            if (material == null) {
+                logger.warning("Invalid material '" + materialName + "' for taming item, using GOLDEN_CARROT");
+                material = Material.GOLDEN_CARROT;
+            }
+
+            String name = section.getString("name", "&6Mount Taming Treat");
+            List<String> lore = section.getStringList("lore");
+            Integer customModelData = section.getInt("custom_model_data", 0);
+            if (customModelData == 0) customModelData = null;
+
+            Map<Enchantment, Integer> enchantments = new HashMap<>();
+            ConfigurationSection enchantSection = section.getConfigurationSection("enchantments");
+            if (enchantSection != null) {
+                for (String enchantKey : enchantSection.getKeys(false)) {
+                    Enchantment enchantment = Enchantment.getByKey(NamespacedKey.minecraft(enchantKey.toLowerCase()));
+                    if (enchantment != null) {
+                        enchantments.put(enchantment, enchantSection.getInt(enchantKey));
+                    }
+                }
+            }
+
+            boolean consumeOnUse = section.getBoolean("consume_on_use", true);
+
+            return new TamingItem(material, name, lore, customModelData, Collections.unmodifiableMap(enchantments), consumeOnUse);
+
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Error loading taming item for " + label, e);
+            return builtInTamingItem();
+        }
+    }
+
+    private static TamingItem builtInTamingItem() {
+        return new TamingItem(
+            Material.GOLDEN_CARROT,
+            "&6Mount Taming Treat",
+            Arrays.asList("&7Right-click a rideable animal", "&7to claim it as your mount!"),
+            null,
+            Collections.emptyMap(),
+            true
+        );
+    }
+}
@@ -8,9 +8,15 @@ import com.zaxxer.hikari.HikariDataSource;
 import java.io.File;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
 import java.util.logging.Level;
 
 public class DatabaseManager {
@@ -274,6 +280,211 @@ public class DatabaseManager {
         });
     }
     
+    /**
+     * Save several mounts and drop their active_mounts rows in a single transaction.
+     * Returns the number of player_mounts rows updated, or -1 if the transaction failed.
+     */
+    public CompletableFuture<Integer> storeMountDataBatch(List<MountDataUpdate> updates) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (updates.isEmpty()) {
+                return 0;
+            }
+            
+            try (Connection connection = getConnection()) {
+                connection.setAutoCommit(false);
+                try {
+                    int updated = executeMountDataBatch(connection, updates);
+                    connection.commit();
+                    return updated;
+                    
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                plugin.getLogger().log(Level.SEVERE, "Failed to store batch of " + updates.size() + " mounts", e);
+                return -1;
+            }
+        });
+    }
+    
+    /**
+     * Run the same transaction as storeMountDataBatch but roll it back, returning the time
+     * taken in nanoseconds, or -1 on error. For benchmarks only.
+     */
+    public CompletableFuture<Long> benchmarkMountDataBatch(List<MountDataUpdate> updates) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (Connection connection = getConnection()) {
+                connection.setAutoCommit(false);
+                long start = System.nanoTime();
+                try {
+                    executeMountDataBatch(connection, updates);
+                    return System.nanoTime() - start;
+                    
+                } finally {
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                plugin.getLogger().log(Level.SEVERE, "Failed to benchmark mount batch write", e);
+                return -1L;
+            }
+        });
+    }
+    
+    /**
+     * Batch the player_mounts updates and active_mounts deletes on an open transaction,
+     * leaving commit or rollback to the caller. Returns the number of player_mounts rows updated.
+     */
+    private int executeMountDataBatch(Connection connection, List<MountDataUpdate> updates) throws SQLException {
+        String updateSql = """
+            UPDATE player_mounts 
+            SET mount_data = ?, chest_inventory = ?, last_accessed = ?
+            WHERE id = ?
+        """;
+        String deleteSql = "DELETE FROM active_mounts WHERE entity_uuid = ?";
+        
+        try (PreparedStatement update = connection.prepareStatement(updateSql);
+             PreparedStatement delete = connection.prepareStatement(deleteSql)) {
+            
+            long currentTime = System.currentTimeMillis();
+            for (MountDataUpdate entry : updates) {
+                update.setString(1, entry.getMountData());
+                update.setString(2, entry.getChestInventory());
+                update.setLong(3, currentTime);
+                update.setInt(4, entry.getMountId());
+                update.addBatch();
+                
+                if (entry.getEntityUuid() != null) {
+                    delete.setString(1, entry.getEntityUuid().toString());
+                    delete.addBatch();
+                }
+            }
+            
+            int updated = 0;
+            for (int count : update.executeBatch()) {
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    updated++;
+                }
+            }
+            delete.executeBatch();
+            return updated;
+        }
+    }
+    
+    /**
+     * Load the given player's mounts matching any of the ids or names in one query.
+     */
+    public CompletableFuture<List<MountData>> getMountDataBatch(UUID playerUuid, Collection<Integer> mountIds, Collection<String> mountNames) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<MountData> mounts = new ArrayList<>();
+            if (mountIds.isEmpty() && mountNames.isEmpty()) {
+                return mounts;
+            }
+            
+            List<String> conditions = new ArrayList<>();
+            if (!mountIds.isEmpty()) {
+                conditions.add("id IN (" + placeholders(mountIds.size()) + ")");
+            }
+            if (!mountNames.isEmpty()) {
+                conditions.add("mount_name IN (" + placeholders(mountNames.size()) + ")");
+            }
+            String sql = "SELECT id, mount_name, mount_type, mount_data, chest_inventory, created_at, last_accessed "
+                + "FROM player_mounts WHERE player_uuid = ? AND (" + String.join(" OR ", conditions) + ")";
+            
+            try (Connection connection = getConnection();
+                 PreparedStatement stmt = connection.prepareStatement(sql)) {
+                
+                int index = 1;
+                stmt.setString(index++, playerUuid.toString());
+                for (int mountId : mountIds) {
+                    stmt.setInt(index++, mountId);
+                }
+                for (String mountName : mountNames) {
+                    stmt.setString(index++, mountName);
+                }
+                
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        mounts.add(new MountData(
+                            rs.getInt("id"),
+                            playerUuid,
+                            rs.getString("mount_name"),
+                            rs.getString("mount_type"),
+                            rs.getString("mount_data"),
+                            rs.getString("chest_inventory"),
+                            rs.getLong("created_at"),
+                            rs.getLong("last_accessed")
+                        ));
+                    }
+                }
+                
+            } catch (SQLException e) {
+                plugin.getLogger().log(Level.SEVERE, "Failed to load mount batch", e);
+            }
+            
+            return mounts;
+        });
+    }
+    
+    /**
+     * Load every stored mount for several players in one query, most recently used first.
+     * Players with no mounts map to an empty list. Completes exceptionally if the query
+     * fails, so a failed load is never mistaken for players with no mounts.
+     */
+    public CompletableFuture<Map<UUID, List<MountData>>> getPlayerMountsBatch(Collection<UUID> playerUuids) {
+        return CompletableFuture.supplyAsync(() -> {
+            Map<UUID, List<MountData>> mounts = new HashMap<>();
+            for (UUID playerUuid : playerUuids) {
+                mounts.put(playerUuid, new ArrayList<>());
+            }
+            if (playerUuids.isEmpty()) {
+                return mounts;
+            }
+            
+            String sql = "SELECT id, player_uuid, mount_name, mount_type, mount_data, chest_inventory, created_at, last_accessed "
+                + "FROM player_mounts WHERE player_uuid IN (" + placeholders(playerUuids.size()) + ") "
+                + "ORDER BY last_accessed DESC";
+            
+            try (Connection connection = getConnection();
+                 PreparedStatement stmt = connection.prepareStatement(sql)) {
+                
+                int index = 1;
+                for (UUID playerUuid : playerUuids) {
+                    stmt.setString(index++, playerUuid.toString());
+                }
+                
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        UUID playerUuid = UUID.fromString(rs.getString("player_uuid"));
+                        mounts.computeIfAbsent(playerUuid, uuid -> new ArrayList<>()).add(new MountData(
+                            rs.getInt("id"),
+                            playerUuid,
+                            rs.getString("mount_name"),
+                            rs.getString("mount_type"),
+                            rs.getString("mount_data"),
+                            rs.getString("chest_inventory"),
+                            rs.getLong("created_at"),
+                            rs.getLong("last_accessed")
+                        ));
+                    }
+                }
+                
+            } catch (SQLException e) {
+                plugin.getLogger().log(Level.SEVERE, "Failed to load mounts for " + playerUuids.size() + " players", e);
+                throw new CompletionException(e);
+            }
+            
+            return mounts;
+        });
+    }
+    
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+    
     public CompletableFuture<MountData> getMountData(UUID playerUuid, int mountId) {
         return CompletableFuture.supplyAsync(() -> {
             String sql = """
@@ -537,6 +748,69 @@ public class DatabaseManager {
         });
     }
     
+    /**
+     * Record a group of summoned mounts as active and touch their last_accessed time in a
+     * single transaction.
+     */
+    public CompletableFuture<Boolean> addActiveMountsBatch(UUID playerUuid, List<ActiveMountRecord> records) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (records.isEmpty()) {
+                return true;
+            }
+            
+            String insertSql = """
+                INSERT OR REPLACE INTO active_mounts
+                (entity_uuid, player_uuid, mount_id, mount_name, world_name, x, y, z, spawned_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+            String touchSql = "UPDATE player_mounts SET last_accessed = ? WHERE player_uuid = ? AND id = ?";
+            
+            try (Connection connection = getConnection()) {
+                connection.setAutoCommit(false);
+                try (PreparedStatement insert = connection.prepareStatement(insertSql);
+                     PreparedStatement touch = connection.prepareStatement(touchSql)) {
+                    
+                    long currentTime = System.currentTimeMillis();
+                    for (ActiveMountRecord record : records) {
+                        insert.setString(1, record.getEntityUuid().toString());
+                        insert.setString(2, playerUuid.toString());
+                        insert.setInt(3, record.getMountId());
+                        if (record.getMountName() != null && !record.getMountName().trim().isEmpty()) {
+                            insert.setString(4, record.getMountName().trim());
+                        } else {
+                            insert.setNull(4, java.sql.Types.VARCHAR);
+                        }
+                        insert.setString(5, record.getWorldName());
+                        insert.setDouble(6, record.getX());
+                        insert.setDouble(7, record.getY());
+                        insert.setDouble(8, record.getZ());
+                        insert.setLong(9, currentTime);
+                        insert.addBatch();
+                        
+                        touch.setLong(1, currentTime);
+                        touch.setString(2, playerUuid.toString());
+                        touch.setInt(3, record.getMountId());
+                        touch.addBatch();
+                    }
+                    
+                    insert.executeBatch();
+                    touch.executeBatch();
+                    connection.commit();
+                    return true;
+                    
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                plugin.getLogger().log(Level.SEVERE, "Failed to add batch of " + records.size() + " active mounts", e);
+                return false;
+            }
+        });
+    }
+    
     public CompletableFuture<Boolean> removeActiveMount(UUID entityUuid) {
         return CompletableFuture.supplyAsync(() -> {
             String sql = "DELETE FROM active_mounts WHERE entity_uuid = ?";
@@ -580,26 +854,134 @@ public class DatabaseManager {
         });
     }
     
-    public CompletableFuture<Boolean> cleanupOrphanedMounts() {
+    /**
+     * Stream every active_mounts row, ordered by world and position, to the consumer on the
+     * database thread without collecting them first. Completes with the row count, or -1.
+     */
+    public CompletableFuture<Integer> streamActiveMounts(BiConsumer<UUID, ActiveMountRecord> consumer) {
         return CompletableFuture.supplyAsync(() -> {
-            String sql = "DELETE FROM active_mounts WHERE spawned_at < ?";
+            String sql = """
+                SELECT entity_uuid, player_uuid, mount_id, mount_name, world_name, x, y, z
+                FROM active_mounts
+                ORDER BY world_name, x, z
+            """;
             
             try (Connection connection = getConnection();
                  PreparedStatement stmt = connection.prepareStatement(sql)) {
                 
-                long cutoffTime = System.currentTimeMillis() - (24 * 60 * 60 * 1000); // 24 hours ago
-                stmt.setLong(1, cutoffTime);
-                
-                int deleted = stmt.executeUpdate();
-                if (deleted > 0) {
-                    plugin.getLogger().info("Cleaned up " + deleted + " orphaned active mount entries");
+                stmt.setFetchSize(500);
+                int count = 0;
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        consumer.accept(UUID.fromString(rs.getString("player_uuid")), new ActiveMountRecord(
+                            UUID.fromString(rs.getString("entity_uuid")),
+                            rs.getInt("mount_id"),
+                            rs.getString("mount_name"),
+                            rs.getString("world_name"),
+                            rs.getDouble("x"),
+                            rs.getDouble("y"),
+                            rs.getDouble("z")
+                        ));
+                        count++;
+                    }
                 }
                 
-                return true;
+                return count;
                 
+            } catch (SQLException | IllegalArgumentException e) {
+                plugin.getLogger().log(Level.SEVERE, "Failed to read active mounts", e);
+                return -1;
+            }
+        });
+    }
+    
+    /**
+     * Move several active_mounts rows to the given positions in one transaction, so a restart
+     * looks for wandering mounts where they last were. Rows already removed stay removed.
+     * Completes with the number updated, or -1 if the transaction was rolled back.
+     */
+    public CompletableFuture<Integer> updateActiveMountLocations(Collection<ActiveMountRecord> records) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (records.isEmpty()) {
+                return 0;
+            }
+            
+            String sql = "UPDATE active_mounts SET world_name = ?, x = ?, y = ?, z = ? WHERE entity_uuid = ?";
+            
+            try (Connection connection = getConnection()) {
+                connection.setAutoCommit(false);
+                try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                    
+                    for (ActiveMountRecord record : records) {
+                        stmt.setString(1, record.getWorldName());
+                        stmt.setDouble(2, record.getX());
+                        stmt.setDouble(3, record.getY());
+                        stmt.setDouble(4, record.getZ());
+                        stmt.setString(5, record.getEntityUuid().toString());
+                        stmt.addBatch();
+                    }
+                    
+                    int updated = 0;
+                    for (int result : stmt.executeBatch()) {
+                        if (result > 0) {
+                            updated += result;
+                        }
+                    }
+                    connection.commit();
+                    return updated;
+                    
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(true);
+                }
             } catch (SQLException e) {
-                plugin.getLogger().log(Level.SEVERE, "Failed to cleanup orphaned mounts", e);
-                return false;
+                plugin.getLogger().log(Level.SEVERE, "Failed to update " + records.size() + " active mount locations", e);
+                return -1;
+            }
+        });
+    }
+    
+    /**
+     * Delete several active_mounts rows in one transaction. Completes with the number
+     * deleted, or -1 if the transaction was rolled back.
+     */
+    public CompletableFuture<Integer> removeActiveMountsBatch(Collection<UUID> entityUuids) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (entityUuids.isEmpty()) {
+                return 0;
+            }
+            
+            String sql = "DELETE FROM active_mounts WHERE entity_uuid = ?";
+            
+            try (Connection connection = getConnection()) {
+                connection.setAutoCommit(false);
+                try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+                    
+                    for (UUID entityUuid : entityUuids) {
+                        stmt.setString(1, entityUuid.toString());
+                        stmt.addBatch();
+                    }
+                    
+                    int deleted = 0;
+                    for (int result : stmt.executeBatch()) {
+                        if (result > 0) {
+                            deleted += result;
+                        }
+                    }
+                    connection.commit();
+                    return deleted;
+                    
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                plugin.getLogger().log(Level.SEVERE, "Failed to remove " + entityUuids.size() + " active mounts", e);
+                return -1;
             }
         });
     }
@@ -734,4 +1116,58 @@ public class DatabaseManager {
             }
         });
     }
-}
\ No newline at end of file
+    
+    /**
+     * One row of a batched mount save. The entity UUID, when set, is removed from active_mounts
+     * in the same transaction.
+     */
+    public static class MountDataUpdate {
+        private final int mountId;
+        private final UUID entityUuid;
+        private final String mountData;
+        private final String chestInventory;
+        
+        public MountDataUpdate(int mountId, UUID entityUuid, String mountData, String chestInventory) {
+            this.mountId = mountId;
+            this.entityUuid = entityUuid;
+            this.mountData = mountData;
+            this.chestInventory = chestInventory;
+        }
+        
+        public int getMountId() { return mountId; }
+        public UUID getEntityUuid() { return entityUuid; }
+        public String getMountData() { return mountData; }
+        public String getChestInventory() { return chestInventory; }
+    }
+    
+    /**
+     * One row of a batched active_mounts insert or position update.
+     */
+    public static class ActiveMountRecord {
+        private final UUID entityUuid;
+        private final int mountId;
+        private final String mountName;
+        private final String worldName;
+        private final double x;
+        private final double y;
+        private final double z;
+        
+        public ActiveMountRecord(UUID entityUuid, int mountId, String mountName, String worldName, double x, double y, double z) {
+            this.entityUuid = entityUuid;
+            this.mountId = mountId;
+            this.mountName = mountName;
+            this.worldName = worldName;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+        
+        public UUID getEntityUuid() { return entityUuid; }
+        public int getMountId() { return mountId; }
+        public String getMountName() { return mountName; }
+        public String getWorldName() { return worldName; }
+        public double getX() { return x; }
+        public double getY() { return y; }
+        public double getZ() { return z; }
+    }
+}
@@ -0,0 +1,175 @@
+package com.simplemounts.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Debug output split into categories that can be switched on separately. A disabled
+ * category costs one volatile read: messages are built by a supplier only when their
+ * category is on, and enabled messages are handed to a background thread so the caller
+ * never waits on the console.
+ */
+public class DebugLogger {
+
+    public enum Category {
+        TAMING,
+        STORAGE,
+        SUMMON,
+        PLAYER,
+        PROTECTION;
+
+        private final int bit = 1 << ordinal();
+
+        public static Category fromString(String name) {
+            for (Category category : values()) {
+                if (category.name().equalsIgnoreCase(name)) {
+                    return category;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final int ALL = (1 << Category.values().length) - 1;
+    private static final int QUEUE_CAPACITY = 4096;
+
+    private final Logger logger;
+    private final BlockingQueue<String> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final LongAdder dropped = new LongAdder();
+    private volatile int enabledMask;
+    private volatile Thread writer;
+
+    public DebugLogger(Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Apply the debug settings from config.yml: nothing when debug is off, otherwise the
+     * listed categories, or every category when none are listed.
+     */
+    public void configure(ConfigManager config) {
+        if (!config.isDebugEnabled()) {
+            setEnabledMask(0);
+            return;
+        }
+        int mask = 0;
+        for (String name : config.getDebugCategories()) {
+            Category category = Category.fromString(name);
+            if (category != null) {
+                mask |= category.bit;
+            } else {
+                logger.warning("Unknown debug category: " + name);
+            }
+        }
+        setEnabledMask(mask == 0 ? ALL : mask);
+    }
+
+    public boolean isEnabled(Category category) {
+        return (enabledMask & category.bit) != 0;
+    }
+
+    public void log(Category category, Supplier<String> message) {
+        if ((enabledMask & category.bit) == 0) {
+            return;
+        }
+        String line = "[DEBUG/" + category.name() + "] [" + Thread.currentThread().getName() + "] " + message.get();
+        if (!queue.offer(line)) {
+            dropped.increment();
+        }
+    }
+
+    public void setEnabled(Category category, boolean enabled) {
+        setEnabledMask(enabled ? enabledMask | category.bit : enabledMask & ~category.bit);
+    }
+
+    public void setAllEnabled(boolean enabled) {
+        setEnabledMask(enabled ? ALL : 0);
+    }
+
+    public List<Category> getEnabledCategories() {
+        List<Category> enabled = new ArrayList<>();
+        for (Category category : Category.values()) {
+            if (isEnabled(category)) {
+                enabled.add(category);
+            }
+        }
+        return enabled;
+    }
+
+    private synchronized void setEnabledMask(int mask) {
+        enabledMask = mask;
+        // The writer thread only exists while something can be logged
+        if (mask != 0 && writer == null) {
+            Thread thread = new Thread(this::drain, "SimpleMounts-Debug");
+            thread.setDaemon(true);
+            writer = thread;
+            thread.start();
+        }
+    }
+
+    /**
+     * Stop the writer after flushing what is queued.
+     */
+    public synchronized void shutdown() {
+        enabledMask = 0;
+        Thread thread = writer;
+        writer = null;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void drain() {
+        List<String> batch = new ArrayList<>();
+        while (writer == Thread.currentThread()) {
+            try {
+                String line = queue.poll(1, TimeUnit.SECONDS);
+                if (line == null) {
+                    continue;
+                }
+                batch.add(line);
+                queue.drainTo(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+        queue.drainTo(batch);
+        flush(batch);
+    }
+
+    private void flush(List<String> batch) {
+        for (String line : batch) {
+            logger.info(line);
+        }
+        batch.clear();
+        long lost = dropped.sumThenReset();
+        if (lost > 0) {
+            logger.warning("Debug log queue full, dropped " + lost + " messages");
+        }
+    }
+
+    public String describe() {
+        List<Category> enabled = getEnabledCategories();
+        if (enabled.isEmpty()) {
+            return "off";
+        }
+        List<String> names = new ArrayList<>();
+        for (Category category : enabled) {
+            names.add(category.name().toLowerCase(Locale.ROOT));
+        }
+        return String.join(", ", names);
+    }
+}
@@ -0,0 +1,409 @@
+package com.simplemounts.core;
+
+import com.simplemounts.SimpleMounts;
+import com.simplemounts.data.MountType;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * Single distance-based auto storage job. In polling mode it runs every tick on the
+ * main thread, walks mount owners round-robin and stops as soon as the per-tick budget
+ * is used, so every owner is visited roughly once per check interval regardless of load.
+ * In event mode the polling task is replaced by a {@link ChunkDistanceTracker}.
+ */
+public class DistanceMonitor {
+
+    private final SimpleMounts plugin;
+    private final MountManager mountManager;
+    private final ConfigManager config;
+
+    private final Deque<UUID> pendingOwners = new ArrayDeque<>();
+    private BukkitTask task;
+    private ChunkDistanceTracker tracker;
+    private long tick;
+    private long cycleStartTick;
+    private int playersPerTick = 1;
+
+    // Budget accounting
+    private long ticksRun;
+    private long totalNanos;
+    private long peakNanos;
+    private long budgetExhaustedTicks;
+    private long playersChecked;
+    private long mountsChecked;
+    private long cyclesCompleted;
+    private long lateCycles;
+
+    public DistanceMonitor(SimpleMounts plugin, MountManager mountManager) {
+        this.plugin = plugin;
+        this.mountManager = mountManager;
+        this.config = plugin.getConfigManager();
+    }
+
+    public void start() {
+        stop();
+
+        if (config.isDistanceStorageEventDriven()) {
+            tracker = new ChunkDistanceTracker(plugin, this, mountManager);
+            tracker.start();
+            plugin.getLogger().info("Distance monitor started in event mode (max distance: " + config.getDistanceStorageMaxDistance() + " blocks)");
+            return;
+        }
+
+        task = plugin.getServer().getScheduler().runTaskTimer(plugin, this::runTick, 1L, 1L);
+        plugin.getLogger().info("Distance monitor started (check interval: " + config.getDistanceStorageCheckInterval()
+            + " ticks, budget: " + config.getDistanceStorageTickBudgetMicros() + "us/tick)");
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        if (tracker != null) {
+            tracker.stop();
+            tracker = null;
+        }
+        pendingOwners.clear();
+    }
+
+    public boolean isEventDriven() {
+        return tracker != null;
+    }
+
+    public ChunkDistanceTracker getTracker() {
+        return tracker;
+    }
+
+    private void runTick() {
+        tick++;
+        int checkInterval = config.getDistanceStorageCheckInterval();
+
+        if (pendingOwners.isEmpty()) {
+            if (tick - cycleStartTick < checkInterval) {
+                return; // Cycle finished early, wait for the next interval
+            }
+            startCycle(checkInterval);
+        }
+
+        long budgetNanos = config.getDistanceStorageTickBudgetMicros() * 1000L;
+        long start = System.nanoTime();
+        int processed = 0;
+
+        while (!pendingOwners.isEmpty() && processed < playersPerTick) {
+            if (System.nanoTime() - start >= budgetNanos) {
+                budgetExhaustedTicks++;
+                break;
+            }
+
+            UUID ownerUuid = pendingOwners.pollFirst();
+            try {
+                checkOwner(ownerUuid);
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "Error during distance check for " + ownerUuid, e);
+            }
+            processed++;
+        }
+
+        long elapsed = System.nanoTime() - start;
+        ticksRun++;
+        totalNanos += elapsed;
+        peakNanos = Math.max(peakNanos, elapsed);
+        playersChecked += processed;
+
+        if (pendingOwners.isEmpty()) {
+            cyclesCompleted++;
+        }
+    }
+
+    private void startCycle(int checkInterval) {
+        if (cycleStartTick > 0 && tick - cycleStartTick > checkInterval) {
+            lateCycles++;
+        }
+        cycleStartTick = tick;
+        pendingOwners.addAll(mountManager.getRegistry().getOwners());
+
+        // Spread this cycle's owners evenly over the interval
+        playersPerTick = Math.max(1, (pendingOwners.size() + checkInterval - 1) / checkInterval);
+    }
+
+    /**
+     * Exact distance check for every active mount of one owner.
+     * Returns true if a distance warning is still pending afterwards.
+     */
+    boolean checkOwner(UUID ownerUuid) {
+        Player player = plugin.getServer().getPlayer(ownerUuid);
+        if (player == null || !player.isOnline()) {
+            return false;
+        }
+
+        Collection<MountRegistry.ActiveMount> activeMounts = mountManager.getRegistry().getOwnedMounts(ownerUuid);
+        if (activeMounts.isEmpty()) {
+            return false;
+        }
+        boolean warningPending = false;
+
+        // Snapshot positions once per owner
+        Location playerLocation = player.getLocation();
+        Entity vehicle = player.getVehicle();
+        UUID vehicleUuid = vehicle != null ? vehicle.getUniqueId() : null;
+
+        int maxDistance = config.getDistanceStorageMaxDistance();
+        double maxDistanceSquared = (double) maxDistance * maxDistance;
+        int gracePeriodSeconds = config.getDistanceStorageGracePeriod();
+        long gracePeriodMs = gracePeriodSeconds * 1000L;
+        long currentTime = System.currentTimeMillis();
+
+        for (MountRegistry.ActiveMount activeMount : activeMounts) {
+            mountsChecked++;
+            UUID entityUuid = activeMount.getEntityUuid();
+
+            // Skip if player is riding this mount
+            if (entityUuid.equals(vehicleUuid)) {
+                activeMount.clearDistanceWarning();
+                continue;
+            }
+
+            Entity entity = plugin.getServer().getEntity(entityUuid);
+            if (entity == null) {
+                // Entity no longer exists, clean up
+                mountManager.removeActiveMountTracking(entityUuid);
+                continue;
+            }
+
+            Location mountLocation = entity.getLocation();
+            boolean tooFar = mountLocation.getWorld() == null
+                || !mountLocation.getWorld().equals(playerLocation.getWorld())
+                || mountLocation.distanceSquared(playerLocation) > maxDistanceSquared;
+
+            if (!tooFar) {
+                // Mount is close enough, cancel any existing warning
+                activeMount.clearDistanceWarning();
+                continue;
+            }
+
+            String displayName = getDisplayName(activeMount, entity);
+
+            if (!activeMount.hasDistanceWarning()) {
+                // Start grace period
+                activeMount.startDistanceWarning(currentTime);
+                sendMessage(player, "mount_too_far_warning", displayName, String.valueOf(gracePeriodSeconds));
+                warningPending = true;
+            } else if (currentTime - activeMount.getWarningStartTime() >= gracePeriodMs) {
+                // Grace period expired, store mount
+                activeMount.clearDistanceWarning();
+                plugin.getLogger().info("Auto-storing mount '" + displayName + "' for player " + player.getName() + " due to distance (> " + maxDistance + " blocks)");
+
+                mountManager.autoStoreMount(player, entity, activeMount.getMountId()).thenAccept(stored -> {
+                    if (stored) {
+                        plugin.runSync(() -> sendMessage(player, "mount_auto_stored_distance", displayName));
+                    }
+                });
+            } else {
+                warningPending = true;
+            }
+        }
+        return warningPending;
+    }
+
+    private String getDisplayName(MountRegistry.ActiveMount activeMount, Entity entity) {
+        if (activeMount.getMountName() != null) {
+            return activeMount.getMountName();
+        }
+        return MountType.fromEntityType(entity.getType()).getDisplayName();
+    }
+
+    private void sendMessage(Player player, String messageKey, String... replacements) {
+        player.sendMessage(config.formatMessage(player, messageKey, replacements));
+    }
+
+    /**
+     * Compare the CPU cost per tick of polling against chunk-crossing tracking for the
+     * current set of active mounts. The polling pass only measures distances and has no
+     * side effects. Must be called on the main thread.
+     */
+    public DistanceBenchmark benchmark(int iterations) {
+        int checkInterval = config.getDistanceStorageCheckInterval();
+        int maxDistance = config.getDistanceStorageMaxDistance();
+        double maxDistanceSquared = (double) maxDistance * maxDistance;
+
+        int owners = 0;
+        int mounts = 0;
+        int outOfRange = 0;
+        long pollingNanos = 0L;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            owners = 0;
+            mounts = 0;
+            outOfRange = 0;
+            for (UUID ownerUuid : mountManager.getRegistry().getOwners()) {
+                Player player = plugin.getServer().getPlayer(ownerUuid);
+                if (player == null) {
+                    continue;
+                }
+                owners++;
+                Location playerLocation = player.getLocation();
+                for (MountRegistry.ActiveMount activeMount : mountManager.getRegistry().getOwnedMounts(ownerUuid)) {
+                    Entity entity = plugin.getServer().getEntity(activeMount.getEntityUuid());
+                    if (entity == null) {
+                        continue;
+                    }
+                    mounts++;
+                    if (!entity.getWorld().equals(playerLocation.getWorld())
+                            || entity.getLocation().distanceSquared(playerLocation) > maxDistanceSquared) {
+                        outOfRange++;
+                    }
+                }
+            }
+            pollingNanos += System.nanoTime() - start;
+        }
+        pollingNanos /= iterations;
+
+        long boundNanos = -1L;
+        double eventMicrosPerTick = -1.0;
+        if (tracker != null) {
+            long total = 0L;
+            for (int i = 0; i < iterations; i++) {
+                total += tracker.benchmarkBoundPass();
+            }
+            boundNanos = total / iterations;
+            eventMicrosPerTick = tracker.getStats().getAverageMicrosPerTick();
+        }
+
+        return new DistanceBenchmark(owners, mounts, outOfRange, checkInterval, pollingNanos, boundNanos,
+            ticksRun > 0 ? getStats().getAverageMicros() : -1.0, eventMicrosPerTick);
+    }
+
+    public MonitorStats getStats() {
+        return new MonitorStats(
+            ticksRun,
+            totalNanos,
+            peakNanos,
+            budgetExhaustedTicks,
+            playersChecked,
+            mountsChecked,
+            cyclesCompleted,
+            lateCycles,
+            config.getDistanceStorageTickBudgetMicros()
+        );
+    }
+
+    public static class DistanceBenchmark {
+        private final int owners;
+        private final int mounts;
+        private final int outOfRange;
+        private final int checkInterval;
+        private final long pollingPassNanos;
+        private final long boundPassNanos;
+        private final double livePollingMicrosPerTick;
+        private final double liveEventMicrosPerTick;
+
+        public DistanceBenchmark(int owners, int mounts, int outOfRange, int checkInterval, long pollingPassNanos, long boundPassNanos,
+                                 double livePollingMicrosPerTick, double liveEventMicrosPerTick) {
+            this.owners = owners;
+            this.mounts = mounts;
+            this.outOfRange = outOfRange;
+            this.checkInterval = checkInterval;
+            this.pollingPassNanos = pollingPassNanos;
+            this.boundPassNanos = boundPassNanos;
+            this.livePollingMicrosPerTick = livePollingMicrosPerTick;
+            this.liveEventMicrosPerTick = liveEventMicrosPerTick;
+        }
+
+        public int getOwners() { return owners; }
+        public int getMounts() { return mounts; }
+        public int getOutOfRange() { return outOfRange; }
+        public long getPollingPassNanos() { return pollingPassNanos; }
+        public long getBoundPassNanos() { return boundPassNanos; }
+        public double getLivePollingMicrosPerTick() { return livePollingMicrosPerTick; }
+        public double getLiveEventMicrosPerTick() { return liveEventMicrosPerTick; }
+
+        /**
+         * Polling visits every mount once per check interval.
+         */
+        public double getPollingMicrosPerTick() {
+            return pollingPassNanos / 1000.0 / checkInterval;
+        }
+
+        @Override
+        public String toString() {
+            return "DistanceBenchmark{" +
+                    "owners=" + owners +
+                    ", mounts=" + mounts +
+                    ", outOfRange=" + outOfRange +
+                    ", checkInterval=" + checkInterval +
+                    ", pollingPassNanos=" + pollingPassNanos +
+                    ", pollingMicrosPerTick=" + String.format("%.2f", getPollingMicrosPerTick()) +
+                    ", boundPassNanos=" + boundPassNanos +
+                    ", livePollingMicrosPerTick=" + String.format("%.2f", livePollingMicrosPerTick) +
+                    ", liveEventMicrosPerTick=" + String.format("%.2f", liveEventMicrosPerTick) +
+                    '}';
+        }
+    }
+
+    public static class MonitorStats {
+        private final long ticksRun;
+        private final long totalNanos;
+        private final long peakNanos;
+        private final long budgetExhaustedTicks;
+        private final long playersChecked;
+        private final long mountsChecked;
+        private final long cyclesCompleted;
+        private final long lateCycles;
+        private final int budgetMicros;
+
+        public MonitorStats(long ticksRun, long totalNanos, long peakNanos, long budgetExhaustedTicks,
+                            long playersChecked, long mountsChecked, long cyclesCompleted, long lateCycles,
+                            int budgetMicros) {
+            this.ticksRun = ticksRun;
+            this.totalNanos = totalNanos;
+            this.peakNanos = peakNanos;
+            this.budgetExhaustedTicks = budgetExhaustedTicks;
+            this.playersChecked = playersChecked;
+            this.mountsChecked = mountsChecked;
+            this.cyclesCompleted = cyclesCompleted;
+            this.lateCycles = lateCycles;
+            this.budgetMicros = budgetMicros;
+        }
+
+        public long getTicksRun() { return ticksRun; }
+        public long getPeakMicros() { return peakNanos / 1000; }
+        public long getBudgetExhaustedTicks() { return budgetExhaustedTicks; }
+        public long getPlayersChecked() { return playersChecked; }
+        public long getMountsChecked() { return mountsChecked; }
+        public long getCyclesCompleted() { return cyclesCompleted; }
+        public long getLateCycles() { return lateCycles; }
+        public int getBudgetMicros() { return budgetMicros; }
+
+        public double getAverageMicros() {
+            return ticksRun > 0 ? totalNanos / 1000.0 / ticksRun : 0.0;
+        }
+
+        public double getBudgetUsagePercent() {
+            return budgetMicros > 0 ? getAverageMicros() / budgetMicros * 100.0 : 0.0;
+        }
+
+        @Override
+        public String toString() {
+            return "MonitorStats{" +
+                    "ticksRun=" + ticksRun +
+                    ", averageMicros=" + String.format("%.2f", getAverageMicros()) +
+                    ", peakMicros=" + getPeakMicros() +
+                    ", budgetMicros=" + budgetMicros +
+                    ", budgetExhaustedTicks=" + budgetExhaustedTicks +
+                    ", playersChecked=" + playersChecked +
+                    ", mountsChecked=" + mountsChecked +
+                    ", cyclesCompleted=" + cyclesCompleted +
+                    ", lateCycles=" + lateCycles +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.simplemounts.core;
+
+import com.simplemounts.SimpleMounts;
+import com.simplemounts.data.MountType;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * First check in the listeners that see every interact and inventory click on the server.
+ * Each test uses only data that is already precomputed (enum sets and the active mount
+ * registry), so events SimpleMounts has nothing to do with are dropped before any config,
+ * permission or database work. Counts what each stage filtered and let through.
+ */
+public class EventPrefilter {
+
+    public enum Stage {
+        TAMING,
+        MOUNT_INTERACTION,
+        GUI_CLICK
+    }
+
+    // Every entity type a mount can be; an active mount is always one of these
+    private static final Set<EntityType> MOUNT_ENTITY_TYPES = EnumSet.noneOf(EntityType.class);
+
+    static {
+        for (MountType type : MountType.values()) {
+            if (type.getEntityType() != null) {
+                MOUNT_ENTITY_TYPES.add(type.getEntityType());
+            }
+        }
+    }
+
+    private final SimpleMounts plugin;
+    private final LongAdder[] filtered = new LongAdder[Stage.values().length];
+    private final LongAdder[] handled = new LongAdder[Stage.values().length];
+
+    public EventPrefilter(SimpleMounts plugin) {
+        this.plugin = plugin;
+        for (int i = 0; i < filtered.length; i++) {
+            filtered[i] = new LongAdder();
+            handled[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * A right-click can only claim if the entity is of an enabled mount type and the item
+     * in hand is of a material some taming item uses.
+     */
+    public boolean admitTaming(Entity entity, ItemStack hand) {
+        ConfigManager config = plugin.getConfigManager();
+        boolean admit = hand != null
+                && config.getTamingItemIndex().isTamingMaterial(hand.getType())
+                && config.getClaimableEntityTypes().contains(entity.getType());
+        return count(Stage.TAMING, admit);
+    }
+
+    public boolean admitMountInteraction(Entity entity) {
+        boolean admit = MOUNT_ENTITY_TYPES.contains(entity.getType())
+                && plugin.getMountManager().isActiveMount(entity.getUniqueId());
+        return count(Stage.MOUNT_INTERACTION, admit);
+    }
+
+    public boolean admitGuiClick(HumanEntity clicker) {
+        boolean admit = plugin.getGUIManager().hasActiveSessions()
+                && clicker instanceof Player
+                && plugin.getGUIManager().hasActiveSession((Player) clicker);
+        return count(Stage.GUI_CLICK, admit);
+    }
+
+    private boolean count(Stage stage, boolean admit) {
+        (admit ? handled : filtered)[stage.ordinal()].increment();
+        return admit;
+    }
+
+    public PrefilterStats getStats() {
+        Map<Stage, Long> filteredCounts = new EnumMap<>(Stage.class);
+        Map<Stage, Long> handledCounts = new EnumMap<>(Stage.class);
+        for (Stage stage : Stage.values()) {
+            filteredCounts.put(stage, filtered[stage.ordinal()].sum());
+            handledCounts.put(stage, handled[stage.ordinal()].sum());
+        }
+        return new PrefilterStats(filteredCounts, handledCounts);
+    }
+
+    public static class PrefilterStats {
+        private final Map<Stage, Long> filtered;
+        private final Map<Stage, Long> handled;
+
+        public PrefilterStats(Map<Stage, Long> filtered, Map<Stage, Long> handled) {
+            this.filtered = filtered;
+            this.handled = handled;
+        }
+
+        public long getFiltered(Stage stage) { return filtered.getOrDefault(stage, 0L); }
+        public long getHandled(Stage stage) { return handled.getOrDefault(stage, 0L); }
+
+        public long getTotalFiltered() {
+            long total = 0;
+            for (long count : filtered.values()) {
+                total += count;
+            }
+            return total;
+        }
+
+        public long getTotalHandled() {
+            long total = 0;
+            for (long count : handled.values()) {
+                total += count;
+            }
+            return total;
+        }
+
+        public double getFilterRate() {
+            long filteredTotal = getTotalFiltered();
+            long total = filteredTotal + getTotalHandled();
+            return total == 0 ? 0.0 : (double) filteredTotal / total;
+        }
+
+        @Override
+        public String toString() {
+            return "PrefilterStats{" +
+                    "filtered=" + filtered +
+                    ", handled=" + handled +
+                    '}';
+        }
+    }
+}
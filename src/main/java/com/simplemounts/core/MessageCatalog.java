@@ -0,0 +1,143 @@
+package com.simplemounts.core;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Every message compiled once per (re)load. The messages section of config.yml is the
+ * default bundle; when per-player locales are enabled, lang/&lt;locale&gt;.yml files add
+ * bundles keyed by the client language (e.g. de_de.yml) that override it key by key.
+ * Keys missing everywhere are compiled on first use from the configured fallback.
+ */
+public final class MessageCatalog {
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+    private final Map<String, MessageTemplate> defaults;
+    private final Map<String, Map<String, MessageTemplate>> locales;
+    private final Map<String, MessageTemplate> missing = new ConcurrentHashMap<>();
+    private final Function<String, String> fallback;
+
+    MessageCatalog(FileConfiguration config, File langFolder, Logger logger, Function<String, String> fallback) {
+        this.fallback = fallback;
+        this.defaults = compileSection(config.getConfigurationSection("messages"));
+        this.locales = config.getBoolean("localization.per_player_locale", false)
+                ? loadLocales(langFolder, logger) : new HashMap<>();
+    }
+
+    /**
+     * Prefixed message with positional arguments.
+     */
+    public String format(Player player, String key, String... args) {
+        StringBuilder out = buffer();
+        template(player, "prefix").render(out, args);
+        template(player, key).render(out, args);
+        return out.toString();
+    }
+
+    /**
+     * Prefixed message with named placeholders.
+     */
+    public String format(Player player, String key, Map<String, String> placeholders) {
+        StringBuilder out = buffer();
+        template(player, "prefix").render(out, placeholders);
+        template(player, key).render(out, placeholders);
+        return out.toString();
+    }
+
+    /**
+     * Colored message without the prefix, for list lines, help entries and display names.
+     */
+    public String line(Player player, String key, String... args) {
+        StringBuilder out = buffer();
+        template(player, key).render(out, args);
+        return out.toString();
+    }
+
+    public String line(Player player, String key, Map<String, String> placeholders) {
+        StringBuilder out = buffer();
+        template(player, key).render(out, placeholders);
+        return out.toString();
+    }
+
+    public int getTemplateCount() {
+        return defaults.size();
+    }
+
+    public int getLocaleCount() {
+        return locales.size();
+    }
+
+    private MessageTemplate template(Player player, String key) {
+        if (player != null && !locales.isEmpty()) {
+            Map<String, MessageTemplate> bundle = locales.get(player.getLocale().toLowerCase(Locale.ROOT));
+            if (bundle != null) {
+                MessageTemplate localized = bundle.get(key);
+                if (localized != null) {
+                    return localized;
+                }
+            }
+        }
+
+        MessageTemplate template = defaults.get(key);
+        if (template != null) {
+            return template;
+        }
+        // The fallback logs once per key; the compiled result is kept until the next reload
+        return missing.computeIfAbsent(key, k -> MessageTemplate.compile(fallback.apply(k)));
+    }
+
+    private static StringBuilder buffer() {
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+        return out;
+    }
+
+    private static Map<String, MessageTemplate> compileSection(ConfigurationSection section) {
+        Map<String, MessageTemplate> compiled = new HashMap<>();
+        if (section == null) {
+            return compiled;
+        }
+        for (String key : section.getKeys(false)) {
+            String raw = section.getString(key);
+            // An empty prefix is a valid way to turn the prefix off
+            if (raw != null && (!raw.trim().isEmpty() || key.equals("prefix"))) {
+                compiled.put(key, MessageTemplate.compile(raw));
+            }
+        }
+        return compiled;
+    }
+
+    private static Map<String, Map<String, MessageTemplate>> loadLocales(File langFolder, Logger logger) {
+        Map<String, Map<String, MessageTemplate>> loaded = new HashMap<>();
+        File[] files = langFolder.listFiles((dir, name) -> name.endsWith(".yml"));
+        if (files == null) {
+            return loaded;
+        }
+
+        for (File file : files) {
+            String locale = file.getName().substring(0, file.getName().length() - 4).toLowerCase(Locale.ROOT);
+            YamlConfiguration bundle = YamlConfiguration.loadConfiguration(file);
+            ConfigurationSection section = bundle.getConfigurationSection("messages");
+            Map<String, MessageTemplate> compiled = compileSection(section != null ? section : bundle);
+            if (!compiled.isEmpty()) {
+                loaded.put(locale, compiled);
+            }
+        }
+
+        if (!loaded.isEmpty()) {
+            logger.info("Loaded " + loaded.size() + " message locale(s): " + String.join(", ", loaded.keySet()));
+        }
+        return loaded;
+    }
+}
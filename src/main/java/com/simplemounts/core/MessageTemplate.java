@@ -0,0 +1,125 @@
+package com.simplemounts.core;
+
+import org.bukkit.ChatColor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One message compiled into literal and placeholder segments. Color codes are translated
+ * once when compiling, so rendering only appends strings. Placeholders can be filled by
+ * name or positionally; positional arguments follow the plugin's long-standing order:
+ * the first argument fills {name}, {min} and {old_name}, the second fills {limit}, {max},
+ * {grace} and {new_name}, and the third fills {type}. With a single argument {limit}
+ * takes the first.
+ */
+final class MessageTemplate {
+
+    private static final int[] NO_SLOTS = new int[0];
+
+    // literals.length == placeholders.length + 1
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int[][] slots;
+
+    private MessageTemplate(String[] literals, String[] placeholders) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+        this.slots = new int[placeholders.length][];
+        for (int i = 0; i < placeholders.length; i++) {
+            slots[i] = slotsFor(placeholders[i]);
+        }
+    }
+
+    static MessageTemplate compile(String raw) {
+        String colored = ChatColor.translateAlternateColorCodes('&', raw);
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        int start = 0;
+        int open = colored.indexOf('{');
+        while (open >= 0) {
+            int close = colored.indexOf('}', open + 1);
+            if (close < 0) {
+                break;
+            }
+            String name = colored.substring(open + 1, close);
+            if (isPlaceholderName(name)) {
+                literals.add(colored.substring(start, open));
+                placeholders.add(name);
+                start = close + 1;
+                open = colored.indexOf('{', start);
+            } else {
+                open = colored.indexOf('{', open + 1);
+            }
+        }
+        literals.add(colored.substring(start));
+
+        return new MessageTemplate(literals.toArray(new String[0]), placeholders.toArray(new String[0]));
+    }
+
+    void render(StringBuilder out, String[] args) {
+        out.append(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            String value = null;
+            for (int slot : slots[i]) {
+                if (slot < args.length) {
+                    value = args[slot];
+                    break;
+                }
+            }
+            appendValue(out, i, value);
+            out.append(literals[i + 1]);
+        }
+    }
+
+    void render(StringBuilder out, Map<String, String> values) {
+        out.append(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            appendValue(out, i, values != null ? values.get(placeholders[i]) : null);
+            out.append(literals[i + 1]);
+        }
+    }
+
+    private void appendValue(StringBuilder out, int index, String value) {
+        if (value != null) {
+            out.append(value);
+        } else {
+            // Unfilled placeholders stay visible, as they always have
+            out.append('{').append(placeholders[index]).append('}');
+        }
+    }
+
+    private static boolean isPlaceholderName(String name) {
+        if (name.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!(c >= 'a' && c <= 'z') && c != '_') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int[] slotsFor(String placeholder) {
+        switch (placeholder) {
+            case "name":
+            case "min":
+            case "old_name":
+                return new int[] {0};
+            case "limit":
+                return new int[] {1, 0};
+            case "max":
+            case "grace":
+            case "new_name":
+                return new int[] {1};
+            case "type":
+                return new int[] {2};
+            default:
+                return NO_SLOTS;
+        }
+    }
+}
@@ -1,38 +1,48 @@
 package com.simplemounts.core;
 
 import com.simplemounts.SimpleMounts;
+import com.simplemounts.api.MountChange;
+import com.simplemounts.core.DebugLogger.Category;
 import com.simplemounts.data.*;
 import com.simplemounts.serialization.MountSerializer;
-import com.simplemounts.util.PermissionUtils;
 import com.simplemounts.util.RideableDetector;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
 import org.bukkit.entity.*;
+import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
+import java.util.stream.Collectors;
 
 public class MountManager {
     
+    // How long a summon waits for a just-stored mount's snapshot to be committed
+    private static final long PENDING_STORE_WAIT_SECONDS = 10L;
+    
     private final SimpleMounts plugin;
     private final DatabaseManager database;
     private final ConfigManager config;
     private final MountSerializer serializer;
     
-    private final Map<UUID, Set<UUID>> playerActiveMounts;
-    private final Map<UUID, String> entityMountNames;
-    private final Map<UUID, Integer> entityMountIds;
-    private final Map<UUID, Long> mountDistanceWarningTime;
+    private final MountRegistry registry;
+    private final MountSpatialIndex spatialIndex;
+    private final MountOwnership ownership;
+    private final SpawnLocationFinder spawnFinder;
+    private final Map<UUID, Inventory> entityInventories;
+    private final Map<Inventory, UUID> inventoryEntities;
     
     // Rate limiting for production safety
-    private final Map<UUID, Long> lastClaimTime;
-    private final Map<UUID, Long> lastSummonTime;
-    private final Map<UUID, Integer> playerActionCount;
-    private static final long RATE_LIMIT_MS = 2000; // 2 seconds between actions
-    private static final int MAX_ACTIONS_PER_MINUTE = 30;
+    private final RateLimiter rateLimiter;
+    private final PermissionCache permissionCache;
+    private final StorageQueue storageQueue;
+    private final ActiveMountReconciler reconciler;
+    // Mounts of logged-out owners whose chunks were unloaded at the time, by entity UUID
+    private final Map<UUID, Integer> deferredStores = new ConcurrentHashMap<>();
     
     public MountManager(SimpleMounts plugin) {
         this.plugin = plugin;
@@ -40,94 +50,22 @@ public class MountManager {
         this.config = plugin.getConfigManager();
         this.serializer = new MountSerializer(plugin);
         
-        this.playerActiveMounts = new ConcurrentHashMap<>();
-        this.entityMountNames = new ConcurrentHashMap<>();
-        this.entityMountIds = new ConcurrentHashMap<>();
-        this.mountDistanceWarningTime = new ConcurrentHashMap<>();
-        this.lastClaimTime = new ConcurrentHashMap<>();
-        this.lastSummonTime = new ConcurrentHashMap<>();
-        this.playerActionCount = new ConcurrentHashMap<>();
-        
-        startCleanupTask();
-        startDistanceMonitoring();
-    }
-    
-    private void startCleanupTask() {
-        plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, () -> {
-            database.cleanupOrphanedMounts();
-        }, 6000L, 6000L); // Run every 5 minutes
-    }
-    
-    private void startDistanceMonitoring() {
-        int checkInterval = config.getDistanceStorageCheckInterval();
-        plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
-            checkMountDistances();
-        }, checkInterval, checkInterval);
-    }
-    
-    private void checkMountDistances() {
-        int maxDistance = config.getDistanceStorageMaxDistance();
-        long gracePeriodMs = config.getDistanceStorageGracePeriod() * 1000L;
-        long currentTime = System.currentTimeMillis();
-        
-        for (Map.Entry<UUID, Set<UUID>> entry : playerActiveMounts.entrySet()) {
-            UUID playerUuid = entry.getKey();
-            org.bukkit.entity.Player player = plugin.getServer().getPlayer(playerUuid);
-            
-            if (player == null || !player.isOnline()) {
-                continue;
-            }
-            
-            Set<UUID> mountUuids = new HashSet<>(entry.getValue()); // Copy to avoid concurrent modification
-            for (UUID mountUuid : mountUuids) {
-                Entity mountEntity = plugin.getServer().getEntity(mountUuid);
-                if (mountEntity == null) {
-                    continue;
-                }
-                
-                // Skip if player is riding this mount
-                if (player.getVehicle() != null && player.getVehicle().getUniqueId().equals(mountUuid)) {
-                    mountDistanceWarningTime.remove(mountUuid);
-                    continue;
-                }
-                
-                double distance = player.getLocation().distance(mountEntity.getLocation());
-                if (distance > maxDistance) {
-                    Long warningStartTime = mountDistanceWarningTime.get(mountUuid);
-                    if (warningStartTime == null) {
-                        // First time mount is too far - start grace period
-                        mountDistanceWarningTime.put(mountUuid, currentTime);
-                        String mountName = entityMountNames.get(mountUuid);
-                        sendMessage(player, "mount_too_far_warning", mountName, String.valueOf(config.getDistanceStorageGracePeriod()));
-                    } else if (currentTime - warningStartTime >= gracePeriodMs) {
-                        // Grace period expired - store the mount
-                        String mountName = entityMountNames.get(mountUuid);
-                        plugin.getLogger().info("Auto-storing mount '" + mountName + "' for player " + player.getName() + " due to distance (" + String.format("%.1f", distance) + " > " + maxDistance + " blocks)");
-                        
-                        plugin.runAsync(() -> {
-                            storeMount(player, mountName).thenAccept(stored -> {
-                                if (stored) {
-                                    plugin.runSync(() -> {
-                                        sendMessage(player, "mount_auto_stored_distance", mountName);
-                                    });
-                                }
-                            });
-                        });
-                        
-                        mountDistanceWarningTime.remove(mountUuid);
-                    }
-                } else {
-                    // Mount is within range - clear any warning
-                    mountDistanceWarningTime.remove(mountUuid);
-                }
-            }
-        }
+        this.registry = new MountRegistry();
+        this.spatialIndex = new MountSpatialIndex();
+        this.ownership = new MountOwnership(registry);
+        this.spawnFinder = new SpawnLocationFinder(plugin);
+        this.entityInventories = new ConcurrentHashMap<>();
+        this.inventoryEntities = new ConcurrentHashMap<>();
+        this.rateLimiter = new RateLimiter(config);
+        this.permissionCache = new PermissionCache(config);
+        this.storageQueue = new StorageQueue(plugin);
+        this.reconciler = new ActiveMountReconciler(plugin, this);
     }
     
     public CompletableFuture<Boolean> claimMount(Player player, Entity entity, String mountName) {
         return CompletableFuture.supplyAsync(() -> {
             // Rate limiting check
-            if (!checkRateLimit(player, "claim")) {
+            if (!checkRateLimit(player, RateLimiter.Action.CLAIM)) {
                 sendMessage(player, "rate_limit_exceeded");
                 return false;
             }
@@ -137,12 +75,12 @@ public class MountManager {
             }
             
             MountType mountType = MountType.fromEntityType(entity.getType());
-            if (!config.isMountTypeEnabled(mountType.name())) {
+            if (!config.isMountTypeEnabled(mountType)) {
                 sendMessage(player, "mount_type_disabled");
                 return false;
             }
             
-            if (!hasPermission(player, "simplemounts.claim")) {
+            if (!permissionCache.get(player).canClaim()) {
                 sendMessage(player, "no_permission");
                 return false;
             }
@@ -151,7 +89,7 @@ public class MountManager {
                 return false;
             }
             
-            if (isEntityOwnedByOtherPlayer(entity, player)) {
+            if (ownership.isOwnedByOther(entity, player)) {
                 sendMessage(player, "mount_protected");
                 return false;
             }
@@ -163,7 +101,8 @@ public class MountManager {
                 String validationError = plugin.getNameValidator().getValidationError(mountName, sanitizedMountName);
                 
                 if (validationError != null) {
-                    plugin.getLogger().info("DEBUG: Mount name validation failed: " + validationError + " (original: '" + mountName + "', sanitized: '" + sanitizedMountName + "')");
+                    final String finalSanitizedName = sanitizedMountName; // Make it final for lambda
+                    plugin.getDebugLogger().log(Category.TAMING, () -> "Mount name validation failed: " + validationError + " (original: '" + mountName + "', sanitized: '" + finalSanitizedName + "')");
                     
                     // Send appropriate error message based on validation result
                     if (validationError.contains("empty")) {
@@ -210,6 +149,7 @@ public class MountManager {
                 if (mountId > 0) {
                     tagEntityAsOwnedMount(entity, player, mountId, finalMountName);
                     trackActiveMount(player, entity, mountId, finalMountName);
+                    publishChange(MountChange.Type.CLAIMED, player.getUniqueId(), mountId, finalMountName, entity.getUniqueId());
                     
                     if (finalMountName != null && !finalMountName.trim().isEmpty()) {
                         sendMessage(player, "mount_claimed", finalMountName);
@@ -236,36 +176,15 @@ public class MountManager {
     }
     
     private void tagEntityAsOwnedMount(Entity entity, Player player, int mountId, String mountName) {
-        // Tag the entity with metadata to identify it as a SimpleMounts entity
-        entity.getPersistentDataContainer().set(
-            new org.bukkit.NamespacedKey(plugin, "simplemounts_owner"), 
-            org.bukkit.persistence.PersistentDataType.STRING, 
-            player.getUniqueId().toString()
-        );
-        entity.getPersistentDataContainer().set(
-            new org.bukkit.NamespacedKey(plugin, "simplemounts_id"), 
-            org.bukkit.persistence.PersistentDataType.INTEGER, 
-            mountId
-        );
-        if (mountName != null) {
-            entity.getPersistentDataContainer().set(
-                new org.bukkit.NamespacedKey(plugin, "simplemounts_name"), 
-                org.bukkit.persistence.PersistentDataType.STRING, 
-                mountName
-            );
-        }
+        // Tag the entity so it can be identified as a SimpleMounts entity after restarts
+        ownership.tag(entity, player.getUniqueId(), mountId, mountName);
     }
     
     private void trackActiveMount(Player player, Entity entity, int mountId, String mountName) {
         UUID playerUuid = player.getUniqueId();
         UUID entityUuid = entity.getUniqueId();
         
-        // Add to tracking maps
-        playerActiveMounts.computeIfAbsent(playerUuid, k -> ConcurrentHashMap.newKeySet()).add(entityUuid);
-        entityMountIds.put(entityUuid, mountId);
-        if (mountName != null) {
-            entityMountNames.put(entityUuid, mountName);
-        }
+        registerActiveMount(playerUuid, entity, mountId, mountName);
         
         // Add to database
         Location loc = entity.getLocation();
@@ -281,9 +200,18 @@ public class MountManager {
         );
     }
     
+    /**
+     * In-memory half of tracking; callers write the active_mounts row themselves.
+     */
+    void registerActiveMount(UUID ownerUuid, Entity entity, int mountId, String mountName) {
+        registry.register(entity.getUniqueId(), ownerUuid, mountId, mountName);
+        indexInventory(entity);
+        spatialIndex.update(entity);
+    }
+    
     public CompletableFuture<Boolean> summonMount(Player player, int mountId) {
         // Rate limiting check
-        if (!checkRateLimit(player, "summon")) {
+        if (!checkRateLimit(player, RateLimiter.Action.SUMMON)) {
             sendMessage(player, "rate_limit_exceeded");
             return CompletableFuture.completedFuture(false);
         }
@@ -292,7 +220,7 @@ public class MountManager {
         // Do database operations async
         plugin.runAsync(() -> {
             try {
-                if (!hasPermission(player, "simplemounts.summon")) {
+                if (!permissionCache.get(player).canSummon()) {
                     plugin.runSync(() -> {
                         sendMessage(player, "no_permission");
                         future.complete(false);
@@ -308,6 +236,7 @@ public class MountManager {
                     return;
                 }
                 
+                awaitPendingStores(Collections.singleton(mountId));
                 MountData mountData = database.getMountData(player.getUniqueId(), mountId).get();
                 if (mountData == null) {
                     plugin.runSync(() -> {
@@ -326,40 +255,10 @@ public class MountManager {
                             dismissPlayerMounts(player);
                         }
                         
-                        Location spawnLocation = findSafeSpawnLocation(player, mountData.getMountTypeEnum());
-                        if (spawnLocation == null) {
-                            sendMessage(player, "no_safe_location");
-                            future.complete(false);
-                            return;
-                        }
-                        
-                        Entity entity = spawnMountEntity(spawnLocation, mountData);
-                        if (entity == null) {
-                            sendMessage(player, "mount_spawn_failed");
-                            future.complete(false);
-                            return;
-                        }
-                        
-                        applyMountAttributes(entity, mountData);
-                        tagEntityAsOwnedMount(entity, player, mountId, mountData.getMountName());
-                        trackActiveMount(player, entity, mountId, mountData.getMountName());
-                        
-                        // Set custom name on the entity to show mount name
-                        if (mountData.hasName()) {
-                            entity.setCustomName(ChatColor.GOLD + mountData.getMountName());
-                            entity.setCustomNameVisible(true);
-                        }
-                        
-                        // Play summoning effects
-                        playSummoningEffects(spawnLocation, player);
-                        
-                        // Update database async
-                        plugin.runAsync(() -> {
-                            database.updateLastAccessed(player.getUniqueId(), mountId);
+                        // Search off-thread, spawn back on the main thread
+                        spawnFinder.find(player, mountData.getMountTypeEnum()).thenAccept(spawnLocation -> {
+                            plugin.runSync(() -> spawnSummonedMount(player, mountData, spawnLocation, future));
                         });
-                        
-                        sendMessage(player, "mount_summoned", mountData.getDisplayName());
-                        future.complete(true);
                     } catch (Exception e) {
                         plugin.getLogger().log(Level.SEVERE, "Error spawning mount entity", e);
                         sendMessage(player, "mount_summon_failed");
@@ -381,7 +280,7 @@ public class MountManager {
     
     public CompletableFuture<Boolean> summonMount(Player player, String mountName) {
         // Rate limiting check
-        if (!checkRateLimit(player, "summon")) {
+        if (!checkRateLimit(player, RateLimiter.Action.SUMMON)) {
             sendMessage(player, "rate_limit_exceeded");
             return CompletableFuture.completedFuture(false);
         }
@@ -390,7 +289,7 @@ public class MountManager {
         // Do database operations async
         plugin.runAsync(() -> {
             try {
-                if (!hasPermission(player, "simplemounts.summon")) {
+                if (!permissionCache.get(player).canSummon()) {
                     plugin.runSync(() -> {
                         sendMessage(player, "no_permission");
                         future.complete(false);
@@ -441,8 +340,20 @@ public class MountManager {
                     return;
                 }
                 
-                // Single mount found, summon it
-                MountData mountData = mounts.get(0);
+                // Single mount found; reload it if a store of it was still queued when it was read
+                MountData found = mounts.get(0);
+                MountData mountData = awaitPendingStores(Collections.singleton(found.getId()))
+                    ? database.getMountData(player.getUniqueId(), found.getId()).get()
+                    : found;
+                if (mountData == null) {
+                    plugin.runSync(() -> {
+                        Map<String, String> placeholders = new HashMap<>();
+                        placeholders.put("name", mountName);
+                        sendMessage(player, "mount_not_found", placeholders);
+                        future.complete(false);
+                    });
+                    return;
+                }
                 
                 // Move to main thread for entity operations
                 plugin.runSync(() -> {
@@ -451,41 +362,11 @@ public class MountManager {
                             dismissPlayerMounts(player);
                         }
                         
-                        Location spawnLocation = findSafeSpawnLocation(player, mountData.getMountTypeEnum());
-                        if (spawnLocation == null) {
-                            sendMessage(player, "no_safe_location");
-                            future.complete(false);
-                            return;
-                        }
-                        
-                        Entity entity = spawnMountEntity(spawnLocation, mountData);
-                        if (entity == null) {
-                            sendMessage(player, "mount_spawn_failed");
-                            future.complete(false);
-                            return;
-                        }
-                        
-                        applyMountAttributes(entity, mountData);
-                        tagEntityAsOwnedMount(entity, player, mountData.getId(), mountData.getMountName());
-                        trackActiveMount(player, entity, mountData.getId(), mountData.getMountName());
-                        
-                        // Set custom name on the entity to show mount name
-                        if (mountData.hasName()) {
-                            entity.setCustomName(ChatColor.GOLD + mountData.getMountName());
-                            entity.setCustomNameVisible(true);
-                        }
-                        
-                        // Play summoning effects
-                        playSummoningEffects(spawnLocation, player);
-                        
-                        // Update database async
-                        plugin.runAsync(() -> {
-                            database.updateLastAccessed(player.getUniqueId(), mountData.getId());
+                        // Search off-thread, spawn back on the main thread
+                        spawnFinder.find(player, mountData.getMountTypeEnum()).thenAccept(spawnLocation -> {
+                            plugin.runSync(() -> spawnSummonedMount(player, mountData, spawnLocation, future));
                         });
                         
-                        sendMessage(player, "mount_summoned", mountData.getDisplayName());
-                        future.complete(true);
-                        
                     } catch (Exception e) {
                         plugin.getLogger().log(Level.SEVERE, "Error summoning mount on main thread", e);
                         sendMessage(player, "mount_summon_failed");
@@ -506,45 +387,42 @@ public class MountManager {
     }
     
     public CompletableFuture<Boolean> storeCurrentMount(Player player) {
-        return CompletableFuture.supplyAsync(() -> {
-            plugin.getLogger().info("DEBUG: storeCurrentMount called for " + player.getName());
-            
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        
+        // Entity state is read and the entity removed on the main thread
+        plugin.runSync(() -> {
             if (!hasPermission(player, "simplemounts.store")) {
-                plugin.getLogger().info("DEBUG: No permission");
                 sendMessage(player, "no_permission");
-                return false;
+                future.complete(false);
+                return;
             }
             
             Entity vehicle = player.getVehicle();
-            plugin.getLogger().info("DEBUG: Vehicle: " + (vehicle != null ? vehicle.getType() : "null"));
             if (vehicle == null) {
                 sendMessage(player, "not_riding_mount");
-                return false;
+                future.complete(false);
+                return;
             }
             
-            if (!isPlayerOwnedMount(vehicle, player)) {
-                plugin.getLogger().info("DEBUG: Not player owned mount");
+            if (!ownership.isOwnedBy(vehicle, player)) {
                 sendMessage(player, "not_your_mount");
-                return false;
+                future.complete(false);
+                return;
             }
             
-            // Generate a name for the mount
-            String mountName = generateMountName(vehicle);
-            plugin.getLogger().info("DEBUG: Generated mount name: " + mountName);
-            
-            boolean result = storeEntityAsMount(player, vehicle, mountName);
-            plugin.getLogger().info("DEBUG: Storage result: " + result);
-            return result;
+            future.complete(storeEntityAsMount(player, vehicle, generateMountName(vehicle)));
         });
+        
+        return future;
     }
     
     public CompletableFuture<Boolean> storeMount(Player player, String mountName) {
         CompletableFuture<Boolean> future = new CompletableFuture<>();
         
-        plugin.getLogger().info("DEBUG: storeMount called for " + player.getName() + " with mount: " + mountName);
+        plugin.getDebugLogger().log(Category.STORAGE, () -> "storeMount called for " + player.getName() + " with mount: " + mountName);
         
         if (!hasPermission(player, "simplemounts.store")) {
-            plugin.getLogger().info("DEBUG: No permission");
+            plugin.getDebugLogger().log(Category.STORAGE, () -> "No permission");
             sendMessage(player, "no_permission");
             future.complete(false);
             return future;
@@ -552,24 +430,12 @@ public class MountManager {
         
         // Find the mount UUID first (can be done async)
         plugin.runAsync(() -> {
-            Set<UUID> activeMounts = playerActiveMounts.get(player.getUniqueId());
-            plugin.getLogger().info("DEBUG: Active mounts for player: " + (activeMounts != null ? activeMounts.size() : "null"));
-            
-            UUID targetUuid = null;
-            if (activeMounts != null) {
-                for (UUID entityUuid : activeMounts) {
-                    String activeMountName = entityMountNames.get(entityUuid);
-                    plugin.getLogger().info("DEBUG: Checking mount UUID " + entityUuid + " with name: " + activeMountName);
-                    if (mountName.equals(activeMountName)) {
-                        targetUuid = entityUuid;
-                        plugin.getLogger().info("DEBUG: Found matching UUID");
-                        break;
-                    }
-                }
-            }
+            MountRegistry.ActiveMount activeMount = registry.getByName(player.getUniqueId(), mountName);
+            UUID targetUuid = activeMount != null ? activeMount.getEntityUuid() : null;
+            plugin.getDebugLogger().log(Category.STORAGE, () -> "Active mount lookup for '" + mountName + "': " + targetUuid);
             
             if (targetUuid == null) {
-                plugin.getLogger().info("DEBUG: No matching UUID found");
+                plugin.getDebugLogger().log(Category.STORAGE, () -> "No matching UUID found");
                 plugin.runSync(() -> {
                     sendMessage(player, "mount_not_found", mountName);
                     future.complete(false);
@@ -581,37 +447,17 @@ public class MountManager {
             
             // Search for entity on main thread
             plugin.runSync(() -> {
-                Entity targetMount = null;
-                plugin.getLogger().info("DEBUG: Searching for entity on main thread...");
-                
-                // Direct search through entities
-                for (org.bukkit.World world : plugin.getServer().getWorlds()) {
-                    plugin.getLogger().info("DEBUG: Searching world: " + world.getName());
-                    for (Entity entity : world.getEntities()) {
-                        if (entity.getUniqueId().equals(finalTargetUuid)) {
-                            targetMount = entity;
-                            plugin.getLogger().info("DEBUG: Found target mount entity in world: " + world.getName());
-                            break;
-                        }
-                    }
-                    if (targetMount != null) break;
-                }
+                // Direct UUID lookup instead of scanning every loaded entity
+                Entity targetMount = plugin.getServer().getEntity(finalTargetUuid);
                 
                 if (targetMount == null) {
-                    plugin.getLogger().info("DEBUG: Target mount entity not found in any world");
+                    plugin.getDebugLogger().log(Category.STORAGE, () -> "Target mount entity not found in any world");
                     sendMessage(player, "mount_not_found", mountName);
                     future.complete(false);
                     return;
                 }
                 
-                final Entity finalTargetMount = targetMount;
-                
-                // Store the mount
-                plugin.runAsync(() -> {
-                    boolean result = storeEntityAsMount(player, finalTargetMount, mountName);
-                    plugin.getLogger().info("DEBUG: Storage result: " + result);
-                    future.complete(result);
-                });
+                future.complete(storeEntityAsMount(player, targetMount, mountName));
             });
         });
         
@@ -621,10 +467,10 @@ public class MountManager {
     public CompletableFuture<Boolean> storeMount(Player player, int mountId) {
         CompletableFuture<Boolean> future = new CompletableFuture<>();
         
-        plugin.getLogger().info("DEBUG: storeMount by ID called for " + player.getName() + " with mount ID: " + mountId);
+        plugin.getDebugLogger().log(Category.STORAGE, () -> "storeMount by ID called for " + player.getName() + " with mount ID: " + mountId);
         
         if (!hasPermission(player, "simplemounts.store")) {
-            plugin.getLogger().info("DEBUG: No permission");
+            plugin.getDebugLogger().log(Category.STORAGE, () -> "No permission");
             sendMessage(player, "no_permission");
             future.complete(false);
             return future;
@@ -632,24 +478,12 @@ public class MountManager {
         
         // Find the mount entity by ID
         plugin.runAsync(() -> {
-            Set<UUID> activeMounts = playerActiveMounts.get(player.getUniqueId());
-            plugin.getLogger().info("DEBUG: Active mounts for player: " + (activeMounts != null ? activeMounts.size() : "null"));
-            
-            UUID targetUuid = null;
-            if (activeMounts != null) {
-                for (UUID entityUuid : activeMounts) {
-                    Integer activeMountId = entityMountIds.get(entityUuid);
-                    plugin.getLogger().info("DEBUG: Checking mount UUID " + entityUuid + " with ID: " + activeMountId);
-                    if (mountId == activeMountId) {
-                        targetUuid = entityUuid;
-                        plugin.getLogger().info("DEBUG: Found matching UUID for mount ID " + mountId);
-                        break;
-                    }
-                }
-            }
+            MountRegistry.ActiveMount activeMount = registry.getByMountId(player.getUniqueId(), mountId);
+            UUID targetUuid = activeMount != null ? activeMount.getEntityUuid() : null;
+            plugin.getDebugLogger().log(Category.STORAGE, () -> "Active mount lookup for mount ID " + mountId + ": " + targetUuid);
             
             if (targetUuid == null) {
-                plugin.getLogger().info("DEBUG: No matching UUID found for mount ID " + mountId);
+                plugin.getDebugLogger().log(Category.STORAGE, () -> "No matching UUID found for mount ID " + mountId);
                 plugin.runSync(() -> {
                     Map<String, String> placeholders = new HashMap<>();
                     placeholders.put("id", String.valueOf(mountId));
@@ -663,23 +497,11 @@ public class MountManager {
             
             // Search for entity on main thread
             plugin.runSync(() -> {
-                Entity targetMount = null;
-                plugin.getLogger().info("DEBUG: Searching for entity on main thread...");
-                
-                // Direct search through entities
-                for (org.bukkit.World world : plugin.getServer().getWorlds()) {
-                    for (Entity entity : world.getEntities()) {
-                        if (entity.getUniqueId().equals(finalTargetUuid)) {
-                            targetMount = entity;
-                            plugin.getLogger().info("DEBUG: Found target mount entity in world: " + world.getName());
-                            break;
-                        }
-                    }
-                    if (targetMount != null) break;
-                }
+                // Direct UUID lookup instead of scanning every loaded entity
+                Entity targetMount = plugin.getServer().getEntity(finalTargetUuid);
                 
                 if (targetMount == null) {
-                    plugin.getLogger().info("DEBUG: Target mount entity not found in any world");
+                    plugin.getDebugLogger().log(Category.STORAGE, () -> "Target mount entity not found in any world");
                     Map<String, String> placeholders = new HashMap<>();
                     placeholders.put("id", String.valueOf(mountId));
                     sendMessage(player, "mount_not_found_with_id", placeholders);
@@ -687,118 +509,66 @@ public class MountManager {
                     return;
                 }
                 
-                final Entity finalTargetMount = targetMount;
-                
-                // Store the mount
-                plugin.runAsync(() -> {
-                    boolean result = storeEntityAsMountById(player, finalTargetMount, mountId);
-                    plugin.getLogger().info("DEBUG: Storage result: " + result);
-                    future.complete(result);
-                });
+                future.complete(storeEntityAsMountById(player, targetMount, mountId));
             });
         });
         
         return future;
     }
     
+    /**
+     * Store an already-resolved mount entity without command permission checks or chat
+     * messages; the caller sends its own. Used by automatic storage such as the distance
+     * monitor. Main thread only.
+     */
+    public CompletableFuture<Boolean> autoStoreMount(Player player, Entity entity, int mountId) {
+        return CompletableFuture.completedFuture(storeEntity(player, entity, mountId));
+    }
+    
     private boolean storeEntityAsMountById(Player player, Entity vehicle, int mountId) {
-        try {
-            plugin.getLogger().info("DEBUG: storeEntityAsMountById called with mount ID: " + mountId);
-            
-            MountType mountType = MountType.fromEntityType(vehicle.getType());
-            MountAttributes attributes = MountAttributes.fromEntity(vehicle);
-            String mountDataYaml = serializer.serializeAttributes(attributes);
-            String chestInventoryData = null;
-            
-            if (mountType.canHaveChest() && vehicle instanceof InventoryHolder) {
-                chestInventoryData = serializer.serializeChestInventory(((InventoryHolder) vehicle).getInventory());
-            }
-            
-            plugin.getLogger().info("DEBUG: About to update database for mount ID: " + mountId);
-            boolean updated = database.updateMountData(
-                mountId,
-                mountType.name(),
-                mountDataYaml,
-                chestInventoryData
-            ).get();
-            
-            plugin.getLogger().info("DEBUG: Database update result: " + updated);
-            
-            if (updated) {
-                untrackActiveMount(player, vehicle);
-                
-                // Play storing effects before removing
-                plugin.runSync(() -> {
-                    playStoringEffects(vehicle.getLocation(), player);
-                    vehicle.remove();
-                });
-                
-                sendMessage(player, "mount_stored");
-                return true;
-            } else {
-                sendMessage(player, "mount_store_failed");
-                return false;
-            }
-            
-        } catch (Exception e) {
-            plugin.getLogger().log(java.util.logging.Level.SEVERE, "Error in storeEntityAsMountById", e);
+        if (!storeEntity(player, vehicle, mountId)) {
             sendMessage(player, "mount_store_failed");
             return false;
         }
+        
+        sendMessage(player, "mount_stored");
+        return true;
     }
     
     private boolean storeEntityAsMount(Player player, Entity vehicle, String mountName) {
+        Integer mountId = getMountId(vehicle.getUniqueId());
+        if (mountId == null) {
+            plugin.getLogger().warning("Mount ID not found for entity " + vehicle.getUniqueId());
+            sendMessage(player, "mount_store_failed");
+            return false;
+        }
+        
+        if (!storeEntity(player, vehicle, mountId)) {
+            sendMessage(player, "mount_store_failed");
+            return false;
+        }
+        
+        sendMessage(player, "mount_stored", mountName);
+        return true;
+    }
+    
+    /**
+     * Snapshot one mount into the storage journal and remove it. The database commit
+     * happens in the storage queue. Main thread only.
+     */
+    private boolean storeEntity(Player player, Entity vehicle, int mountId) {
         try {
-            plugin.getLogger().info("DEBUG: storeEntityAsMount called with mount: " + mountName);
-            
-            MountType mountType = MountType.fromEntityType(vehicle.getType());
-            MountAttributes attributes = MountAttributes.fromEntity(vehicle);
-            String mountDataYaml = serializer.serializeAttributes(attributes);
-            String chestInventoryData = null;
-            
-            if (mountType.canHaveChest() && vehicle instanceof InventoryHolder) {
-                chestInventoryData = serializer.serializeChestInventory(((InventoryHolder) vehicle).getInventory());
-            }
-            
-            // Get the mount ID from the entity
-            Integer mountId = getMountId(vehicle.getUniqueId());
-            if (mountId == null) {
-                plugin.getLogger().warning("Mount ID not found for entity " + vehicle.getUniqueId());
-                sendMessage(player, "mount_store_failed");
-                return false;
-            }
-            
-            plugin.getLogger().info("DEBUG: About to update database for mount ID: " + mountId);
-            boolean updated = database.updateMountData(
-                mountId,
-                mountType.name(),
-                mountDataYaml,
-                chestInventoryData
-            ).get();
-            
-            plugin.getLogger().info("DEBUG: Database update result: " + updated);
-            
-            if (updated) {
-                untrackActiveMount(player, vehicle);
-                
-                // Play storing effects before removing
-                plugin.runSync(() -> {
-                    playStoringEffects(vehicle.getLocation(), player);
-                    vehicle.remove();
-                });
-                
-                sendMessage(player, "mount_stored", mountName);
-                return true;
-            } else {
-                sendMessage(player, "mount_store_failed");
-                return false;
-            }
-            
+            storageQueue.submit(Collections.singletonList(snapshotMount(vehicle, mountId)));
         } catch (Exception e) {
-            plugin.getLogger().log(Level.SEVERE, "Error storing mount", e);
-            sendMessage(player, "mount_store_failed");
+            plugin.getLogger().log(Level.SEVERE, "Error storing mount ID " + mountId, e);
             return false;
         }
+        
+        Location location = vehicle.getLocation();
+        forgetStoredMount(vehicle.getUniqueId());
+        vehicle.remove();
+        playStoringEffects(location, player);
+        return true;
     }
     
     private String generateMountName(Entity entity) {
@@ -843,23 +613,19 @@ public class MountManager {
                 }
                 
                 // Remove active mount if it exists
-                Set<UUID> activeMounts = playerActiveMounts.get(player.getUniqueId());
-                if (activeMounts != null) {
-                    for (UUID entityUuid : activeMounts) {
-                        Integer activeMountId = entityMountIds.get(entityUuid);
-                        if (activeMountId != null && activeMountId == mountId) {
-                            Entity entity = plugin.getServer().getEntity(entityUuid);
-                            if (entity != null) {
-                                entity.remove();
-                            }
-                            untrackActiveMount(player, entityUuid);
-                            break;
-                        }
+                MountRegistry.ActiveMount activeMount = registry.getByMountId(player.getUniqueId(), mountId);
+                if (activeMount != null) {
+                    UUID entityUuid = activeMount.getEntityUuid();
+                    Entity entity = plugin.getServer().getEntity(entityUuid);
+                    if (entity != null) {
+                        entity.remove();
                     }
+                    untrackActiveMount(player, entityUuid);
                 }
                 
                 boolean deleted = database.deleteMountData(player.getUniqueId(), mountId).get();
                 if (deleted) {
+                    publishChange(MountChange.Type.RELEASED, player.getUniqueId(), mountId, mountData.getMountName(), null);
                     sendMessage(player, "mount_released", mountData.getDisplayName());
                     return true;
                 } else {
@@ -888,245 +654,664 @@ public class MountManager {
     }
     
     public void dismissPlayerMounts(Player player) {
-        Set<UUID> activeMounts = playerActiveMounts.get(player.getUniqueId());
-        if (activeMounts != null) {
-            for (UUID entityUuid : new HashSet<>(activeMounts)) {
-                Entity entity = plugin.getServer().getEntity(entityUuid);
-                if (entity != null) {
-                    entity.remove();
-                }
-                untrackActiveMount(player, entityUuid);
+        for (UUID entityUuid : registry.getOwnedEntities(player.getUniqueId())) {
+            Entity entity = plugin.getServer().getEntity(entityUuid);
+            if (entity != null) {
+                entity.remove();
             }
+            untrackActiveMount(player, entityUuid);
         }
     }
     
+    /**
+     * Store a player's mounts for an automatic trigger (death, world change, shutdown):
+     * no chat messages or effects, unlike the store-all command.
+     */
     public void storeAllPlayerMounts(Player player) {
-        Set<UUID> activeMounts = playerActiveMounts.get(player.getUniqueId());
-        if (activeMounts != null) {
-            for (UUID entityUuid : new HashSet<>(activeMounts)) {
-                Entity entity = plugin.getServer().getEntity(entityUuid);
-                if (entity != null) {
-                    String mountName = entityMountNames.get(entityUuid);
-                    if (mountName != null) {
-                        storeMount(player, mountName);
-                    }
-                }
-            }
-        }
+        plugin.runSync(() -> storeAllPlayerMountsSync(player));
     }
     
     public void storeAllPlayerMountsSync(Player player) {
-        Set<UUID> activeMounts = playerActiveMounts.get(player.getUniqueId());
-        if (activeMounts == null || activeMounts.isEmpty()) {
-            plugin.getLogger().info("DEBUG: No active mounts found for " + player.getName());
-            return;
+        int stored = storeMountEntities(registry.getOwnedEntities(player.getUniqueId()));
+        if (stored > 0) {
+            plugin.getDebugLogger().log(Category.STORAGE, () -> "Stored " + stored + " mounts for " + player.getName());
         }
+    }
+    
+    /**
+     * Store the given active mount entities regardless of whether their owners are online.
+     * Entity state is captured and the entities removed on the calling (main) thread so this
+     * is safe right before a chunk or world goes away; database writes finish asynchronously.
+     */
+    public int storeMountEntities(Collection<UUID> entityUuids) {
+        List<DatabaseManager.MountDataUpdate> updates = new ArrayList<>();
+        List<Entity> entities = new ArrayList<>();
         
-        plugin.getLogger().info("DEBUG: Found " + activeMounts.size() + " active mounts for " + player.getName());
-        
-        // Keep track of chunks to ensure they stay loaded during storage
-        Set<org.bukkit.Chunk> chunksToKeepLoaded = new HashSet<>();
-        
-        for (UUID entityUuid : new HashSet<>(activeMounts)) {
+        for (UUID entityUuid : entityUuids) {
+            MountRegistry.ActiveMount activeMount = registry.get(entityUuid);
             Entity entity = plugin.getServer().getEntity(entityUuid);
-            if (entity != null) {
-                // Force chunk to stay loaded during storage
-                org.bukkit.Chunk chunk = entity.getLocation().getChunk();
-                if (!chunk.isLoaded()) {
-                    chunk.load();
-                }
-                chunksToKeepLoaded.add(chunk);
-                chunk.setForceLoaded(true);
-                
-                String mountName = entityMountNames.get(entityUuid);
-                if (mountName != null) {
-                    plugin.getLogger().info("DEBUG: Storing mount " + mountName + " for " + player.getName() + " at " + entity.getLocation());
-                    
-                    try {
-                        // Store mount synchronously
-                        boolean stored = storeMountSync(player, entity, mountName);
-                        if (stored) {
-                            plugin.getLogger().info("DEBUG: Successfully stored mount " + mountName);
-                        } else {
-                            plugin.getLogger().warning("DEBUG: Failed to store mount " + mountName);
-                        }
-                    } catch (Exception e) {
-                        plugin.getLogger().severe("DEBUG: Error storing mount " + mountName + ": " + e.getMessage());
-                        e.printStackTrace();
-                    }
-                } else {
-                    plugin.getLogger().warning("DEBUG: Mount name not found for entity " + entityUuid);
-                }
-            } else {
-                plugin.getLogger().warning("DEBUG: Entity not found for UUID " + entityUuid + " - may have already been unloaded");
+            if (activeMount == null || entity == null) {
+                removeActiveMountTracking(entityUuid);
+                continue;
+            }
+            
+            try {
+                updates.add(snapshotMount(entity, activeMount.getMountId()));
+                entities.add(entity);
+            } catch (Exception e) {
+                plugin.getLogger().log(java.util.logging.Level.SEVERE, "Error storing mount entity " + entityUuid, e);
             }
         }
         
-        // Allow chunks to unload after a delay
-        plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-            for (org.bukkit.Chunk chunk : chunksToKeepLoaded) {
-                chunk.setForceLoaded(false);
-            }
-        }, 20L); // 1 second delay
+        // Journaled before the entities go; committed in one batch by the storage queue
+        storageQueue.submit(updates);
+        for (Entity entity : entities) {
+            forgetStoredMount(entity.getUniqueId());
+            entity.remove();
+        }
+        
+        return entities.size();
     }
     
-    private boolean storeMountSync(Player player, Entity entity, String mountName) {
-        try {
-            MountType mountType = MountType.fromEntityType(entity.getType());
-            MountAttributes attributes = MountAttributes.fromEntity(entity);
-            String mountDataYaml = serializer.serializeAttributes(attributes);
-            String chestInventoryData = null;
-            
-            if (mountType.canHaveChest() && entity instanceof InventoryHolder) {
-                chestInventoryData = serializer.serializeChestInventory(((InventoryHolder) entity).getInventory());
-            }
-            
-            // Get the mount ID from the entity
-            Integer mountId = getMountId(entity.getUniqueId());
-            if (mountId == null) {
-                plugin.getLogger().warning("Mount ID not found for entity " + entity.getUniqueId());
-                return false;
-            }
-            
-            // Update existing mount data in database
-            boolean saved = database.updateMountData(
-                mountId,
-                mountType.name(),
-                mountDataYaml,
-                chestInventoryData
-            ).get(); // .get() makes it synchronous
-            
-            if (saved) {
-                untrackActiveMount(player, entity);
-                
-                // Play storing effects and remove entity
-                playStoringEffects(entity.getLocation(), player);
-                entity.remove();
-                
-                return true;
+    /**
+     * First phase of logout storage, on the main thread and without touching the database:
+     * snapshot every loaded mount the player owns, journal the snapshots and remove the
+     * entities. The storage queue commits them afterwards. Mounts in unloaded chunks are
+     * stored when their chunk's entities next load. Returns the number of mounts queued.
+     */
+    public int storeForLogout(Player player) {
+        UUID playerUuid = player.getUniqueId();
+        List<UUID> loaded = new ArrayList<>();
+        
+        for (MountRegistry.ActiveMount activeMount : registry.getOwnedMounts(playerUuid)) {
+            UUID entityUuid = activeMount.getEntityUuid();
+            if (plugin.getServer().getEntity(entityUuid) != null) {
+                loaded.add(entityUuid);
+            } else {
+                deferredStores.put(entityUuid, activeMount.getMountId());
             }
-            
-            return false;
-            
-        } catch (Exception e) {
-            plugin.getLogger().log(java.util.logging.Level.SEVERE, "Error in storeMountSync", e);
-            return false;
         }
+        
+        return storeMountEntities(loaded);
     }
     
-    private boolean canPlayerClaimMoreMounts(Player player, MountType mountType) {
-        try {
-            int currentCount = database.getPlayerMountCount(player.getUniqueId()).get();
-            int maxMounts = PermissionUtils.getMaxMounts(player, config);
-            
-            if (maxMounts != -1 && currentCount >= maxMounts) {
-                sendMessage(player, "mount_limit_reached", String.valueOf(maxMounts));
-                return false;
-            }
-            
-            int typeLimit = config.getTypeLimitForMount(mountType.name());
-            if (typeLimit > 0) {
-                int currentTypeCount = database.getPlayerMountCountByType(player.getUniqueId(), mountType.name()).get();
-                if (currentTypeCount >= typeLimit) {
-                    sendMessage(player, "type_limit_reached", mountType.getDisplayName());
-                    return false;
-                }
-            }
-            
-            return true;
-            
-        } catch (Exception e) {
-            plugin.getLogger().log(Level.SEVERE, "Error checking mount limits", e);
-            return false;
-        }
+    public boolean hasDeferredStore(UUID entityUuid) {
+        return deferredStores.containsKey(entityUuid);
     }
     
-    private boolean playerHasMountWithName(Player player, String mountName) {
+    /**
+     * Store a mount whose owner logged out while its chunk was unloaded. Main thread only.
+     */
+    public void storeDeferredMount(Entity entity) {
+        Integer mountId = deferredStores.remove(entity.getUniqueId());
+        if (mountId == null || !entity.isValid()) {
+            return;
+        }
+        
         try {
-            List<MountData> existing = database.getMountsByName(player.getUniqueId(), mountName).get();
-            return !existing.isEmpty();
+            storageQueue.submit(Collections.singletonList(snapshotMount(entity, mountId)));
+            forgetStoredMount(entity.getUniqueId());
+            entity.remove();
         } catch (Exception e) {
-            plugin.getLogger().log(Level.SEVERE, "Error checking mount name", e);
-            return false;
+            plugin.getLogger().log(Level.SEVERE, "Error storing deferred mount entity " + entity.getUniqueId(), e);
         }
     }
     
-    private Location findSafeSpawnLocation(Player player, MountType mountType) {
-        Location playerLoc = player.getLocation();
-        
-        // Get direction player is facing and spawn mount 2 blocks in front
-        org.bukkit.util.Vector direction = playerLoc.getDirection().normalize();
-        Location frontLocation = playerLoc.clone().add(direction.multiply(2.0));
-        
-        // Ensure mount spawns on ground level
-        org.bukkit.World world = frontLocation.getWorld();
-        int highestY = world.getHighestBlockYAt(frontLocation);
-        frontLocation.setY(highestY + 1);
+    /**
+     * Capture an entity's attributes and chest contents for saving. Must run on the main thread.
+     */
+    private DatabaseManager.MountDataUpdate snapshotMount(Entity entity, int mountId) {
+        MountType mountType = MountType.fromEntityType(entity.getType());
+        String mountDataYaml = serializer.serializeAttributes(MountAttributes.fromEntity(entity));
+        String chestInventoryData = null;
         
-        // Check if this location is safe
-        if (isSafeSpawnLocation(frontLocation, mountType)) {
-            return frontLocation;
+        if (mountType.canHaveChest() && entity instanceof InventoryHolder) {
+            chestInventoryData = serializer.serializeChestInventory(((InventoryHolder) entity).getInventory());
         }
         
-        // Fallback: try directly in front at player's Y level
-        frontLocation = playerLoc.clone().add(direction.multiply(1.5));
-        if (isSafeSpawnLocation(frontLocation, mountType)) {
-            return frontLocation;
+        return new DatabaseManager.MountDataUpdate(mountId, entity.getUniqueId(), mountDataYaml, chestInventoryData);
+    }
+    
+    /**
+     * Store every active mount the player owns. Must be called on the main thread.
+     */
+    public CompletableFuture<Integer> storeAllMounts(Player player) {
+        return storeMounts(player, registry.getOwnedEntities(player.getUniqueId()));
+    }
+    
+    /**
+     * Store a group of the player's active mounts: snapshot them all on the main thread,
+     * journal them and remove the entities in one pass, then commit every row in one batch.
+     * Completes with the number of mounts stored. Must be called on the main thread.
+     */
+    public CompletableFuture<Integer> storeMounts(Player player, Collection<UUID> entityUuids) {
+        if (!hasPermission(player, "simplemounts.store")) {
+            sendMessage(player, "no_permission");
+            return CompletableFuture.completedFuture(0);
+        }
+        
+        List<UUID> owned = new ArrayList<>();
+        for (UUID entityUuid : entityUuids) {
+            MountRegistry.ActiveMount activeMount = registry.get(entityUuid);
+            if (activeMount != null && activeMount.getOwnerUuid().equals(player.getUniqueId())) {
+                owned.add(entityUuid);
+            }
         }
         
-        // Last resort: spawn at player location slightly above
-        return playerLoc.clone().add(0, 1, 0);
+        int stored = storeMountEntities(owned);
+        if (stored == 0) {
+            sendMessage(player, "no_active_mounts");
+            return CompletableFuture.completedFuture(0);
+        }
+        
+        if (player.isOnline()) {
+            playStoringEffects(player.getLocation(), player);
+            sendMessage(player, "mounts_stored", Collections.singletonMap("count", String.valueOf(stored)));
+        }
+        return CompletableFuture.completedFuture(stored);
     }
     
-    private boolean isSafeSpawnLocation(Location location, MountType mountType) {
-        if (location.getBlock().getType().isSolid()) {
-            return false;
+    /**
+     * Summon several stored mounts at once. Each selector is a mount ID or name. Rows are
+     * loaded in one query, attributes are deserialized in parallel off-thread, and the whole
+     * group is spawned in a single main-thread pass. Completes with the number summoned.
+     */
+    public CompletableFuture<Integer> summonMounts(Player player, List<String> selectors) {
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        
+        if (!permissionCache.get(player).canSummon()) {
+            sendMessage(player, "no_permission");
+            future.complete(0);
+            return future;
         }
         
-        if (location.clone().add(0, 1, 0).getBlock().getType().isSolid()) {
-            return false;
+        int maxBatch = config.getMaxBatchSize();
+        if (selectors.size() > maxBatch) {
+            sendMessage(player, "batch_too_large", String.valueOf(maxBatch));
+            future.complete(0);
+            return future;
         }
         
-        if (mountType == MountType.STRIDER) {
-            return location.getBlock().getType().toString().contains("LAVA") || 
-                   !config.striderLavaSafety();
+        if (player.getVehicle() != null) {
+            sendMessage(player, "already_riding");
+            future.complete(0);
+            return future;
+        }
+        
+        // One token for the whole group
+        if (!checkRateLimit(player, RateLimiter.Action.SUMMON)) {
+            sendMessage(player, "rate_limit_exceeded");
+            future.complete(0);
+            return future;
+        }
+        
+        Set<Integer> mountIds = new LinkedHashSet<>();
+        Set<String> mountNames = new LinkedHashSet<>();
+        for (String selector : selectors) {
+            try {
+                mountIds.add(Integer.parseInt(selector));
+            } catch (NumberFormatException e) {
+                mountNames.add(selector);
+            }
+        }
+        
+        plugin.runAsync(() -> {
+            try {
+                List<MountData> rows = database.getMountDataBatch(player.getUniqueId(), mountIds, mountNames).get();
+                List<MountData> resolved = reloadPendingStores(player, resolveSelectors(player, selectors, rows));
+                if (resolved.isEmpty()) {
+                    future.complete(0);
+                    return;
+                }
+                
+                // Keep llamas next to each other so they can form a caravan
+                if (config.preserveLlamaCaravan()) {
+                    resolved.sort(Comparator.comparing(mountData -> mountData.getMountTypeEnum() != MountType.LLAMA));
+                }
+                
+                List<MountAttributes> attributes = resolved.parallelStream()
+                    .map(this::deserializeAttributes)
+                    .collect(Collectors.toList());
+                
+                plugin.runSync(() -> {
+                    try {
+                        if (config.autoDismissExistingMount()) {
+                            dismissPlayerMounts(player);
+                        }
+                        
+                        List<MountType> types = new ArrayList<>();
+                        for (MountData mountData : resolved) {
+                            types.add(mountData.getMountTypeEnum());
+                        }
+                        
+                        spawnFinder.findAll(player, types).thenAccept(locations -> plugin.runSync(() -> 
+                            spawnSummonedGroup(player, resolved, attributes, locations, future)));
+                    } catch (Exception e) {
+                        plugin.getLogger().log(Level.SEVERE, "Error summoning mount group", e);
+                        sendMessage(player, "mount_summon_failed");
+                        future.complete(0);
+                    }
+                });
+                
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.SEVERE, "Error loading mount group", e);
+                plugin.runSync(() -> sendMessage(player, "mount_summon_failed"));
+                future.complete(0);
+            }
+        });
+        
+        return future;
+    }
+    
+    /**
+     * Wait for any queued snapshots of these mounts to be committed, so rows read afterwards
+     * are current. Returns true if any were pending. Blocks, so only call it off-thread.
+     */
+    private boolean awaitPendingStores(Collection<Integer> mountIds) throws Exception {
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        for (int mountId : mountIds) {
+            if (storageQueue.hasPending(mountId)) {
+                pending.add(storageQueue.whenCommitted(mountId));
+            }
+        }
+        if (pending.isEmpty()) {
+            return false;
         }
         
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).get(PENDING_STORE_WAIT_SECONDS, TimeUnit.SECONDS);
         return true;
     }
     
-    private Entity spawnMountEntity(Location location, MountData mountData) {
-        MountType mountType = mountData.getMountTypeEnum();
+    /**
+     * Read the resolved mounts again if any of them had a store still queued when they were
+     * loaded, keeping selector order. Runs off-thread.
+     */
+    private List<MountData> reloadPendingStores(Player player, List<MountData> resolved) throws Exception {
+        Set<Integer> mountIds = new LinkedHashSet<>();
+        for (MountData mountData : resolved) {
+            mountIds.add(mountData.getId());
+        }
+        if (!awaitPendingStores(mountIds)) {
+            return resolved;
+        }
         
-        if (mountType.getEntityType() == null) {
-            return null;
+        Map<Integer, MountData> byId = new HashMap<>();
+        for (MountData row : database.getMountDataBatch(player.getUniqueId(), mountIds, Collections.emptySet()).get()) {
+            byId.put(row.getId(), row);
+        }
+        List<MountData> reloaded = new ArrayList<>();
+        for (int mountId : mountIds) {
+            MountData row = byId.get(mountId);
+            if (row != null) {
+                reloaded.add(row);
+            }
+        }
+        return reloaded;
+    }
+    
+    /**
+     * Match selectors against the loaded rows in selector order, reporting unknown and
+     * ambiguous names. Runs off-thread; messages are sent from the main thread.
+     */
+    private List<MountData> resolveSelectors(Player player, List<String> selectors, List<MountData> rows) {
+        Map<Integer, MountData> byId = new LinkedHashMap<>();
+        for (MountData row : rows) {
+            byId.put(row.getId(), row);
         }
         
-        Entity entity = location.getWorld().spawnEntity(location, mountType.getEntityType());
+        Map<Integer, MountData> resolved = new LinkedHashMap<>();
+        for (String selector : selectors) {
+            MountData match = null;
+            List<MountData> named = new ArrayList<>();
+            for (MountData row : rows) {
+                if (selector.equals(row.getMountName())) {
+                    named.add(row);
+                }
+            }
+            
+            if (named.size() == 1) {
+                match = named.get(0);
+            } else if (named.size() > 1) {
+                plugin.runSync(() -> {
+                    sendMessage(player, "multiple_mounts_found", selector);
+                    for (MountData mount : named) {
+                        Map<String, String> mountPlaceholders = new HashMap<>();
+                        mountPlaceholders.put("id", String.valueOf(mount.getId()));
+                        mountPlaceholders.put("type", mount.getMountTypeEnum().getDisplayName());
+                        mountPlaceholders.put("date", new java.text.SimpleDateFormat("MMM dd, yyyy").format(new java.util.Date(mount.getCreatedAt())));
+                        sendMessage(player, "mount_id_format", mountPlaceholders);
+                    }
+                });
+                continue;
+            } else {
+                try {
+                    match = byId.get(Integer.parseInt(selector));
+                } catch (NumberFormatException ignored) {
+                    // Not an ID either
+                }
+            }
+            
+            if (match == null) {
+                plugin.runSync(() -> sendMessage(player, "mount_not_found", selector));
+                continue;
+            }
+            resolved.putIfAbsent(match.getId(), match);
+        }
+        return new ArrayList<>(resolved.values());
+    }
+    
+    /**
+     * Final, main-thread pass of a group summon: spawn every mount, then record them all
+     * in one transaction.
+     */
+    private void spawnSummonedGroup(Player player, List<MountData> group, List<MountAttributes> attributes,
+                                    List<Location> locations, CompletableFuture<Integer> future) {
+        if (!player.isOnline()) {
+            future.complete(0);
+            return;
+        }
         
-        if (config.healOnSummon(mountType.getConfigKey()) && entity instanceof LivingEntity) {
-            LivingEntity living = (LivingEntity) entity;
-            living.setHealth(living.getMaxHealth());
+        List<DatabaseManager.ActiveMountRecord> records = new ArrayList<>();
+        Entity caravanHead = null;
+        
+        for (int i = 0; i < group.size(); i++) {
+            MountData mountData = group.get(i);
+            Location location = locations.get(i);
+            if (location == null) {
+                sendMessage(player, "no_safe_location");
+                continue;
+            }
+            
+            try {
+                Entity entity = spawnMountEntity(location, mountData, attributes.get(i), player.getUniqueId());
+                if (entity == null) {
+                    sendMessage(player, "mount_spawn_failed");
+                    continue;
+                }
+                
+                registerActiveMount(player.getUniqueId(), entity, mountData.getId(), mountData.getMountName());
+                publishChange(MountChange.Type.SUMMONED, player.getUniqueId(), mountData.getId(), mountData.getMountName(), entity.getUniqueId());
+                records.add(new DatabaseManager.ActiveMountRecord(entity.getUniqueId(), mountData.getId(),
+                    mountData.getMountName(), location.getWorld().getName(), location.getX(), location.getY(), location.getZ()));
+                
+                if (caravanHead == null && config.preserveLlamaCaravan() && entity instanceof Llama) {
+                    caravanHead = entity;
+                }
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.SEVERE, "Error spawning mount ID " + mountData.getId(), e);
+                sendMessage(player, "mount_spawn_failed");
+            }
+        }
+        
+        // Leading the first llama lets the rest of the group join its caravan
+        if (caravanHead != null) {
+            ((Llama) caravanHead).setLeashHolder(player);
         }
         
-        return entity;
+        if (!records.isEmpty()) {
+            playSummoningEffects(player.getLocation(), player);
+            database.addActiveMountsBatch(player.getUniqueId(), records);
+            sendMessage(player, "mounts_summoned", Collections.singletonMap("count", String.valueOf(records.size())));
+        }
+        future.complete(records.size());
     }
     
-    private void applyMountAttributes(Entity entity, MountData mountData) {
+    private boolean canPlayerClaimMoreMounts(Player player, MountType mountType) {
         try {
-            plugin.getLogger().info("DEBUG: applyMountAttributes called for " + entity.getType());
-            MountAttributes attributes = serializer.deserializeAttributes(mountData.getMountDataYaml());
-            plugin.getLogger().info("DEBUG: Deserialized attributes, applying to entity");
-            attributes.applyToEntity(entity);
+            int currentCount = database.getPlayerMountCount(player.getUniqueId()).get();
+            int maxMounts = permissionCache.get(player).getMaxMounts();
+            
+            if (maxMounts != -1 && currentCount >= maxMounts) {
+                sendMessage(player, "mount_limit_reached", String.valueOf(maxMounts));
+                return false;
+            }
+            
+            int typeLimit = config.getTypeLimitForMount(mountType);
+            if (typeLimit > 0) {
+                int currentTypeCount = database.getPlayerMountCountByType(player.getUniqueId(), mountType.name()).get();
+                if (currentTypeCount >= typeLimit) {
+                    sendMessage(player, "type_limit_reached", mountType.getDisplayName());
+                    return false;
+                }
+            }
+            
+            return true;
+            
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Error checking mount limits", e);
+            return false;
+        }
+    }
+    
+    private boolean playerHasMountWithName(Player player, String mountName) {
+        try {
+            List<MountData> existing = database.getMountsByName(player.getUniqueId(), mountName).get();
+            return !existing.isEmpty();
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Error checking mount name", e);
+            return false;
+        }
+    }
+    
+    /**
+     * Final, main-thread part of summoning once a spawn location has been found.
+     */
+    private void spawnSummonedMount(Player player, MountData mountData, Location spawnLocation, CompletableFuture<Boolean> future) {
+        try {
+            if (!player.isOnline()) {
+                future.complete(false);
+                return;
+            }
+            
+            if (spawnLocation == null) {
+                plugin.getDebugLogger().log(Category.SUMMON, () -> "No safe location near " + player.getName() + " for mount " + mountData.getId());
+                sendMessage(player, "no_safe_location");
+                future.complete(false);
+                return;
+            }
+            
+            // Attributes and ownership tags are applied before the entity enters the world
+            Entity entity = spawnMountEntity(spawnLocation, mountData, deserializeAttributes(mountData), player.getUniqueId());
+            if (entity == null) {
+                sendMessage(player, "mount_spawn_failed");
+                future.complete(false);
+                return;
+            }
+            
+            trackActiveMount(player, entity, mountData.getId(), mountData.getMountName());
+            plugin.getDebugLogger().log(Category.SUMMON, () -> "Summoned mount " + mountData.getId() + " for " + player.getName() + " at " + spawnLocation.getBlockX() + "," + spawnLocation.getBlockY() + "," + spawnLocation.getBlockZ());
+            publishChange(MountChange.Type.SUMMONED, player.getUniqueId(), mountData.getId(), mountData.getMountName(), entity.getUniqueId());
+            
+            // Play summoning effects
+            playSummoningEffects(spawnLocation, player);
+            
+            // Update database async
+            plugin.runAsync(() -> {
+                database.updateLastAccessed(player.getUniqueId(), mountData.getId());
+            });
+            
+            sendMessage(player, "mount_summoned", mountData.getDisplayName());
+            future.complete(true);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Error spawning mount entity", e);
+            sendMessage(player, "mount_summon_failed");
+            future.complete(false);
+        }
+    }
+    
+    private Entity spawnMountEntity(Location location, MountData mountData, MountAttributes attributes, UUID ownerUuid) {
+        MountType mountType = mountData.getMountTypeEnum();
+        
+        if (mountType.getEntityType() == null || mountType.getEntityType().getEntityClass() == null) {
+            return null;
+        }
+        
+        return location.getWorld().spawn(location, mountType.getEntityType().getEntityClass(),
+            entity -> configureMountEntity(entity, mountData, attributes, ownerUuid));
+    }
+    
+    private MountAttributes deserializeAttributes(MountData mountData) {
+        try {
+            return serializer.deserializeAttributes(mountData.getMountDataYaml());
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "Error deserializing mount attributes for mount ID " + mountData.getId(), e);
+            return null;
+        }
+    }
+    
+    /**
+     * Apply stored state to a mount entity. Called from the spawn consumer, before the
+     * entity is added to the world, so clients receive it with the initial spawn.
+     */
+    private void configureMountEntity(Entity entity, MountData mountData, MountAttributes attributes, UUID ownerUuid) {
+        MountType mountType = mountData.getMountTypeEnum();
+        
+        try {
+            if (attributes != null) {
+                attributes.applyToEntity(entity);
+            }
             
             if (mountData.hasChestInventory() && entity instanceof InventoryHolder) {
                 serializer.deserializeChestInventory(mountData.getChestInventoryData(), 
                     ((InventoryHolder) entity).getInventory());
             }
-            
         } catch (Exception e) {
             plugin.getLogger().log(Level.WARNING, "Error applying mount attributes", e);
         }
+        
+        // After attributes so the restored max health is used
+        if (config.healOnSummon(mountType) && entity instanceof LivingEntity) {
+            LivingEntity living = (LivingEntity) entity;
+            living.setHealth(living.getMaxHealth());
+        }
+        
+        if (ownerUuid != null) {
+            ownership.tag(entity, ownerUuid, mountData.getId(), mountData.getMountName());
+        }
+        
+        // Set custom name on the entity to show mount name
+        if (mountData.hasName()) {
+            entity.setCustomName(ChatColor.GOLD + mountData.getMountName());
+            entity.setCustomNameVisible(true);
+        }
+    }
+    
+    /**
+     * Spawn a throwaway copy of a stored mount both ways (spawn then configure, and
+     * configure inside the spawn consumer), timing each and counting the entity events
+     * fired for it. Must be called on the main thread.
+     */
+    public SpawnBenchmark benchmarkSpawn(Location location, MountData mountData) {
+        MountType mountType = mountData.getMountTypeEnum();
+        if (mountType.getEntityType() == null || mountType.getEntityType().getEntityClass() == null) {
+            return null;
+        }
+        
+        MountAttributes attributes = deserializeAttributes(mountData);
+        
+        SpawnEventCounter counter = new SpawnEventCounter();
+        plugin.getServer().getPluginManager().registerEvents(counter, plugin);
+        try {
+            // Legacy: insert, then configure
+            long start = System.nanoTime();
+            Entity legacy = location.getWorld().spawnEntity(location, mountType.getEntityType());
+            counter.target = legacy.getUniqueId();
+            configureMountEntity(legacy, mountData, attributes, null);
+            long legacyNanos = System.nanoTime() - start;
+            int legacyEvents = counter.count;
+            legacy.remove();
+            
+            // Pre-configured: configure inside the spawn consumer
+            counter.count = 0;
+            counter.target = null;
+            start = System.nanoTime();
+            Entity preconfigured = location.getWorld().spawn(location, mountType.getEntityType().getEntityClass(),
+                entity -> {
+                    counter.target = entity.getUniqueId();
+                    configureMountEntity(entity, mountData, attributes, null);
+                });
+            long preconfiguredNanos = System.nanoTime() - start;
+            int preconfiguredEvents = counter.count;
+            preconfigured.remove();
+            
+            return new SpawnBenchmark(mountType, legacyEvents, preconfiguredEvents, legacyNanos, preconfiguredNanos);
+        } finally {
+            org.bukkit.event.HandlerList.unregisterAll(counter);
+        }
+    }
+    
+    /**
+     * Counts events fired for one entity while a spawn benchmark runs.
+     */
+    private static class SpawnEventCounter implements org.bukkit.event.Listener {
+        private UUID target;
+        private int count;
+        
+        private void record(Entity entity) {
+            // The legacy spawn event fires before the target is known
+            if (target == null || target.equals(entity.getUniqueId())) {
+                count++;
+            }
+        }
+        
+        @org.bukkit.event.EventHandler(priority = org.bukkit.event.EventPriority.MONITOR)
+        public void onSpawn(org.bukkit.event.entity.EntitySpawnEvent event) {
+            record(event.getEntity());
+        }
+        
+        @org.bukkit.event.EventHandler(priority = org.bukkit.event.EventPriority.MONITOR)
+        public void onRegainHealth(org.bukkit.event.entity.EntityRegainHealthEvent event) {
+            record(event.getEntity());
+        }
+        
+        @org.bukkit.event.EventHandler(priority = org.bukkit.event.EventPriority.MONITOR)
+        public void onPotionEffect(org.bukkit.event.entity.EntityPotionEffectEvent event) {
+            record(event.getEntity());
+        }
+        
+        @org.bukkit.event.EventHandler(priority = org.bukkit.event.EventPriority.MONITOR)
+        public void onTame(org.bukkit.event.entity.EntityTameEvent event) {
+            record(event.getEntity());
+        }
+        
+        @org.bukkit.event.EventHandler(priority = org.bukkit.event.EventPriority.MONITOR)
+        public void onVehicleCreate(org.bukkit.event.vehicle.VehicleCreateEvent event) {
+            record(event.getVehicle());
+        }
+    }
+    
+    public static class SpawnBenchmark {
+        private final MountType mountType;
+        private final int legacyEvents;
+        private final int preconfiguredEvents;
+        private final long legacyNanos;
+        private final long preconfiguredNanos;
+        
+        public SpawnBenchmark(MountType mountType, int legacyEvents, int preconfiguredEvents, long legacyNanos,
+                              long preconfiguredNanos) {
+            this.mountType = mountType;
+            this.legacyEvents = legacyEvents;
+            this.preconfiguredEvents = preconfiguredEvents;
+            this.legacyNanos = legacyNanos;
+            this.preconfiguredNanos = preconfiguredNanos;
+        }
+        
+        public MountType getMountType() { return mountType; }
+        public int getLegacyEvents() { return legacyEvents; }
+        public int getPreconfiguredEvents() { return preconfiguredEvents; }
+        public long getLegacyNanos() { return legacyNanos; }
+        public long getPreconfiguredNanos() { return preconfiguredNanos; }
+        
+        @Override
+        public String toString() {
+            return "SpawnBenchmark{" +
+                    "mountType=" + mountType +
+                    ", legacyEvents=" + legacyEvents +
+                    ", preconfiguredEvents=" + preconfiguredEvents +
+                    ", legacyNanos=" + legacyNanos +
+                    ", preconfiguredNanos=" + preconfiguredNanos +
+                    '}';
+        }
     }
     
     private void tagEntityAsOwnedMount(Entity entity, Player owner, String mountName) {
@@ -1147,36 +1332,13 @@ public class MountManager {
     }
     
     private void untrackActiveMount(Player player, UUID entityUuid) {
-        Set<UUID> activeMounts = playerActiveMounts.get(player.getUniqueId());
-        if (activeMounts != null) {
-            activeMounts.remove(entityUuid);
-            if (activeMounts.isEmpty()) {
-                playerActiveMounts.remove(player.getUniqueId());
-            }
-        }
-        
-        entityMountNames.remove(entityUuid);
-        entityMountIds.remove(entityUuid);
+        registry.unregister(entityUuid);
+        unindexInventory(entityUuid);
+        spatialIndex.remove(entityUuid);
+        ownership.invalidate(entityUuid);
         database.removeActiveMount(entityUuid);
     }
     
-    private boolean isPlayerOwnedMount(Entity entity, Player player) {
-        org.bukkit.NamespacedKey ownerKey = new org.bukkit.NamespacedKey(plugin, "simplemounts_owner");
-        String ownerUuid = entity.getPersistentDataContainer().get(ownerKey, org.bukkit.persistence.PersistentDataType.STRING);
-        
-        return ownerUuid != null && ownerUuid.equals(player.getUniqueId().toString());
-    }
-    
-    private boolean isEntityOwnedByOtherPlayer(Entity entity, Player player) {
-        org.bukkit.NamespacedKey ownerKey = new org.bukkit.NamespacedKey(plugin, "simplemounts_owner");
-        String ownerUuid = entity.getPersistentDataContainer().get(ownerKey, org.bukkit.persistence.PersistentDataType.STRING);
-        
-        if (ownerUuid != null) {
-            return !ownerUuid.equals(player.getUniqueId().toString());
-        }
-        return false;
-    }
-    
     private boolean isValidMountName(String name) {
         if (name == null || name.trim().isEmpty()) {
             return false;
@@ -1224,50 +1386,104 @@ public class MountManager {
     }
     
     private void sendMessage(Player player, String messageKey, String... replacements) {
-        Map<String, String> placeholders = new HashMap<>();
-        if (replacements.length > 0) {
-            placeholders.put("name", replacements[0]);
-            placeholders.put("limit", replacements[0]);
-            placeholders.put("min", replacements[0]);
-            if (replacements.length > 1) {
-                placeholders.put("limit", replacements[1]);
-                placeholders.put("max", replacements[1]);
-                placeholders.put("grace", replacements[1]);
-                if (replacements.length > 2) {
-                    placeholders.put("type", replacements[2]);
-                }
-            }
-        }
-        sendMessage(player, messageKey, placeholders);
+        player.sendMessage(config.formatMessage(player, messageKey, replacements));
     }
     
     private void sendMessage(Player player, String messageKey, Map<String, String> placeholders) {
-        String message = config.getMessage(messageKey);
-        String prefix = config.getMessagePrefix();
-        
-        if (placeholders != null) {
-            for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-                message = message.replace("{" + entry.getKey() + "}", entry.getValue());
-            }
-        }
-        
-        player.sendMessage(ChatColor.translateAlternateColorCodes('&', prefix + message));
+        player.sendMessage(config.formatMessage(player, messageKey, placeholders));
     }
     
     public Set<UUID> getPlayerActiveMounts(UUID playerUuid) {
-        return playerActiveMounts.getOrDefault(playerUuid, new HashSet<>());
+        return registry.getOwnedEntities(playerUuid);
     }
     
     public String getMountName(UUID entityUuid) {
-        return entityMountNames.get(entityUuid);
+        MountRegistry.ActiveMount activeMount = registry.get(entityUuid);
+        return activeMount != null ? activeMount.getMountName() : null;
     }
     
     public Integer getMountId(UUID entityUuid) {
-        return entityMountIds.get(entityUuid);
+        MountRegistry.ActiveMount activeMount = registry.get(entityUuid);
+        return activeMount != null ? activeMount.getMountId() : null;
+    }
+    
+    public UUID getMountOwner(UUID entityUuid) {
+        MountRegistry.ActiveMount activeMount = registry.get(entityUuid);
+        return activeMount != null ? activeMount.getOwnerUuid() : null;
+    }
+    
+    public UUID getEntityForInventory(Inventory inventory) {
+        return inventory != null ? inventoryEntities.get(inventory) : null;
+    }
+    
+    private void indexInventory(Entity entity) {
+        if (entity instanceof InventoryHolder) {
+            Inventory inventory = ((InventoryHolder) entity).getInventory();
+            if (inventory != null) {
+                entityInventories.put(entity.getUniqueId(), inventory);
+                inventoryEntities.put(inventory, entity.getUniqueId());
+            }
+        }
+    }
+    
+    private void unindexInventory(UUID entityUuid) {
+        Inventory inventory = entityInventories.remove(entityUuid);
+        if (inventory != null) {
+            inventoryEntities.remove(inventory, entityUuid);
+        }
     }
     
     public boolean isActiveMount(UUID entityUuid) {
-        return entityUuid != null && entityMountNames.containsKey(entityUuid);
+        return registry.contains(entityUuid);
+    }
+    
+    /**
+     * Write the current position of any active mounts among these entities to active_mounts.
+     * Called as their chunk unloads, since the row is otherwise only written on spawn and
+     * dismount and a mount that wandered would be looked for in the wrong chunk after a restart.
+     */
+    public void recordActiveMountLocations(Collection<Entity> entities) {
+        List<DatabaseManager.ActiveMountRecord> records = new ArrayList<>();
+        for (Entity entity : entities) {
+            MountRegistry.ActiveMount activeMount = registry.get(entity.getUniqueId());
+            if (activeMount == null) {
+                continue;
+            }
+            Location location = entity.getLocation();
+            records.add(new DatabaseManager.ActiveMountRecord(entity.getUniqueId(), activeMount.getMountId(),
+                activeMount.getMountName(), location.getWorld().getName(), location.getX(), location.getY(), location.getZ()));
+        }
+        if (!records.isEmpty()) {
+            database.updateActiveMountLocations(records);
+        }
+    }
+    
+    public MountRegistry getRegistry() {
+        return registry;
+    }
+    
+    public MountSpatialIndex getSpatialIndex() {
+        return spatialIndex;
+    }
+    
+    public MountOwnership getOwnership() {
+        return ownership;
+    }
+    
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+    
+    public PermissionCache getPermissionCache() {
+        return permissionCache;
+    }
+    
+    public StorageQueue getStorageQueue() {
+        return storageQueue;
+    }
+    
+    public ActiveMountReconciler getReconciler() {
+        return reconciler;
     }
     
     public boolean isMountActive(Player player, String mountName) {
@@ -1275,26 +1491,11 @@ public class MountManager {
             return false; // Unnamed mounts can't be checked by name
         }
         
-        Set<UUID> activeMounts = playerActiveMounts.get(player.getUniqueId());
-        if (activeMounts == null) {
-            return false;
-        }
-        
-        return activeMounts.stream()
-            .anyMatch(uuid -> mountName.equals(entityMountNames.get(uuid)));
+        return registry.getByName(player.getUniqueId(), mountName) != null;
     }
     
     public boolean isMountActive(Player player, int mountId) {
-        Set<UUID> activeMounts = playerActiveMounts.get(player.getUniqueId());
-        if (activeMounts == null) {
-            return false;
-        }
-        
-        return activeMounts.stream()
-            .anyMatch(uuid -> {
-                Integer entityMountId = entityMountIds.get(uuid);
-                return entityMountId != null && entityMountId == mountId;
-            });
+        return registry.getByMountId(player.getUniqueId(), mountId) != null;
     }
     
     public CompletableFuture<Boolean> renameMount(Player player, int mountId, String newName) {
@@ -1304,6 +1505,11 @@ public class MountManager {
                 return false;
             }
             
+            if (!checkRateLimit(player, RateLimiter.Action.RENAME)) {
+                sendMessage(player, "rate_limit_exceeded");
+                return false;
+            }
+            
             try {
                 MountData mountData = database.getMountData(player.getUniqueId(), mountId).get();
                 if (mountData == null) {
@@ -1315,42 +1521,36 @@ public class MountManager {
                 
                 boolean updated = database.updateMountName(player.getUniqueId(), mountId, newName).get();
                 if (updated) {
+                    publishChange(MountChange.Type.RENAMED, player.getUniqueId(), mountId, newName, null);
+                    
                     // Update active mount name if it's currently active
-                    Set<UUID> activeMounts = playerActiveMounts.get(player.getUniqueId());
-                    if (activeMounts != null) {
-                        for (UUID entityUuid : activeMounts) {
-                            Integer activeMountId = entityMountIds.get(entityUuid);
-                            if (activeMountId != null && activeMountId == mountId) {
-                                if (newName != null && !newName.trim().isEmpty()) {
-                                    entityMountNames.put(entityUuid, newName);
+                    MountRegistry.ActiveMount activeMount = registry.getByMountId(player.getUniqueId(), mountId);
+                    if (activeMount != null) {
+                        final UUID entityUuid = activeMount.getEntityUuid();
+                        registry.rename(entityUuid, newName);
+                        
+                        // Update entity custom name on main thread
+                        final String finalNewName = newName;
+                        plugin.runSync(() -> {
+                            Entity entity = plugin.getServer().getEntity(entityUuid);
+                            if (entity != null) {
+                                if (finalNewName != null && !finalNewName.trim().isEmpty()) {
+                                    entity.setCustomName(ChatColor.GOLD + finalNewName);
+                                    entity.setCustomNameVisible(true);
                                 } else {
-                                    entityMountNames.remove(entityUuid);
+                                    entity.setCustomName(null);
+                                    entity.setCustomNameVisible(false);
                                 }
-                                
-                                // Update entity custom name on main thread
-                                final UUID finalEntityUuid = entityUuid;
-                                final String finalNewName = newName;
-                                plugin.runSync(() -> {
-                                    Entity entity = plugin.getServer().getEntity(finalEntityUuid);
-                                    if (entity != null) {
-                                        if (finalNewName != null && !finalNewName.trim().isEmpty()) {
-                                            entity.setCustomName(ChatColor.GOLD + finalNewName);
-                                            entity.setCustomNameVisible(true);
-                                        } else {
-                                            entity.setCustomName(null);
-                                            entity.setCustomNameVisible(false);
-                                        }
-                                    }
-                                });
-                                break;
                             }
-                        }
+                        });
                     }
                     
                     Map<String, String> placeholders = new HashMap<>();
                     placeholders.put("old_name", mountData.getDisplayName());
                     placeholders.put("new_name", newName != null && !newName.trim().isEmpty() ? 
-                        newName : config.getMessage("unnamed_mount_display").replace("{type}", mountData.getMountTypeEnum().getDisplayName()).replace("{id}", String.valueOf(mountId)));
+                        newName : config.formatLine(player, "unnamed_mount_display", Map.of(
+                            "type", mountData.getMountTypeEnum().getDisplayName(),
+                            "id", String.valueOf(mountId))));
                     sendMessage(player, "mount_renamed", placeholders);
                     return true;
                 } else {
@@ -1367,154 +1567,211 @@ public class MountManager {
     }
     
     // Rate limiting methods for production safety
-    private boolean checkRateLimit(Player player, String action) {
-        UUID playerUuid = player.getUniqueId();
-        long currentTime = System.currentTimeMillis();
-        
-        // Check action-specific rate limits
-        Map<UUID, Long> actionMap = "claim".equals(action) ? lastClaimTime : lastSummonTime;
-        Long lastActionTime = actionMap.get(playerUuid);
+    private boolean checkRateLimit(Player player, RateLimiter.Action action) {
+        return rateLimiter.tryAcquire(player.getUniqueId(), action);
+    }
+    
+    /**
+     * Remove tracking for a specific mount entity
+     */
+    public void removeActiveMountTracking(UUID entityUuid) {
+        forgetActiveMount(entityUuid);
         
-        if (lastActionTime != null && (currentTime - lastActionTime) < RATE_LIMIT_MS) {
-            plugin.getLogger().info("Rate limit: Player " + player.getName() + " attempted " + action + " too quickly");
-            return false;
+        // Remove from database
+        database.removeActiveMount(entityUuid);
+    }
+    
+    /**
+     * In-memory half of untracking; the active_mounts row is left to the caller.
+     */
+    void forgetActiveMount(UUID entityUuid) {
+        // Owner, name and id indexes are removed together
+        registry.unregister(entityUuid);
+        unindexInventory(entityUuid);
+        spatialIndex.remove(entityUuid);
+        ownership.invalidate(entityUuid);
+    }
+    
+    private void forgetStoredMount(UUID entityUuid) {
+        MountRegistry.ActiveMount activeMount = registry.get(entityUuid);
+        forgetActiveMount(entityUuid);
+        if (activeMount != null) {
+            publishChange(MountChange.Type.STORED, activeMount.getOwnerUuid(), activeMount.getMountId(),
+                activeMount.getMountName(), entityUuid);
+        }
+    }
+    
+    private void publishChange(MountChange.Type type, UUID ownerUuid, int mountId, String mountName, UUID entityUuid) {
+        plugin.getMountService().publish(type, ownerUuid, mountId, mountName, entityUuid);
+    }
+    
+    /**
+     * Time direct UUID lookups against a full scan of every loaded entity for
+     * all active mounts. Must be called on the main thread.
+     */
+    public LookupBenchmark benchmarkEntityLookup(int iterations) {
+        List<UUID> targets = new ArrayList<>();
+        for (MountRegistry.ActiveMount activeMount : registry.getAll()) {
+            targets.add(activeMount.getEntityUuid());
         }
         
-        // Check overall action count per minute
-        Integer actionCount = playerActionCount.get(playerUuid);
-        if (actionCount == null) {
-            actionCount = 0;
+        int loadedEntities = 0;
+        for (org.bukkit.World world : plugin.getServer().getWorlds()) {
+            loadedEntities += world.getEntities().size();
         }
         
-        if (actionCount >= MAX_ACTIONS_PER_MINUTE) {
-            plugin.getLogger().info("Rate limit: Player " + player.getName() + " exceeded max actions per minute");
-            return false;
+        if (targets.isEmpty() || iterations < 1) {
+            return new LookupBenchmark(loadedEntities, 0, 0L, 0L);
         }
         
-        // Update counters
-        actionMap.put(playerUuid, currentTime);
-        playerActionCount.put(playerUuid, actionCount + 1);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            for (UUID uuid : targets) {
+                plugin.getServer().getEntity(uuid);
+            }
+        }
+        long directNanos = System.nanoTime() - start;
         
-        // Schedule counter reset (cleanup old entries every minute)
-        plugin.runSyncDelayed(() -> {
-            Integer count = playerActionCount.get(playerUuid);
-            if (count != null && count > 0) {
-                playerActionCount.put(playerUuid, Math.max(0, count - 1));
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            for (UUID uuid : targets) {
+                scanWorldsForEntity(uuid);
             }
-        }, 1200L); // 60 seconds in ticks
+        }
+        long scanNanos = System.nanoTime() - start;
         
-        return true;
+        int lookups = iterations * targets.size();
+        return new LookupBenchmark(loadedEntities, lookups, directNanos / lookups, scanNanos / lookups);
     }
     
     /**
-     * Check distance-based storage for a player
+     * Time the main-thread part of storing every active mount (finding the entity, then
+     * snapshotting it) with direct UUID lookup and with a full world scan, as the loaded
+     * entity count grows. Temporary marker entities are spawned at the location in steps up
+     * to maxFiller and removed afterwards; nothing is journaled, written or despawned.
+     * Returns an empty list if there are no active mounts. Must be called on the main thread.
      */
-    public void checkDistanceStorage(Player player) {
-        Set<UUID> activeMounts = playerActiveMounts.get(player.getUniqueId());
-        if (activeMounts == null || activeMounts.isEmpty()) {
-            return;
+    public List<StoreSweepStep> benchmarkStoreSweep(Location location, int maxFiller) {
+        List<StoreSweepStep> steps = new ArrayList<>();
+        List<MountRegistry.ActiveMount> targets = new ArrayList<>(registry.getAll());
+        if (targets.isEmpty()) {
+            return steps;
         }
         
-        double maxDistance = config.getDistanceStorageMaxDistance();
-        int gracePeriod = config.getDistanceStorageGracePeriod() * 1000; // Convert to milliseconds
-        long currentTime = System.currentTimeMillis();
-        
-        for (UUID entityUuid : new HashSet<>(activeMounts)) {
-            Entity entity = plugin.getServer().getEntity(entityUuid);
-            if (entity == null) {
-                // Entity no longer exists, clean up
-                removeActiveMountTracking(entityUuid);
-                continue;
-            }
-            
-            // Check if entity is in the same world as player
-            if (!entity.getWorld().equals(player.getWorld())) {
-                // Different world, consider for auto-storage
-                Long warningStartTime = mountDistanceWarningTime.get(entityUuid);
-                if (warningStartTime == null) {
-                    // Start grace period
-                    mountDistanceWarningTime.put(entityUuid, currentTime);
-                    String mountName = entityMountNames.get(entityUuid);
-                    if (mountName != null) {
-                        sendMessage(player, config.getMessage("mount_too_far_warning")
-                            .replace("{name}", mountName)
-                            .replace("{grace}", String.valueOf(gracePeriod / 1000)));
+        int[] fillerCounts = {0, maxFiller / 8, maxFiller / 4, maxFiller / 2, maxFiller};
+        List<Entity> filler = new ArrayList<>();
+        try {
+            for (int fillerCount : fillerCounts) {
+                while (filler.size() < fillerCount) {
+                    filler.add(location.getWorld().spawn(location, Marker.class));
+                }
+                
+                int loadedEntities = 0;
+                for (org.bukkit.World world : plugin.getServer().getWorlds()) {
+                    loadedEntities += world.getEntities().size();
+                }
+                
+                int stores = 0;
+                long start = System.nanoTime();
+                for (MountRegistry.ActiveMount target : targets) {
+                    Entity entity = plugin.getServer().getEntity(target.getEntityUuid());
+                    if (entity != null) {
+                        snapshotMount(entity, target.getMountId());
+                        stores++;
                     }
-                } else if (currentTime - warningStartTime >= gracePeriod) {
-                    // Grace period expired, store mount
-                    String mountName = entityMountNames.get(entityUuid);
-                    if (mountName != null) {
-                        plugin.runSync(() -> {
-                            try {
-                                boolean stored = storeMountSync(player, entity, mountName);
-                                if (stored) {
-                                    sendMessage(player, config.getMessage("mount_auto_stored_distance")
-                                        .replace("{name}", mountName));
-                                }
-                            } catch (Exception e) {
-                                plugin.getLogger().warning("Error auto-storing mount " + mountName + " for " + player.getName() + ": " + e.getMessage());
-                            }
-                        });
+                }
+                long directNanos = System.nanoTime() - start;
+                
+                start = System.nanoTime();
+                for (MountRegistry.ActiveMount target : targets) {
+                    Entity entity = scanWorldsForEntity(target.getEntityUuid());
+                    if (entity != null) {
+                        snapshotMount(entity, target.getMountId());
                     }
-                    mountDistanceWarningTime.remove(entityUuid);
                 }
-                continue;
+                long scanNanos = System.nanoTime() - start;
+                
+                if (stores == 0) {
+                    break;
+                }
+                steps.add(new StoreSweepStep(loadedEntities, stores, directNanos / stores, scanNanos / stores));
             }
-            
-            // Check distance in same world
-            double distance = entity.getLocation().distance(player.getLocation());
-            if (distance > maxDistance) {
-                Long warningStartTime = mountDistanceWarningTime.get(entityUuid);
-                if (warningStartTime == null) {
-                    // Start grace period
-                    mountDistanceWarningTime.put(entityUuid, currentTime);
-                    String mountName = entityMountNames.get(entityUuid);
-                    if (mountName != null) {
-                        sendMessage(player, config.getMessage("mount_too_far_warning")
-                            .replace("{name}", mountName)
-                            .replace("{grace}", String.valueOf(gracePeriod / 1000)));
-                    }
-                } else if (currentTime - warningStartTime >= gracePeriod) {
-                    // Grace period expired, store mount
-                    String mountName = entityMountNames.get(entityUuid);
-                    if (mountName != null) {
-                        plugin.runSync(() -> {
-                            try {
-                                boolean stored = storeMountSync(player, entity, mountName);
-                                if (stored) {
-                                    sendMessage(player, config.getMessage("mount_auto_stored_distance")
-                                        .replace("{name}", mountName));
-                                }
-                            } catch (Exception e) {
-                                plugin.getLogger().warning("Error auto-storing mount " + mountName + " for " + player.getName() + ": " + e.getMessage());
-                            }
-                        });
-                    }
-                    mountDistanceWarningTime.remove(entityUuid);
+        } finally {
+            for (Entity entity : filler) {
+                entity.remove();
+            }
+        }
+        return steps;
+    }
+    
+    private Entity scanWorldsForEntity(UUID entityUuid) {
+        // The lookup strategy storeMount used before direct UUID lookup; kept for benchmarking only
+        for (org.bukkit.World world : plugin.getServer().getWorlds()) {
+            for (Entity entity : world.getEntities()) {
+                if (entity.getUniqueId().equals(entityUuid)) {
+                    return entity;
                 }
-            } else {
-                // Mount is close enough, cancel any existing warning
-                mountDistanceWarningTime.remove(entityUuid);
             }
         }
+        return null;
     }
     
-    /**
-     * Remove tracking for a specific mount entity
-     */
-    private void removeActiveMountTracking(UUID entityUuid) {
-        // Find and remove from player active mounts
-        for (Set<UUID> mounts : playerActiveMounts.values()) {
-            mounts.remove(entityUuid);
+    public static class LookupBenchmark {
+        private final int loadedEntities;
+        private final int lookups;
+        private final long directNanosPerLookup;
+        private final long scanNanosPerLookup;
+        
+        public LookupBenchmark(int loadedEntities, int lookups, long directNanosPerLookup, long scanNanosPerLookup) {
+            this.loadedEntities = loadedEntities;
+            this.lookups = lookups;
+            this.directNanosPerLookup = directNanosPerLookup;
+            this.scanNanosPerLookup = scanNanosPerLookup;
         }
         
-        // Remove from entity tracking maps
-        entityMountNames.remove(entityUuid);
-        entityMountIds.remove(entityUuid);
-        mountDistanceWarningTime.remove(entityUuid);
+        public int getLoadedEntities() { return loadedEntities; }
+        public int getLookups() { return lookups; }
+        public long getDirectNanosPerLookup() { return directNanosPerLookup; }
+        public long getScanNanosPerLookup() { return scanNanosPerLookup; }
         
-        // Remove from database
-        database.removeActiveMount(entityUuid);
+        @Override
+        public String toString() {
+            return "LookupBenchmark{" +
+                    "loadedEntities=" + loadedEntities +
+                    ", lookups=" + lookups +
+                    ", directNanosPerLookup=" + directNanosPerLookup +
+                    ", scanNanosPerLookup=" + scanNanosPerLookup +
+                    '}';
+        }
+    }
+    
+    public static class StoreSweepStep {
+        private final int loadedEntities;
+        private final int stores;
+        private final long directNanosPerStore;
+        private final long scanNanosPerStore;
+        
+        public StoreSweepStep(int loadedEntities, int stores, long directNanosPerStore, long scanNanosPerStore) {
+            this.loadedEntities = loadedEntities;
+            this.stores = stores;
+            this.directNanosPerStore = directNanosPerStore;
+            this.scanNanosPerStore = scanNanosPerStore;
+        }
+        
+        public int getLoadedEntities() { return loadedEntities; }
+        public int getStores() { return stores; }
+        public long getDirectNanosPerStore() { return directNanosPerStore; }
+        public long getScanNanosPerStore() { return scanNanosPerStore; }
+        
+        @Override
+        public String toString() {
+            return "StoreSweepStep{" +
+                    "loadedEntities=" + loadedEntities +
+                    ", stores=" + stores +
+                    ", directNanosPerStore=" + directNanosPerStore +
+                    ", scanNanosPerStore=" + scanNanosPerStore +
+                    '}';
+        }
     }
     
     /**
@@ -1522,27 +1779,18 @@ public class MountManager {
      */
     public void cleanupPlayerData(UUID playerUuid) {
         try {
-            // Clean up active mounts tracking
-            Set<UUID> activeMounts = playerActiveMounts.remove(playerUuid);
-            if (activeMounts != null) {
-                for (UUID entityUuid : activeMounts) {
-                    entityMountNames.remove(entityUuid);
-                    entityMountIds.remove(entityUuid);
-                }
+            // Clean up active mounts tracking (distance warnings live on the same records)
+            for (MountRegistry.ActiveMount removed : registry.unregisterOwner(playerUuid)) {
+                unindexInventory(removed.getEntityUuid());
+                spatialIndex.remove(removed.getEntityUuid());
+                ownership.invalidate(removed.getEntityUuid());
             }
             
             // Clean up rate limiting data
-            lastClaimTime.remove(playerUuid);
-            lastSummonTime.remove(playerUuid);
-            playerActionCount.remove(playerUuid);
-            mountDistanceWarningTime.entrySet().removeIf(entry -> {
-                // Remove distance warnings for this player's mounts
-                UUID entityUuid = entry.getKey();
-                return !playerActiveMounts.values().stream()
-                    .anyMatch(mounts -> mounts.contains(entityUuid));
-            });
+            rateLimiter.clear(playerUuid);
+            permissionCache.invalidate(playerUuid);
             
-            plugin.getLogger().info("Cleaned up data for disconnected player: " + playerUuid);
+            plugin.getDebugLogger().log(Category.PLAYER, () -> "Cleaned up data for disconnected player: " + playerUuid);
         } catch (Exception e) {
             plugin.getLogger().severe("Error cleaning up player data for " + playerUuid + ": " + e.getMessage());
             e.printStackTrace();
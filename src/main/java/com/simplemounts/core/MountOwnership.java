@@ -0,0 +1,148 @@
+package com.simplemounts.core;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Single source of truth for "who owns this mount entity". Answers from the active
+ * mount registry first, then from a per-entity cache, and only then reads the owner
+ * tag from the entity's persistent data container once.
+ */
+public class MountOwnership {
+
+    // Same namespace NamespacedKey(plugin, key) produces for this plugin
+    public static final NamespacedKey OWNER_KEY = new NamespacedKey("simplemounts", "simplemounts_owner");
+    public static final NamespacedKey ID_KEY = new NamespacedKey("simplemounts", "simplemounts_id");
+    public static final NamespacedKey NAME_KEY = new NamespacedKey("simplemounts", "simplemounts_name");
+
+    // Cached marker for entities that carry no owner tag
+    private static final UUID NO_OWNER = new UUID(0L, 0L);
+    private static final int MAX_CACHE_SIZE = 10000;
+
+    private final MountRegistry registry;
+    private final Map<UUID, UUID> ownerCache = new ConcurrentHashMap<>();
+
+    private final LongAdder registryHits = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder tagReads = new LongAdder();
+
+    public MountOwnership(MountRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Returns the owner of the entity, or null if it is not a SimpleMounts mount.
+     */
+    public UUID getOwner(Entity entity) {
+        UUID entityUuid = entity.getUniqueId();
+
+        MountRegistry.ActiveMount activeMount = registry.get(entityUuid);
+        if (activeMount != null) {
+            registryHits.increment();
+            return activeMount.getOwnerUuid();
+        }
+
+        UUID cached = ownerCache.get(entityUuid);
+        if (cached != null) {
+            cacheHits.increment();
+            return cached == NO_OWNER ? null : cached;
+        }
+
+        tagReads.increment();
+        UUID owner = readOwnerTag(entity);
+        if (ownerCache.size() >= MAX_CACHE_SIZE) {
+            ownerCache.clear();
+        }
+        ownerCache.put(entityUuid, owner != null ? owner : NO_OWNER);
+        return owner;
+    }
+
+    public boolean isOwnedBy(Entity entity, Player player) {
+        UUID owner = getOwner(entity);
+        return owner != null && owner.equals(player.getUniqueId());
+    }
+
+    public boolean isOwnedByOther(Entity entity, Player player) {
+        UUID owner = getOwner(entity);
+        return owner != null && !owner.equals(player.getUniqueId());
+    }
+
+    /**
+     * Write the ownership tags onto the entity and prime the cache.
+     */
+    public void tag(Entity entity, UUID ownerUuid, int mountId, String mountName) {
+        PersistentDataContainer container = entity.getPersistentDataContainer();
+        container.set(OWNER_KEY, PersistentDataType.STRING, ownerUuid.toString());
+        container.set(ID_KEY, PersistentDataType.INTEGER, mountId);
+        if (mountName != null) {
+            container.set(NAME_KEY, PersistentDataType.STRING, mountName);
+        }
+        ownerCache.put(entity.getUniqueId(), ownerUuid);
+    }
+
+    public void invalidate(UUID entityUuid) {
+        ownerCache.remove(entityUuid);
+    }
+
+    public void clear() {
+        ownerCache.clear();
+    }
+
+    private UUID readOwnerTag(Entity entity) {
+        String ownerUuid = entity.getPersistentDataContainer().get(OWNER_KEY, PersistentDataType.STRING);
+        if (ownerUuid == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(ownerUuid);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public OwnershipStats getStats() {
+        return new OwnershipStats(registryHits.sum(), cacheHits.sum(), tagReads.sum(), ownerCache.size());
+    }
+
+    public static class OwnershipStats {
+        private final long registryHits;
+        private final long cacheHits;
+        private final long tagReads;
+        private final int cachedEntities;
+
+        public OwnershipStats(long registryHits, long cacheHits, long tagReads, int cachedEntities) {
+            this.registryHits = registryHits;
+            this.cacheHits = cacheHits;
+            this.tagReads = tagReads;
+            this.cachedEntities = cachedEntities;
+        }
+
+        public long getRegistryHits() { return registryHits; }
+        public long getCacheHits() { return cacheHits; }
+        public long getTagReads() { return tagReads; }
+        public int getCachedEntities() { return cachedEntities; }
+
+        public double getHitRate() {
+            long total = registryHits + cacheHits + tagReads;
+            return total > 0 ? (double) (registryHits + cacheHits) / total : 0.0;
+        }
+
+        @Override
+        public String toString() {
+            return "OwnershipStats{" +
+                    "registryHits=" + registryHits +
+                    ", cacheHits=" + cacheHits +
+                    ", tagReads=" + tagReads +
+                    ", cachedEntities=" + cachedEntities +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.simplemounts.core;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory registry of every mount entity currently spawned in the world.
+ * Each entity UUID maps to exactly one {@link ActiveMount} record, with secondary
+ * indexes by owner, (owner, name) and (owner, mount id). All writes go through
+ * synchronized methods so the indexes can never drift apart; reads are lock-free.
+ */
+public class MountRegistry {
+
+    private final Map<UUID, ActiveMount> byEntity = new ConcurrentHashMap<>();
+    private final Map<UUID, OwnerIndex> byOwner = new ConcurrentHashMap<>();
+
+    public synchronized ActiveMount register(UUID entityUuid, UUID ownerUuid, int mountId, String mountName) {
+        ActiveMount previous = byEntity.get(entityUuid);
+        if (previous != null) {
+            unlink(previous);
+        }
+
+        ActiveMount mount = new ActiveMount(entityUuid, ownerUuid, mountId, normalizeName(mountName));
+        byEntity.put(entityUuid, mount);
+
+        OwnerIndex index = byOwner.computeIfAbsent(ownerUuid, k -> new OwnerIndex());
+        index.mounts.put(entityUuid, mount);
+        index.byMountId.put(mountId, entityUuid);
+        if (mount.getMountName() != null) {
+            index.byName.put(mount.getMountName(), entityUuid);
+        }
+
+        return mount;
+    }
+
+    public synchronized ActiveMount unregister(UUID entityUuid) {
+        ActiveMount mount = byEntity.remove(entityUuid);
+        if (mount != null) {
+            unlink(mount);
+        }
+        return mount;
+    }
+
+    public synchronized List<ActiveMount> unregisterOwner(UUID ownerUuid) {
+        OwnerIndex index = byOwner.remove(ownerUuid);
+        if (index == null) {
+            return Collections.emptyList();
+        }
+
+        List<ActiveMount> removed = new ArrayList<>(index.mounts.values());
+        for (ActiveMount mount : removed) {
+            byEntity.remove(mount.getEntityUuid());
+        }
+        return removed;
+    }
+
+    public synchronized boolean rename(UUID entityUuid, String newName) {
+        ActiveMount mount = byEntity.get(entityUuid);
+        if (mount == null) {
+            return false;
+        }
+
+        OwnerIndex index = byOwner.get(mount.getOwnerUuid());
+        if (index != null && mount.getMountName() != null) {
+            index.byName.remove(mount.getMountName(), entityUuid);
+        }
+
+        mount.mountName = normalizeName(newName);
+
+        if (index != null && mount.getMountName() != null) {
+            index.byName.put(mount.getMountName(), entityUuid);
+        }
+        return true;
+    }
+
+    public synchronized void clear() {
+        byEntity.clear();
+        byOwner.clear();
+    }
+
+    public ActiveMount get(UUID entityUuid) {
+        return entityUuid != null ? byEntity.get(entityUuid) : null;
+    }
+
+    public boolean contains(UUID entityUuid) {
+        return entityUuid != null && byEntity.containsKey(entityUuid);
+    }
+
+    public ActiveMount getByName(UUID ownerUuid, String mountName) {
+        OwnerIndex index = byOwner.get(ownerUuid);
+        if (index == null || mountName == null) {
+            return null;
+        }
+        UUID entityUuid = index.byName.get(mountName);
+        return entityUuid != null ? byEntity.get(entityUuid) : null;
+    }
+
+    public ActiveMount getByMountId(UUID ownerUuid, int mountId) {
+        OwnerIndex index = byOwner.get(ownerUuid);
+        if (index == null) {
+            return null;
+        }
+        UUID entityUuid = index.byMountId.get(mountId);
+        return entityUuid != null ? byEntity.get(entityUuid) : null;
+    }
+
+    public Set<UUID> getOwnedEntities(UUID ownerUuid) {
+        OwnerIndex index = byOwner.get(ownerUuid);
+        if (index == null) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(index.mounts.keySet());
+    }
+
+    public Collection<ActiveMount> getOwnedMounts(UUID ownerUuid) {
+        OwnerIndex index = byOwner.get(ownerUuid);
+        if (index == null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(index.mounts.values());
+    }
+
+    public int getOwnedCount(UUID ownerUuid) {
+        OwnerIndex index = byOwner.get(ownerUuid);
+        return index != null ? index.mounts.size() : 0;
+    }
+
+    public Set<UUID> getOwners() {
+        return Collections.unmodifiableSet(byOwner.keySet());
+    }
+
+    public Collection<ActiveMount> getAll() {
+        return Collections.unmodifiableCollection(byEntity.values());
+    }
+
+    public int size() {
+        return byEntity.size();
+    }
+
+    private void unlink(ActiveMount mount) {
+        OwnerIndex index = byOwner.get(mount.getOwnerUuid());
+        if (index == null) {
+            return;
+        }
+
+        UUID entityUuid = mount.getEntityUuid();
+        index.mounts.remove(entityUuid);
+        index.byMountId.remove(mount.getMountId(), entityUuid);
+        if (mount.getMountName() != null) {
+            index.byName.remove(mount.getMountName(), entityUuid);
+        }
+
+        if (index.mounts.isEmpty()) {
+            byOwner.remove(mount.getOwnerUuid());
+        }
+    }
+
+    private static String normalizeName(String mountName) {
+        return mountName != null && !mountName.trim().isEmpty() ? mountName : null;
+    }
+
+    private static class OwnerIndex {
+        private final Map<UUID, ActiveMount> mounts = new ConcurrentHashMap<>();
+        private final Map<String, UUID> byName = new ConcurrentHashMap<>();
+        private final Map<Integer, UUID> byMountId = new ConcurrentHashMap<>();
+    }
+
+    public static class ActiveMount {
+        private final UUID entityUuid;
+        private final UUID ownerUuid;
+        private final int mountId;
+        private volatile String mountName;
+        private volatile long warningStartTime;
+
+        private ActiveMount(UUID entityUuid, UUID ownerUuid, int mountId, String mountName) {
+            this.entityUuid = entityUuid;
+            this.ownerUuid = ownerUuid;
+            this.mountId = mountId;
+            this.mountName = mountName;
+        }
+
+        public UUID getEntityUuid() { return entityUuid; }
+        public UUID getOwnerUuid() { return ownerUuid; }
+        public int getMountId() { return mountId; }
+        public String getMountName() { return mountName; }
+
+        public boolean hasDistanceWarning() {
+            return warningStartTime != 0L;
+        }
+
+        public long getWarningStartTime() {
+            return warningStartTime;
+        }
+
+        public void startDistanceWarning(long time) {
+            this.warningStartTime = time;
+        }
+
+        public void clearDistanceWarning() {
+            this.warningStartTime = 0L;
+        }
+
+        @Override
+        public String toString() {
+            return "ActiveMount{" +
+                    "entityUuid=" + entityUuid +
+                    ", ownerUuid=" + ownerUuid +
+                    ", mountId=" + mountId +
+                    ", mountName='" + mountName + '\'' +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.simplemounts.core;
+
+import com.simplemounts.util.LongObjectMap;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+
+import java.util.*;
+
+/**
+ * Per-world, chunk-keyed index of active mount entities. Positions are updated when a
+ * mount is tracked, crosses a chunk border, teleports, or its chunk's entities load or
+ * unload, so region queries cost O(mounts in region) rather than one entity lookup per
+ * active mount. Unridden mounts may drift a chunk or two between updates, which is why
+ * region queries accept a radius.
+ */
+public class MountSpatialIndex {
+
+    private final Map<UUID, LongObjectMap<Set<UUID>>> worlds = new HashMap<>();
+    private final Map<UUID, ChunkRef> positions = new HashMap<>();
+
+    public static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    public static int chunkX(long key) {
+        return (int) (key >> 32);
+    }
+
+    public static int chunkZ(long key) {
+        return (int) key;
+    }
+
+    public void update(Entity entity) {
+        Location location = entity.getLocation();
+        if (location.getWorld() != null) {
+            update(entity.getUniqueId(), location.getWorld(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+        }
+    }
+
+    public synchronized void update(UUID entityUuid, World world, int chunkX, int chunkZ) {
+        UUID worldId = world.getUID();
+        long key = chunkKey(chunkX, chunkZ);
+
+        ChunkRef previous = positions.get(entityUuid);
+        if (previous != null) {
+            if (previous.key == key && previous.worldId.equals(worldId)) {
+                return;
+            }
+            unlink(entityUuid, previous);
+        }
+
+        positions.put(entityUuid, new ChunkRef(worldId, key));
+        worlds.computeIfAbsent(worldId, k -> new LongObjectMap<>())
+            .computeIfAbsent(key, k -> new HashSet<>())
+            .add(entityUuid);
+    }
+
+    public synchronized void remove(UUID entityUuid) {
+        ChunkRef previous = positions.remove(entityUuid);
+        if (previous != null) {
+            unlink(entityUuid, previous);
+        }
+    }
+
+    public synchronized boolean contains(UUID entityUuid) {
+        return positions.containsKey(entityUuid);
+    }
+
+    public synchronized ChunkRef getChunk(UUID entityUuid) {
+        return positions.get(entityUuid);
+    }
+
+    public synchronized List<UUID> getMountsInChunk(UUID worldId, int chunkX, int chunkZ) {
+        LongObjectMap<Set<UUID>> chunks = worlds.get(worldId);
+        if (chunks == null) {
+            return new ArrayList<>();
+        }
+        Set<UUID> mounts = chunks.get(chunkKey(chunkX, chunkZ));
+        return mounts != null ? new ArrayList<>(mounts) : new ArrayList<>();
+    }
+
+    public synchronized List<UUID> getMountsInWorld(UUID worldId) {
+        List<UUID> result = new ArrayList<>();
+        LongObjectMap<Set<UUID>> chunks = worlds.get(worldId);
+        if (chunks != null) {
+            for (Set<UUID> mounts : chunks.values()) {
+                result.addAll(mounts);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Mounts within a square of chunks around the given chunk. Probes each chunk when the
+     * square is smaller than the number of occupied chunks, otherwise walks occupied chunks.
+     */
+    public synchronized List<UUID> getMountsNear(UUID worldId, int chunkX, int chunkZ, int radius) {
+        List<UUID> result = new ArrayList<>();
+        LongObjectMap<Set<UUID>> chunks = worlds.get(worldId);
+        if (chunks == null) {
+            return result;
+        }
+
+        long area = (2L * radius + 1) * (2L * radius + 1);
+        if (area <= chunks.size()) {
+            for (int x = chunkX - radius; x <= chunkX + radius; x++) {
+                for (int z = chunkZ - radius; z <= chunkZ + radius; z++) {
+                    Set<UUID> mounts = chunks.get(chunkKey(x, z));
+                    if (mounts != null) {
+                        result.addAll(mounts);
+                    }
+                }
+            }
+        } else {
+            for (long key : chunks.keys()) {
+                if (Math.abs(chunkX(key) - chunkX) <= radius && Math.abs(chunkZ(key) - chunkZ) <= radius) {
+                    result.addAll(chunks.get(key));
+                }
+            }
+        }
+        return result;
+    }
+
+    public synchronized List<UUID> removeWorld(UUID worldId) {
+        List<UUID> removed = new ArrayList<>();
+        LongObjectMap<Set<UUID>> chunks = worlds.remove(worldId);
+        if (chunks != null) {
+            for (Set<UUID> mounts : chunks.values()) {
+                removed.addAll(mounts);
+            }
+            for (UUID entityUuid : removed) {
+                positions.remove(entityUuid);
+            }
+        }
+        return removed;
+    }
+
+    public synchronized int size() {
+        return positions.size();
+    }
+
+    public synchronized int getOccupiedChunkCount() {
+        int count = 0;
+        for (LongObjectMap<Set<UUID>> chunks : worlds.values()) {
+            count += chunks.size();
+        }
+        return count;
+    }
+
+    public synchronized void clear() {
+        worlds.clear();
+        positions.clear();
+    }
+
+    private void unlink(UUID entityUuid, ChunkRef ref) {
+        LongObjectMap<Set<UUID>> chunks = worlds.get(ref.worldId);
+        if (chunks == null) {
+            return;
+        }
+        Set<UUID> mounts = chunks.get(ref.key);
+        if (mounts != null) {
+            mounts.remove(entityUuid);
+            if (mounts.isEmpty()) {
+                chunks.remove(ref.key);
+            }
+        }
+        if (chunks.isEmpty()) {
+            worlds.remove(ref.worldId);
+        }
+    }
+
+    public static final class ChunkRef {
+        private final UUID worldId;
+        private final long key;
+
+        private ChunkRef(UUID worldId, long key) {
+            this.worldId = worldId;
+            this.key = key;
+        }
+
+        public UUID getWorldId() { return worldId; }
+        public long getKey() { return key; }
+        public int getChunkX() { return chunkX(key); }
+        public int getChunkZ() { return chunkZ(key); }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ChunkRef)) return false;
+            ChunkRef that = (ChunkRef) o;
+            return key == that.key && worldId.equals(that.worldId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(worldId, key);
+        }
+
+        @Override
+        public String toString() {
+            return "ChunkRef{" +
+                    "worldId=" + worldId +
+                    ", x=" + getChunkX() +
+                    ", z=" + getChunkZ() +
+                    '}';
+        }
+    }
+}
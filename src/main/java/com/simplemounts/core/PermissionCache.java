@@ -0,0 +1,110 @@
+package com.simplemounts.core;
+
+import com.simplemounts.util.PermissionUtils;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Each online player's SimpleMounts permissions resolved in one pass: mount limit and
+ * claim/summon rights. Resolved on join and dropped when the
+ * server resends the player's command list (permission plugins such as LuckPerms trigger
+ * that after recalculating), on world change, logout and reload. Entries also expire
+ * after a minute in case a permission plugin changes nodes without resending commands.
+ */
+public class PermissionCache {
+
+    private static final long MAX_AGE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final ConfigManager config;
+    private final Map<UUID, Resolved> resolved = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public PermissionCache(ConfigManager config) {
+        this.config = config;
+    }
+
+    public Resolved get(Player player) {
+        Resolved cached = resolved.get(player.getUniqueId());
+        if (cached != null && System.nanoTime() - cached.resolvedAt < MAX_AGE_NANOS) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        return resolve(player);
+    }
+
+    public Resolved resolve(Player player) {
+        Resolved fresh = new Resolved(player, config);
+        resolved.put(player.getUniqueId(), fresh);
+        return fresh;
+    }
+
+    public void invalidate(UUID playerUuid) {
+        resolved.remove(playerUuid);
+    }
+
+    public void invalidateAll() {
+        resolved.clear();
+    }
+
+    public CacheStats getStats() {
+        return new CacheStats(resolved.size(), hits.sum(), misses.sum());
+    }
+
+    public static final class Resolved {
+        private final long resolvedAt = System.nanoTime();
+        private final int maxMounts;
+        private final boolean claim;
+        private final boolean summon;
+
+        private Resolved(Player player, ConfigManager config) {
+            this.maxMounts = PermissionUtils.getMaxMounts(player, config);
+            this.claim = player.hasPermission("simplemounts.claim");
+            this.summon = player.hasPermission("simplemounts.summon");
+        }
+
+        /**
+         * Highest simplemounts.limit.N the player has, the configured default, or -1 for unlimited.
+         */
+        public int getMaxMounts() { return maxMounts; }
+        public boolean canClaim() { return claim; }
+        public boolean canSummon() { return summon; }
+    }
+
+    public static class CacheStats {
+        private final int cachedPlayers;
+        private final long hits;
+        private final long misses;
+
+        public CacheStats(int cachedPlayers, long hits, long misses) {
+            this.cachedPlayers = cachedPlayers;
+            this.hits = hits;
+            this.misses = misses;
+        }
+
+        public int getCachedPlayers() { return cachedPlayers; }
+        public long getHits() { return hits; }
+        public long getMisses() { return misses; }
+
+        public double getHitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+
+        @Override
+        public String toString() {
+            return "CacheStats{" +
+                    "cachedPlayers=" + cachedPlayers +
+                    ", hits=" + hits +
+                    ", misses=" + misses +
+                    '}';
+        }
+    }
+}
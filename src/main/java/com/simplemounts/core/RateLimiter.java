@@ -0,0 +1,177 @@
+package com.simplemounts.core;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-player token buckets, one per action plus a shared bucket across all actions.
+ * Each bucket is stored as the monotonic time at which it would be completely refilled,
+ * so refilling is computed lazily on acquire and every update is a single CAS.
+ * Nothing is ever scheduled.
+ */
+public class RateLimiter {
+
+    public enum Action {
+        CLAIM("claim", 1, 2000L),
+        SUMMON("summon", 1, 2000L),
+        STORE("store", 3, 1000L),
+        RENAME("rename", 2, 5000L),
+        GUI_CLICK("gui_click", 10, 100L);
+
+        private final String configKey;
+        private final int defaultBurst;
+        private final long defaultRefillMs;
+
+        Action(String configKey, int defaultBurst, long defaultRefillMs) {
+            this.configKey = configKey;
+            this.defaultBurst = defaultBurst;
+            this.defaultRefillMs = defaultRefillMs;
+        }
+
+        public String getConfigKey() {
+            return configKey;
+        }
+    }
+
+    private static final Action[] ACTIONS = Action.values();
+    private static final int GLOBAL = ACTIONS.length;
+
+    private final ConfigManager config;
+    private final long origin = System.nanoTime();
+    private final Map<UUID, AtomicLongArray> buckets = new ConcurrentHashMap<>();
+
+    // Index GLOBAL holds the shared bucket
+    private volatile long[] refillNanos = new long[ACTIONS.length + 1];
+    private volatile int[] burst = new int[ACTIONS.length + 1];
+
+    private final LongAdder[] rejections = new LongAdder[ACTIONS.length + 1];
+    private final LongAdder[] accepted = new LongAdder[ACTIONS.length];
+
+    public RateLimiter(ConfigManager config) {
+        this.config = config;
+        for (int i = 0; i < rejections.length; i++) {
+            rejections[i] = new LongAdder();
+        }
+        for (int i = 0; i < accepted.length; i++) {
+            accepted[i] = new LongAdder();
+        }
+        reload();
+    }
+
+    public void reload() {
+        long[] newRefill = new long[ACTIONS.length + 1];
+        int[] newBurst = new int[ACTIONS.length + 1];
+
+        for (Action action : ACTIONS) {
+            newBurst[action.ordinal()] = config.getRateLimitBurst(action.getConfigKey(), action.defaultBurst);
+            newRefill[action.ordinal()] = config.getRateLimitRefillMillis(action.getConfigKey(), action.defaultRefillMs) * 1_000_000L;
+        }
+
+        // Defaults match the old limit of 30 actions per minute
+        newBurst[GLOBAL] = config.getRateLimitBurst("global", 30);
+        newRefill[GLOBAL] = config.getRateLimitRefillMillis("global", 2000L) * 1_000_000L;
+
+        this.burst = newBurst;
+        this.refillNanos = newRefill;
+    }
+
+    /**
+     * Take one token from the action bucket and the shared bucket, or none at all.
+     */
+    public boolean tryAcquire(UUID playerUuid, Action action) {
+        long now = System.nanoTime() - origin;
+        long[] refill = this.refillNanos;
+        int[] capacity = this.burst;
+        AtomicLongArray playerBuckets = buckets.computeIfAbsent(playerUuid, k -> new AtomicLongArray(ACTIONS.length + 1));
+
+        int slot = action.ordinal();
+        if (!acquire(playerBuckets, slot, refill[slot], capacity[slot], now)) {
+            rejections[slot].increment();
+            return false;
+        }
+
+        if (!acquire(playerBuckets, GLOBAL, refill[GLOBAL], capacity[GLOBAL], now)) {
+            // Give the action token back
+            playerBuckets.addAndGet(slot, -refill[slot]);
+            rejections[GLOBAL].increment();
+            return false;
+        }
+
+        accepted[slot].increment();
+        return true;
+    }
+
+    public void clear(UUID playerUuid) {
+        buckets.remove(playerUuid);
+    }
+
+    private static boolean acquire(AtomicLongArray playerBuckets, int slot, long refill, int capacity, long now) {
+        if (refill <= 0) {
+            return true;
+        }
+
+        long limit = refill * capacity;
+        while (true) {
+            long fullAt = playerBuckets.get(slot);
+            long next = Math.max(fullAt, now) + refill;
+            if (next - now > limit) {
+                return false;
+            }
+            if (playerBuckets.compareAndSet(slot, fullAt, next)) {
+                return true;
+            }
+        }
+    }
+
+    public RateLimiterStats getStats() {
+        long[] rejected = new long[ACTIONS.length];
+        long[] allowed = new long[ACTIONS.length];
+        for (Action action : ACTIONS) {
+            rejected[action.ordinal()] = rejections[action.ordinal()].sum();
+            allowed[action.ordinal()] = accepted[action.ordinal()].sum();
+        }
+        return new RateLimiterStats(allowed, rejected, rejections[GLOBAL].sum(), buckets.size());
+    }
+
+    public static class RateLimiterStats {
+        private final long[] accepted;
+        private final long[] rejected;
+        private final long globalRejected;
+        private final int trackedPlayers;
+
+        public RateLimiterStats(long[] accepted, long[] rejected, long globalRejected, int trackedPlayers) {
+            this.accepted = accepted;
+            this.rejected = rejected;
+            this.globalRejected = globalRejected;
+            this.trackedPlayers = trackedPlayers;
+        }
+
+        public long getAccepted(Action action) { return accepted[action.ordinal()]; }
+        public long getRejected(Action action) { return rejected[action.ordinal()]; }
+        public long getGlobalRejected() { return globalRejected; }
+        public int getTrackedPlayers() { return trackedPlayers; }
+
+        public long getTotalRejected() {
+            long total = globalRejected;
+            for (long count : rejected) {
+                total += count;
+            }
+            return total;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("RateLimiterStats{");
+            for (Action action : ACTIONS) {
+                sb.append(action.getConfigKey()).append('=')
+                  .append(accepted[action.ordinal()]).append('/').append(rejected[action.ordinal()]).append(", ");
+            }
+            return sb.append("globalRejected=").append(globalRejected)
+                     .append(", trackedPlayers=").append(trackedPlayers)
+                     .append('}').toString();
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package com.simplemounts.core;
 
 import com.simplemounts.SimpleMounts;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
 
+import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 
@@ -15,9 +16,11 @@ public class ShutdownHandler {
     private final SimpleMounts plugin;
     private final AtomicBoolean shutdownInProgress = new AtomicBoolean(false);
     private final AtomicBoolean emergencyShutdown = new AtomicBoolean(false);
+    private final ShutdownStorageEngine storageEngine;
     
     public ShutdownHandler(SimpleMounts plugin) {
         this.plugin = plugin;
+        this.storageEngine = new ShutdownStorageEngine(plugin);
     }
     
     public void handleShutdown() {
@@ -34,13 +37,24 @@ public class ShutdownHandler {
         }
         
         long startTime = System.currentTimeMillis();
-        int timeoutSeconds = plugin.getConfigManager().getShutdownStorageTimeout();
+        long timeoutMillis = plugin.getConfigManager().getShutdownStorageTimeout() * 1000L;
         
         try {
             if (plugin.getConfigManager().autoStoreOnShutdown()) {
-                storeAllActiveMounts(timeoutSeconds);
+                // onDisable runs on the main thread, so capture here rather than scheduling a task
+                ShutdownStorageEngine.Result result = storageEngine.storeAll(timeoutMillis);
+                
+                if (result.getWritten() < 0) {
+                    plugin.getLogger().warning("Could not commit " + result.getSerialized() + " mounts at shutdown; they will be replayed from the storage journal");
+                } else if (plugin.getConfigManager().logShutdownOperations()) {
+                    plugin.getLogger().info("Shutdown storage complete: " + result);
+                }
             }
             
+            // Commit anything still queued; whatever misses the timeout is replayed from the journal
+            long remaining = Math.max(1000L, timeoutMillis - (System.currentTimeMillis() - startTime));
+            plugin.getMountManager().getStorageQueue().shutdown(remaining);
+            
             // Close database connections
             plugin.getDatabaseManager().closeConnection();
             
@@ -62,12 +76,14 @@ public class ShutdownHandler {
         }
         
         if (plugin.getConfigManager().logShutdownOperations()) {
-            plugin.getLogger().warning("Emergency shutdown initiated - storing all mounts immediately");
+            plugin.getLogger().warning("Emergency shutdown initiated - flushing the storage journal");
         }
         
         try {
-            // Force immediate storage without timeout
-            storeAllActiveMountsImmediate();
+            // Runs from the JVM shutdown hook, where Bukkit can no longer be used. Every mount
+            // already taken off the world is in the journal; commit what we can and leave the
+            // rest to be replayed on the next start.
+            plugin.getMountManager().getStorageQueue().emergencyShutdown(5000L);
             
             // Force close database
             plugin.getDatabaseManager().closeConnection();
@@ -77,89 +93,12 @@ public class ShutdownHandler {
         }
     }
     
-    private void storeAllActiveMounts(int timeoutSeconds) {
-        if (plugin.getConfigManager().forceImmediateStorage()) {
-            storeAllActiveMountsImmediate();
-            return;
-        }
-        
-        CountDownLatch latch = new CountDownLatch(1);
-        
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                try {
-                    storeAllActiveMountsAsync().thenRun(() -> {
-                        latch.countDown();
-                    });
-                } catch (Exception e) {
-                    plugin.getLogger().log(Level.SEVERE, "Error storing mounts during shutdown", e);
-                    latch.countDown();
-                }
-            }
-        }.runTask(plugin);
-        
-        try {
-            boolean completed = latch.await(timeoutSeconds, TimeUnit.SECONDS);
-            if (!completed) {
-                plugin.getLogger().warning("Mount storage timeout exceeded, forcing immediate storage");
-                storeAllActiveMountsImmediate();
-            }
-        } catch (InterruptedException e) {
-            plugin.getLogger().log(Level.WARNING, "Shutdown interrupted, forcing immediate storage", e);
-            storeAllActiveMountsImmediate();
-        }
-    }
-    
-    private CompletableFuture<Void> storeAllActiveMountsAsync() {
-        return CompletableFuture.runAsync(() -> {
-            int totalStored = 0;
-            int errors = 0;
-            
-            for (Player player : plugin.getServer().getOnlinePlayers()) {
-                try {
-                    plugin.getMountManager().storeAllPlayerMountsSync(player);
-                    totalStored++;
-                    
-                    if (plugin.getConfigManager().logShutdownOperations()) {
-                        plugin.getLogger().info("Stored mounts for player: " + player.getName());
-                    }
-                    
-                } catch (Exception e) {
-                    errors++;
-                    plugin.getLogger().log(Level.WARNING, "Error storing mounts for player: " + player.getName(), e);
-                }
-            }
-            
-            if (plugin.getConfigManager().logShutdownOperations()) {
-                plugin.getLogger().info("Shutdown storage complete: " + totalStored + " players processed, " + errors + " errors");
-            }
-        });
-    }
-    
-    private void storeAllActiveMountsImmediate() {
-        int totalStored = 0;
-        int errors = 0;
-        
-        for (Player player : plugin.getServer().getOnlinePlayers()) {
-            try {
-                // Store mounts synchronously to ensure they're saved before shutdown
-                plugin.getMountManager().storeAllPlayerMountsSync(player);
-                totalStored++;
-                
-                if (plugin.getConfigManager().logShutdownOperations()) {
-                    plugin.getLogger().info("Immediately stored mounts for player: " + player.getName());
-                }
-                
-            } catch (Exception e) {
-                errors++;
-                plugin.getLogger().log(Level.WARNING, "Error immediately storing mounts for player: " + player.getName(), e);
-            }
-        }
-        
-        if (plugin.getConfigManager().logShutdownOperations()) {
-            plugin.getLogger().info("Immediate storage complete: " + totalStored + " players processed, " + errors + " errors");
-        }
+    /**
+     * Time the shutdown storage stages for count mounts without storing anything.
+     * Must be called on the main thread.
+     */
+    public ShutdownStorageEngine.Result benchmarkShutdownStorage(int count) {
+        return storageEngine.benchmark(count, plugin.getConfigManager().getShutdownStorageTimeout() * 1000L);
     }
     
     public boolean isShutdownInProgress() {
@@ -175,11 +114,8 @@ public class ShutdownHandler {
             return;
         }
         
-        String message = plugin.getConfigManager().getMessage("shutdown_storage");
-        String prefix = plugin.getConfigManager().getMessagePrefix();
-        
         for (Player player : plugin.getServer().getOnlinePlayers()) {
-            player.sendMessage(org.bukkit.ChatColor.translateAlternateColorCodes('&', prefix + message));
+            player.sendMessage(plugin.getConfigManager().formatMessage(player, "shutdown_storage"));
         }
     }
     
@@ -245,28 +181,24 @@ public class ShutdownHandler {
             plugin.getLogger().info("World unload detected for: " + worldName + " - storing affected mounts");
         }
         
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                try {
-                    // Store mounts for all players in the unloading world
-                    for (Player player : plugin.getServer().getOnlinePlayers()) {
-                        if (player.getWorld().getName().equals(worldName)) {
-                            plugin.getMountManager().storeAllPlayerMounts(player);
-                        }
-                    }
-                    
-                    // Clean up active mounts in the database for this world
-                    plugin.runAsync(() -> {
-                        // This would require additional database method to clean by world
-                        plugin.getDatabaseManager().cleanupOrphanedMounts();
-                    });
-                    
-                } catch (Exception e) {
-                    plugin.getLogger().log(Level.WARNING, "Error storing mounts for world unload: " + worldName, e);
-                }
+        World world = plugin.getServer().getWorld(worldName);
+        if (world == null) {
+            return;
+        }
+        
+        try {
+            // Store exactly the mounts indexed in the unloading world, while its entities still exist
+            MountManager mountManager = plugin.getMountManager();
+            List<UUID> worldMounts = mountManager.getSpatialIndex().getMountsInWorld(world.getUID());
+            int stored = mountManager.storeMountEntities(worldMounts);
+            mountManager.getSpatialIndex().removeWorld(world.getUID());
+            
+            if (plugin.getConfigManager().logShutdownOperations()) {
+                plugin.getLogger().info("Stored " + stored + " of " + worldMounts.size() + " mounts in unloading world " + worldName);
             }
-        }.runTask(plugin);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "Error storing mounts for world unload: " + worldName, e);
+        }
     }
     
     public void reset() {
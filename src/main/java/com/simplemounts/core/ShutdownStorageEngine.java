@@ -0,0 +1,225 @@
+package com.simplemounts.core;
+
+import com.simplemounts.SimpleMounts;
+import com.simplemounts.data.ChestInventoryData;
+import com.simplemounts.data.MountAttributes;
+import com.simplemounts.data.MountType;
+import com.simplemounts.serialization.MountSerializer;
+import org.bukkit.entity.Entity;
+import org.bukkit.inventory.InventoryHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+/**
+ * Stores every active mount at shutdown in three stages: one pass over the registry on the
+ * main thread captures entity state, a fork-join pool turns the captures into YAML, and the
+ * storage queue journals and commits the whole set in a single transaction. Only the
+ * capture touches Bukkit, so the later stages are bounded by the configured timeout
+ * rather than by the server thread.
+ */
+public class ShutdownStorageEngine {
+
+    private final SimpleMounts plugin;
+    private final MountSerializer serializer;
+
+    public ShutdownStorageEngine(SimpleMounts plugin) {
+        this.plugin = plugin;
+        this.serializer = new MountSerializer(plugin);
+    }
+
+    /**
+     * Store every active mount. Must be called on the main thread. Snapshots that miss the
+     * timeout stay in the journal and are committed by the storage queue or on next start.
+     */
+    public Result storeAll(long timeoutMillis) {
+        MountManager mountManager = plugin.getMountManager();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+
+        long start = System.nanoTime();
+        List<Capture> captures = capture(mountManager.getRegistry().getAll());
+        long captureNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        List<DatabaseManager.MountDataUpdate> updates = serialize(captures, remaining(deadline));
+        long serializeNanos = System.nanoTime() - start;
+
+        // Entities go once their snapshots are journaled, even if the commit below fails
+        start = System.nanoTime();
+        int written = mountManager.getStorageQueue().submitAndCommit(updates, remaining(deadline));
+        long writeNanos = System.nanoTime() - start;
+
+        for (Capture capture : captures) {
+            mountManager.forgetActiveMount(capture.entity.getUniqueId());
+            capture.entity.remove();
+        }
+
+        return new Result(captures.size(), updates.size(), written, captureNanos, serializeNanos, writeNanos, timeoutMillis);
+    }
+
+    /**
+     * Run the capture and serialize stages against the current active mounts, repeated
+     * until there are count of them, and time a rolled-back batch write. Entities are left
+     * in place. Must be called on the main thread; returns null if no mounts are active.
+     */
+    public Result benchmark(int count, long timeoutMillis) {
+        List<MountRegistry.ActiveMount> active = new ArrayList<>(plugin.getMountManager().getRegistry().getAll());
+        if (active.isEmpty()) {
+            return null;
+        }
+
+        List<MountRegistry.ActiveMount> sample = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            sample.add(active.get(i % active.size()));
+        }
+
+        long start = System.nanoTime();
+        List<Capture> captures = capture(sample);
+        long captureNanos = System.nanoTime() - start;
+        if (captures.isEmpty()) {
+            return null;
+        }
+
+        start = System.nanoTime();
+        List<DatabaseManager.MountDataUpdate> updates = serialize(captures, timeoutMillis);
+        long serializeNanos = System.nanoTime() - start;
+
+        long writeNanos;
+        try {
+            writeNanos = plugin.getDatabaseManager().benchmarkMountDataBatch(updates).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            writeNanos = -1L;
+        }
+
+        return new Result(captures.size(), updates.size(), writeNanos < 0 ? -1 : updates.size(),
+            captureNanos, serializeNanos, writeNanos, timeoutMillis);
+    }
+
+    private List<Capture> capture(Iterable<MountRegistry.ActiveMount> mounts) {
+        List<Capture> captures = new ArrayList<>();
+
+        for (MountRegistry.ActiveMount activeMount : mounts) {
+            UUID entityUuid = activeMount.getEntityUuid();
+            Entity entity = plugin.getServer().getEntity(entityUuid);
+            if (entity == null) {
+                continue;
+            }
+
+            try {
+                ChestInventoryData chest = null;
+                if (MountType.fromEntityType(entity.getType()).canHaveChest() && entity instanceof InventoryHolder) {
+                    chest = ChestInventoryData.fromInventory(((InventoryHolder) entity).getInventory());
+                }
+                captures.add(new Capture(activeMount.getMountId(), entity, MountAttributes.fromEntity(entity), chest));
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.SEVERE, "Error capturing mount entity " + entityUuid + " for shutdown storage", e);
+            }
+        }
+
+        return captures;
+    }
+
+    private List<DatabaseManager.MountDataUpdate> serialize(List<Capture> captures, long timeoutMillis) {
+        if (captures.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+        try {
+            return pool.submit(() -> captures.parallelStream()
+                .map(this::toUpdate)
+                .collect(Collectors.toList()))
+                .get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            // Fall back to the calling thread rather than lose the mounts
+            plugin.getLogger().log(Level.WARNING, "Parallel mount serialization failed; serializing on the main thread", e);
+            return captures.stream().map(this::toUpdate).collect(Collectors.toList());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private DatabaseManager.MountDataUpdate toUpdate(Capture capture) {
+        return new DatabaseManager.MountDataUpdate(
+            capture.mountId,
+            capture.entityUuid,
+            serializer.serializeAttributes(capture.attributes),
+            serializer.serializeChestData(capture.chest)
+        );
+    }
+
+    private static long remaining(long deadline) {
+        return Math.max(1L, deadline - System.currentTimeMillis());
+    }
+
+    private static final class Capture {
+        private final int mountId;
+        private final Entity entity;
+        private final UUID entityUuid;
+        private final MountAttributes attributes;
+        private final ChestInventoryData chest;
+
+        private Capture(int mountId, Entity entity, MountAttributes attributes, ChestInventoryData chest) {
+            this.mountId = mountId;
+            this.entity = entity;
+            this.entityUuid = entity.getUniqueId();
+            this.attributes = attributes;
+            this.chest = chest;
+        }
+    }
+
+    public static class Result {
+        private final int captured;
+        private final int serialized;
+        private final int written;
+        private final long captureNanos;
+        private final long serializeNanos;
+        private final long writeNanos;
+        private final long timeoutMillis;
+
+        public Result(int captured, int serialized, int written, long captureNanos, long serializeNanos,
+                      long writeNanos, long timeoutMillis) {
+            this.captured = captured;
+            this.serialized = serialized;
+            this.written = written;
+            this.captureNanos = captureNanos;
+            this.serializeNanos = serializeNanos;
+            this.writeNanos = writeNanos;
+            this.timeoutMillis = timeoutMillis;
+        }
+
+        public int getCaptured() { return captured; }
+        public int getSerialized() { return serialized; }
+        public int getWritten() { return written; }
+        public long getCaptureNanos() { return captureNanos; }
+        public long getSerializeNanos() { return serializeNanos; }
+        public long getWriteNanos() { return writeNanos; }
+        public long getTimeoutMillis() { return timeoutMillis; }
+
+        public long getTotalMillis() {
+            return (captureNanos + serializeNanos + Math.max(0L, writeNanos)) / 1_000_000L;
+        }
+
+        public boolean isWithinTimeout() {
+            return written >= 0 && getTotalMillis() <= timeoutMillis;
+        }
+
+        @Override
+        public String toString() {
+            return "ShutdownStorageResult{" +
+                    "captured=" + captured +
+                    ", serialized=" + serialized +
+                    ", written=" + written +
+                    ", captureMs=" + captureNanos / 1_000_000L +
+                    ", serializeMs=" + serializeNanos / 1_000_000L +
+                    ", writeMs=" + writeNanos / 1_000_000L +
+                    ", timeoutMs=" + timeoutMillis +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.simplemounts.core;
+
+import com.simplemounts.SimpleMounts;
+import com.simplemounts.data.MountType;
+import com.simplemounts.util.LongObjectMap;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+
+/**
+ * Finds a safe summoning spot around a player. Chunk snapshots of the search area are
+ * taken on the main thread, the spiral search over summoning.safe_spot_radius runs
+ * off-thread, and only the resulting location is handed back.
+ */
+public class SpawnLocationFinder {
+
+    private static final Set<Material> HAZARDS = EnumSet.of(
+        Material.LAVA, Material.FIRE, Material.SOUL_FIRE, Material.MAGMA_BLOCK, Material.CACTUS,
+        Material.CAMPFIRE, Material.SOUL_CAMPFIRE, Material.SWEET_BERRY_BUSH, Material.POWDER_SNOW,
+        Material.POINTED_DRIPSTONE, Material.WITHER_ROSE
+    );
+
+    private final SimpleMounts plugin;
+    private final ConfigManager config;
+
+    public SpawnLocationFinder(SimpleMounts plugin) {
+        this.plugin = plugin;
+        this.config = plugin.getConfigManager();
+    }
+
+    /**
+     * Must be called on the main thread. Completes off-thread with the spawn location, or
+     * null if there is no safe spot and teleport_if_no_safe_spot is disabled.
+     */
+    public CompletableFuture<Location> find(Player player, MountType mountType) {
+        return findAll(player, Collections.singletonList(mountType)).thenApply(locations -> locations.get(0));
+    }
+
+    /**
+     * Must be called on the main thread. Finds one spot per mount type from a single set of
+     * chunk snapshots, keeping the mounts a block apart. Entries fall back like find().
+     */
+    public CompletableFuture<List<Location>> findAll(Player player, List<MountType> mountTypes) {
+        CompletableFuture<List<Location>> future = new CompletableFuture<>();
+
+        Location playerLoc = player.getLocation();
+        World world = playerLoc.getWorld();
+        int radius = config.getSafeSpotRadius();
+
+        // Search is centred 2 blocks in front of the player, like the old single-candidate check
+        Vector direction = playerLoc.getDirection().setY(0);
+        if (direction.lengthSquared() > 0) {
+            direction.normalize().multiply(2.0);
+        }
+        Location front = playerLoc.clone().add(direction);
+
+        SearchArea area = new SearchArea(
+            world,
+            front.getBlockX(),
+            playerLoc.getBlockY(),
+            front.getBlockZ(),
+            radius,
+            config.getMaxHeightDifference(),
+            world.getMinHeight(),
+            world.getMaxHeight()
+        );
+
+        // Only already-loaded chunks; never load terrain for a summon
+        int minChunkX = (area.centerX - radius) >> 4;
+        int maxChunkX = (area.centerX + radius) >> 4;
+        int minChunkZ = (area.centerZ - radius) >> 4;
+        int maxChunkZ = (area.centerZ + radius) >> 4;
+        for (int cx = minChunkX; cx <= maxChunkX; cx++) {
+            for (int cz = minChunkZ; cz <= maxChunkZ; cz++) {
+                if (world.isChunkLoaded(cx, cz)) {
+                    area.snapshots.put(MountSpatialIndex.chunkKey(cx, cz), world.getChunkAt(cx, cz).getChunkSnapshot(false, false, false));
+                }
+            }
+        }
+
+        Location fallback = config.teleportIfNoSafeSpot() ? playerLoc.clone().add(0, 1, 0) : null;
+        float yaw = playerLoc.getYaw();
+        boolean striderLava = config.striderLavaSafety();
+
+        plugin.runAsync(() -> {
+            List<Location> locations = new ArrayList<>(mountTypes.size());
+            try {
+                for (MountType mountType : mountTypes) {
+                    Location found = null;
+                    if (mountType == MountType.STRIDER && striderLava) {
+                        found = search(area, mountType, true);
+                    }
+                    if (found == null) {
+                        found = search(area, mountType, false);
+                    }
+                    if (found != null) {
+                        found.setYaw(yaw + 180.0f);
+                        claim(area, found.getBlockX(), found.getBlockZ());
+                    }
+                    locations.add(found != null ? found : cloneOrNull(fallback));
+                }
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "Error searching for a safe spawn location", e);
+                while (locations.size() < mountTypes.size()) {
+                    locations.add(cloneOrNull(fallback));
+                }
+            }
+            future.complete(locations);
+        });
+
+        return future;
+    }
+
+    private static Location cloneOrNull(Location location) {
+        return location != null ? location.clone() : null;
+    }
+
+    /**
+     * Reserve the column and its neighbours so the next mount in a group does not overlap.
+     */
+    private void claim(SearchArea area, int x, int z) {
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                area.claimed.add(MountSpatialIndex.chunkKey(x + dx, z + dz));
+            }
+        }
+    }
+
+    private Location search(SearchArea area, MountType mountType, boolean lavaOnly) {
+        int clearance = getClearance(mountType);
+
+        // Square spiral: ring 0 is the centre, ring r is the border at Chebyshev distance r
+        for (int ring = 0; ring <= area.radius; ring++) {
+            for (int dx = -ring; dx <= ring; dx++) {
+                for (int dz = -ring; dz <= ring; dz++) {
+                    if (Math.abs(dx) != ring && Math.abs(dz) != ring) {
+                        continue;
+                    }
+                    if (area.claimed.contains(MountSpatialIndex.chunkKey(area.centerX + dx, area.centerZ + dz))) {
+                        continue;
+                    }
+                    Integer y = findStandingY(area, area.centerX + dx, area.centerZ + dz, mountType, clearance, lavaOnly);
+                    if (y != null) {
+                        return new Location(area.world, area.centerX + dx + 0.5, y, area.centerZ + dz + 0.5);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Closest valid feet Y to the player's Y within max_height_difference, or null.
+     */
+    private Integer findStandingY(SearchArea area, int x, int z, MountType mountType, int clearance, boolean lavaOnly) {
+        ChunkSnapshot snapshot = area.snapshots.get(MountSpatialIndex.chunkKey(x >> 4, z >> 4));
+        if (snapshot == null) {
+            return null;
+        }
+
+        int localX = x & 15;
+        int localZ = z & 15;
+        for (int offset = 0; offset <= area.maxHeightDifference; offset++) {
+            if (isValidFeet(area, snapshot, localX, area.centerY - offset, localZ, mountType, clearance, lavaOnly)) {
+                return area.centerY - offset;
+            }
+            if (offset > 0 && isValidFeet(area, snapshot, localX, area.centerY + offset, localZ, mountType, clearance, lavaOnly)) {
+                return area.centerY + offset;
+            }
+        }
+        return null;
+    }
+
+    private boolean isValidFeet(SearchArea area, ChunkSnapshot snapshot, int x, int y, int z,
+                                MountType mountType, int clearance, boolean lavaOnly) {
+        if (y - 1 < area.minHeight || y + clearance > area.maxHeight) {
+            return false;
+        }
+
+        Material ground = snapshot.getBlockType(x, y - 1, z);
+        boolean groundOk;
+        if (mountType == MountType.STRIDER && ground == Material.LAVA) {
+            groundOk = true; // Striders walk on lava
+        } else {
+            groundOk = !lavaOnly && ground.isSolid() && !HAZARDS.contains(ground);
+        }
+        if (!groundOk) {
+            return false;
+        }
+
+        for (int i = 0; i < clearance; i++) {
+            Material space = snapshot.getBlockType(x, y + i, z);
+            if (space.isSolid() || space == Material.WATER || space == Material.LAVA || HAZARDS.contains(space)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int getClearance(MountType mountType) {
+        // Blocks of headroom the entity needs
+        switch (mountType) {
+            case CAMEL:
+                return 3;
+            case MINECART:
+            case CHEST_MINECART:
+            case PIG:
+                return 1;
+            default:
+                return 2;
+        }
+    }
+
+    private static class SearchArea {
+        private final World world;
+        private final int centerX;
+        private final int centerY;
+        private final int centerZ;
+        private final int radius;
+        private final int maxHeightDifference;
+        private final int minHeight;
+        private final int maxHeight;
+        private final LongObjectMap<ChunkSnapshot> snapshots = new LongObjectMap<>();
+        // Block columns already taken by earlier mounts in a group, keyed like chunks
+        private final Set<Long> claimed = new HashSet<>();
+
+        private SearchArea(World world, int centerX, int centerY, int centerZ, int radius,
+                           int maxHeightDifference, int minHeight, int maxHeight) {
+            this.world = world;
+            this.centerX = centerX;
+            this.centerY = centerY;
+            this.centerZ = centerZ;
+            this.radius = radius;
+            this.maxHeightDifference = maxHeightDifference;
+            this.minHeight = minHeight;
+            this.maxHeight = maxHeight;
+        }
+    }
+}
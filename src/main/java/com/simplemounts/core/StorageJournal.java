@@ -0,0 +1,322 @@
+package com.simplemounts.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, memory-mapped journal of mount snapshots that have been taken off the world
+ * but not yet committed to the database. A snapshot is appended before its entity is
+ * removed and a completion record is appended once the database commit succeeds, so
+ * anything left open when the file is reopened still needs saving. Writes go straight into
+ * the mapped region, so they reach the OS page cache without a system call and survive the
+ * JVM dying at any point. The region is rewound to the start whenever nothing is open.
+ *
+ * Record layout: [int payload length][int CRC32 of payload][payload]. Every append first
+ * writes a zero length where its last record will end; reading stops at that terminator, or
+ * at a torn record (crash mid-write) that fails its length or CRC check. Older records are
+ * left behind a rewind, so a rewind starts with a marker holding the last sequence number
+ * handed out, and reading also stops at any record whose sequence number is out of order
+ * for this generation.
+ */
+public class StorageJournal {
+
+    private static final byte ENTRY = 1;
+    private static final byte COMPLETE = 2;
+    private static final byte REWOUND = 3;
+    private static final int INITIAL_SIZE = 1 << 20;
+
+    private final File file;
+    private final Map<Long, DatabaseManager.MountDataUpdate> open = new LinkedHashMap<>();
+    private FileChannel channel;
+    private MappedByteBuffer mapped;
+    private long nextSeq = 1;
+
+    public StorageJournal(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Open and map the journal, reading back any entries that were never completed.
+     */
+    public synchronized void open() throws IOException {
+        if (channel != null) {
+            return;
+        }
+
+        file.getParentFile().mkdirs();
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        map(Math.max(channel.size(), INITIAL_SIZE));
+
+        int validEnd = readAll();
+        if (open.isEmpty()) {
+            rewind();
+            return;
+        }
+        mapped.position(validEnd);
+        ensureCapacity(0);
+        // Cut off a torn tail so it is never read as part of a later record
+        mapped.putInt(mapped.position(), 0);
+    }
+
+    /**
+     * Entries appended but never completed, in append order.
+     */
+    public synchronized Map<Long, DatabaseManager.MountDataUpdate> getOpenEntries() {
+        return new LinkedHashMap<>(open);
+    }
+
+    public synchronized int getOpenCount() {
+        return open.size();
+    }
+
+    /**
+     * Append snapshots and return their sequence numbers.
+     */
+    public synchronized long[] append(List<DatabaseManager.MountDataUpdate> updates) throws IOException {
+        ensureOpen();
+
+        long[] seqs = new long[updates.size()];
+        List<byte[]> payloads = new ArrayList<>(updates.size());
+        int size = 0;
+        for (int i = 0; i < updates.size(); i++) {
+            seqs[i] = nextSeq++;
+            byte[] payload = encodeEntry(seqs[i], updates.get(i));
+            payloads.add(payload);
+            size += 8 + payload.length;
+        }
+
+        ensureCapacity(size);
+        mapped.putInt(mapped.position() + size, 0);
+        for (byte[] payload : payloads) {
+            putRecord(payload);
+        }
+
+        for (int i = 0; i < seqs.length; i++) {
+            open.put(seqs[i], updates.get(i));
+        }
+        return seqs;
+    }
+
+    /**
+     * Mark entries as committed. Rewinds the journal once nothing is left open.
+     */
+    public synchronized void complete(long[] seqs) throws IOException {
+        ensureOpen();
+
+        for (long seq : seqs) {
+            open.remove(seq);
+        }
+
+        if (open.isEmpty()) {
+            rewind();
+            return;
+        }
+
+        int size = seqs.length * (8 + 9);
+        ensureCapacity(size);
+        mapped.putInt(mapped.position() + size, 0);
+        for (long seq : seqs) {
+            ByteBuffer payload = ByteBuffer.allocate(9);
+            payload.put(COMPLETE).putLong(seq);
+            putRecord(payload.array());
+        }
+    }
+
+    /**
+     * Push mapped pages to the storage device. Only needed to survive an OS crash or power
+     * loss; a dead JVM loses nothing that was already appended.
+     */
+    public synchronized void force() {
+        if (mapped != null) {
+            mapped.force();
+        }
+    }
+
+    public synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            mapped.force();
+            channel.close();
+        } catch (IOException ignored) {
+            // Nothing left to do with the file
+        }
+        mapped = null;
+        channel = null;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (channel == null) {
+            throw new IOException("Storage journal is not open: " + file);
+        }
+    }
+
+    private void map(long size) throws IOException {
+        int position = mapped != null ? mapped.position() : 0;
+        mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        mapped.position(position);
+    }
+
+    private void ensureCapacity(int size) throws IOException {
+        // Room for the records plus the trailing terminator
+        long needed = (long) mapped.position() + size + 4;
+        if (needed <= mapped.capacity()) {
+            return;
+        }
+
+        long newSize = mapped.capacity();
+        while (newSize < needed) {
+            newSize *= 2;
+        }
+        if (newSize > Integer.MAX_VALUE) {
+            throw new IOException("Storage journal is full: " + file);
+        }
+        map(newSize);
+    }
+
+    /**
+     * Start over at the beginning of the region. The marker goes in before the terminator,
+     * so whichever of the two is on disk, older records behind it are never replayed.
+     */
+    private void rewind() {
+        mapped.position(0);
+        ByteBuffer payload = ByteBuffer.allocate(9);
+        payload.put(REWOUND).putLong(nextSeq - 1);
+        putRecord(payload.array());
+        mapped.putInt(mapped.position(), 0);
+    }
+
+    private void putRecord(byte[] payload) {
+        mapped.putInt(payload.length).putInt(crc(payload)).put(payload);
+    }
+
+    private int readAll() {
+        ByteBuffer data = mapped.duplicate();
+        data.position(0);
+
+        int validEnd = 0;
+        // Lowest and highest sequence numbers this generation may refer to
+        long floor = 0;
+        long lastEntry = 0;
+        while (data.remaining() >= 8) {
+            int start = data.position();
+            int length = data.getInt();
+            int crc = data.getInt();
+            if (length <= 0 || length > data.remaining()) {
+                break;
+            }
+
+            byte[] payload = new byte[length];
+            data.get(payload);
+            if (crc(payload) != crc || length < 9) {
+                break;
+            }
+
+            // Anything out of order is left over from before a rewind
+            ByteBuffer record = ByteBuffer.wrap(payload);
+            byte type = record.get(0);
+            long seq = record.getLong(1);
+            if (type == REWOUND) {
+                if (start != 0) {
+                    break;
+                }
+                floor = seq;
+                lastEntry = seq;
+            } else if (type == ENTRY) {
+                if (seq <= lastEntry) {
+                    break;
+                }
+                lastEntry = seq;
+            } else if (type != COMPLETE || seq <= floor || seq > lastEntry) {
+                break;
+            }
+
+            readPayload(record);
+            validEnd = data.position();
+        }
+        return validEnd;
+    }
+
+    private void readPayload(ByteBuffer payload) {
+        byte type = payload.get();
+        long seq = payload.getLong();
+        nextSeq = Math.max(nextSeq, seq + 1);
+
+        if (type == REWOUND) {
+            return;
+        }
+        if (type == COMPLETE) {
+            open.remove(seq);
+            return;
+        }
+
+        int mountId = payload.getInt();
+        boolean hasEntity = payload.get() == 1;
+        long mostSig = payload.getLong();
+        long leastSig = payload.getLong();
+        UUID entityUuid = hasEntity ? new UUID(mostSig, leastSig) : null;
+        String mountData = getString(payload);
+        String chestInventory = getString(payload);
+        open.put(seq, new DatabaseManager.MountDataUpdate(mountId, entityUuid, mountData, chestInventory));
+    }
+
+    private static byte[] encodeEntry(long seq, DatabaseManager.MountDataUpdate update) {
+        byte[] mountData = bytes(update.getMountData());
+        byte[] chestInventory = bytes(update.getChestInventory());
+
+        ByteBuffer payload = ByteBuffer.allocate(1 + 8 + 4 + 1 + 16
+            + 4 + (mountData != null ? mountData.length : 0)
+            + 4 + (chestInventory != null ? chestInventory.length : 0));
+        payload.put(ENTRY).putLong(seq).putInt(update.getMountId());
+        if (update.getEntityUuid() != null) {
+            payload.put((byte) 1)
+                .putLong(update.getEntityUuid().getMostSignificantBits())
+                .putLong(update.getEntityUuid().getLeastSignificantBits());
+        } else {
+            payload.put((byte) 0).putLong(0L).putLong(0L);
+        }
+        putBytes(payload, mountData);
+        putBytes(payload, chestInventory);
+        return payload.array();
+    }
+
+    private static int crc(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] bytes(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(value.length).put(value);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
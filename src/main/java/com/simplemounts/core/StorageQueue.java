@@ -0,0 +1,450 @@
+package com.simplemounts.core;
+
+import com.simplemounts.SimpleMounts;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+
+/**
+ * Write-behind queue for mount snapshots. The main thread journals snapshots and hands
+ * them over without waiting on the database; a single writer thread commits them in
+ * batched transactions and marks them complete in the journal. Failed batches are retried
+ * with backoff, and anything still open in the journal at startup is queued again.
+ */
+public class StorageQueue {
+
+    private static final int MAX_BATCH = 256;
+    private static final long MAX_BACKOFF_MILLIS = 30000L;
+
+    private final SimpleMounts plugin;
+    private final StorageJournal journal;
+    private final LinkedBlockingDeque<Entry> queue = new LinkedBlockingDeque<>();
+    // Queued or being committed; only drops once a commit succeeds
+    private final AtomicInteger outstanding = new AtomicInteger();
+    // Same, per mount ID, so a summon can wait for its own mount's snapshot to land
+    private final Map<Integer, PendingMount> pendingMounts = new ConcurrentHashMap<>();
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder committed = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private final LongAdder journalFailures = new LongAdder();
+    private volatile long lastCommitMillis;
+    private volatile int lastBatchSize;
+
+    private volatile Thread writer;
+    private volatile boolean running;
+
+    public StorageQueue(SimpleMounts plugin) {
+        this.plugin = plugin;
+        this.journal = new StorageJournal(new File(plugin.getDataFolder(), "storage.journal"));
+    }
+
+    /**
+     * Open the journal, requeue unfinished snapshots and start the writer thread.
+     * Call once the database is initialized.
+     */
+    public void start() {
+        if (running) {
+            return;
+        }
+
+        try {
+            journal.open();
+            Map<Long, DatabaseManager.MountDataUpdate> unfinished = journal.getOpenEntries();
+            for (Map.Entry<Long, DatabaseManager.MountDataUpdate> entry : unfinished.entrySet()) {
+                track(entry.getValue().getMountId());
+                queue.add(new Entry(entry.getKey(), entry.getValue(), null));
+            }
+            outstanding.addAndGet(unfinished.size());
+            if (!unfinished.isEmpty()) {
+                plugin.getLogger().warning("Replaying " + unfinished.size() + " mount snapshots that were not saved before the last shutdown");
+            }
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Could not open storage journal; queued snapshots will not survive a crash", e);
+        }
+
+        running = true;
+        writer = new Thread(this::run, "SimpleMounts-StorageQueue");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Journal the snapshots and queue them for commit. Returns once they are in the journal,
+     * so the caller may remove the entities; the future completes when they are committed.
+     * Safe to call from the main thread.
+     */
+    public CompletableFuture<Void> submit(List<DatabaseManager.MountDataUpdate> updates) {
+        if (updates.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long[] seqs;
+        try {
+            seqs = journal.append(updates);
+        } catch (IOException e) {
+            // Still commit from memory; only crash safety is lost
+            journalFailures.increment();
+            plugin.getLogger().log(Level.SEVERE, "Failed to journal " + updates.size() + " mount snapshots", e);
+            seqs = null;
+        }
+
+        Submission submission = new Submission(updates.size());
+        outstanding.addAndGet(updates.size());
+        for (int i = 0; i < updates.size(); i++) {
+            track(updates.get(i).getMountId());
+            queue.add(new Entry(seqs != null ? seqs[i] : 0L, updates.get(i), submission));
+        }
+        submitted.add(updates.size());
+        return submission.future;
+    }
+
+    /**
+     * Journal the snapshots and commit them all in one transaction on the calling thread,
+     * bypassing the writer. Used at shutdown. On failure or timeout the snapshots are left
+     * to the writer and, failing that, to replay on next start. Returns rows saved or -1.
+     */
+    public int submitAndCommit(List<DatabaseManager.MountDataUpdate> updates, long timeoutMillis) {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+
+        long[] seqs;
+        try {
+            seqs = journal.append(updates);
+        } catch (IOException e) {
+            journalFailures.increment();
+            plugin.getLogger().log(Level.SEVERE, "Failed to journal " + updates.size() + " mount snapshots", e);
+            seqs = null;
+        }
+        submitted.add(updates.size());
+        for (DatabaseManager.MountDataUpdate update : updates) {
+            track(update.getMountId());
+        }
+
+        long start = System.currentTimeMillis();
+        int saved;
+        try {
+            saved = plugin.getDatabaseManager().storeMountDataBatch(updates).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            saved = -1;
+        }
+
+        if (saved < 0) {
+            failedBatches.increment();
+            Submission submission = new Submission(updates.size());
+            outstanding.addAndGet(updates.size());
+            for (int i = 0; i < updates.size(); i++) {
+                queue.add(new Entry(seqs != null ? seqs[i] : 0L, updates.get(i), submission));
+            }
+            return -1;
+        }
+
+        lastCommitMillis = System.currentTimeMillis() - start;
+        lastBatchSize = updates.size();
+        committed.add(updates.size());
+        for (DatabaseManager.MountDataUpdate update : updates) {
+            release(update.getMountId());
+        }
+        if (seqs != null) {
+            try {
+                journal.complete(seqs);
+            } catch (IOException e) {
+                journalFailures.increment();
+                plugin.getLogger().log(Level.WARNING, "Failed to mark mount snapshots complete in the storage journal", e);
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * Wait until everything queued so far has been committed or the timeout passes.
+     */
+    public boolean flush(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (outstanding.get() > 0) {
+            if (!running || System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(10L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Flush, stop the writer and close the journal. Anything not committed in time stays
+     * in the journal and is replayed on the next start.
+     */
+    public void shutdown(long timeoutMillis) {
+        if (!running) {
+            return;
+        }
+
+        if (!flush(timeoutMillis)) {
+            plugin.getLogger().warning(outstanding.get() + " mount snapshots were not saved before shutdown; they will be replayed on next start");
+        }
+
+        running = false;
+        Thread thread = writer;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(1000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        journal.close();
+    }
+
+    /**
+     * For the JVM shutdown hook, when Bukkit may already be gone: push the journal to disk,
+     * give the writer a moment to commit, and leave the rest for replay on next start.
+     */
+    public void emergencyShutdown(long timeoutMillis) {
+        journal.force();
+        shutdown(timeoutMillis);
+    }
+
+    private void run() {
+        long backoff = 500L;
+
+        while (running) {
+            List<Entry> batch = new ArrayList<>();
+            try {
+                Entry first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH - 1);
+            } catch (InterruptedException e) {
+                continue;
+            }
+
+            if (commit(batch)) {
+                outstanding.addAndGet(-batch.size());
+                for (Entry entry : batch) {
+                    release(entry.update.getMountId());
+                    if (entry.submission != null) {
+                        entry.submission.entryCommitted();
+                    }
+                }
+                backoff = 500L;
+            } else {
+                requeue(batch);
+                sleepQuietly(backoff);
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private boolean commit(List<Entry> batch) {
+        List<DatabaseManager.MountDataUpdate> updates = new ArrayList<>(batch.size());
+        for (Entry entry : batch) {
+            updates.add(entry.update);
+        }
+
+        long start = System.currentTimeMillis();
+        int saved;
+        try {
+            saved = plugin.getDatabaseManager().storeMountDataBatch(updates).get();
+        } catch (Exception e) {
+            saved = -1;
+        }
+
+        if (saved < 0) {
+            failedBatches.increment();
+            plugin.getLogger().warning("Failed to commit " + batch.size() + " queued mount snapshots; retrying");
+            return false;
+        }
+
+        lastCommitMillis = System.currentTimeMillis() - start;
+        lastBatchSize = batch.size();
+        committed.add(batch.size());
+
+        long[] seqs = batch.stream().mapToLong(entry -> entry.seq).filter(seq -> seq > 0).toArray();
+        if (seqs.length > 0) {
+            try {
+                journal.complete(seqs);
+            } catch (IOException e) {
+                // Replaying a committed snapshot later only rewrites the same data
+                journalFailures.increment();
+                plugin.getLogger().log(Level.WARNING, "Failed to mark mount snapshots complete in the storage journal", e);
+            }
+        }
+        return true;
+    }
+
+    private void requeue(List<Entry> batch) {
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            queue.addFirst(batch.get(i));
+        }
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ignored) {
+            // Woken for shutdown
+        }
+    }
+
+    /**
+     * True while any snapshot is still waiting to be committed, so database reads may be stale.
+     */
+    public boolean hasPending() {
+        return outstanding.get() > 0;
+    }
+
+    /**
+     * True while a snapshot of this mount is still waiting to be committed, so its row may be stale.
+     */
+    public boolean hasPending(int mountId) {
+        return pendingMounts.containsKey(mountId);
+    }
+
+    /**
+     * Completes once every snapshot of this mount queued so far has been committed;
+     * already complete if none are pending.
+     */
+    public CompletableFuture<Void> whenCommitted(int mountId) {
+        PendingMount pending = pendingMounts.get(mountId);
+        return pending != null ? pending.committed : CompletableFuture.completedFuture(null);
+    }
+
+    private void track(int mountId) {
+        pendingMounts.compute(mountId, (id, pending) -> {
+            PendingMount tracked = pending != null ? pending : new PendingMount();
+            tracked.count++;
+            return tracked;
+        });
+    }
+
+    private void release(int mountId) {
+        PendingMount[] done = new PendingMount[1];
+        pendingMounts.computeIfPresent(mountId, (id, pending) -> {
+            if (--pending.count > 0) {
+                return pending;
+            }
+            done[0] = pending;
+            return null;
+        });
+        // Completed outside compute() so waiting summons don't run under the map lock
+        if (done[0] != null) {
+            done[0].committed.complete(null);
+        }
+    }
+
+    public QueueStats getStats() {
+        return new QueueStats(
+            submitted.sum(),
+            committed.sum(),
+            outstanding.get(),
+            journal.getOpenCount(),
+            failedBatches.sum(),
+            journalFailures.sum(),
+            lastBatchSize,
+            lastCommitMillis
+        );
+    }
+
+    private static final class Entry {
+        private final long seq;
+        private final DatabaseManager.MountDataUpdate update;
+        private final Submission submission;
+
+        private Entry(long seq, DatabaseManager.MountDataUpdate update, Submission submission) {
+            this.seq = seq;
+            this.update = update;
+            this.submission = submission;
+        }
+    }
+
+    /**
+     * Snapshots of one mount not yet committed; only touched inside compute() on the map.
+     */
+    private static final class PendingMount {
+        private int count;
+        private final CompletableFuture<Void> committed = new CompletableFuture<>();
+    }
+
+    /**
+     * One submit() call, which may be committed across several batches.
+     */
+    private static final class Submission {
+        private final AtomicInteger remaining;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private Submission(int size) {
+            this.remaining = new AtomicInteger(size);
+        }
+
+        private void entryCommitted() {
+            if (remaining.decrementAndGet() == 0) {
+                future.complete(null);
+            }
+        }
+    }
+
+    public static class QueueStats {
+        private final long submitted;
+        private final long committed;
+        private final int pending;
+        private final int journalOpen;
+        private final long failedBatches;
+        private final long journalFailures;
+        private final int lastBatchSize;
+        private final long lastCommitMillis;
+
+        public QueueStats(long submitted, long committed, int pending, int journalOpen, long failedBatches,
+                          long journalFailures, int lastBatchSize, long lastCommitMillis) {
+            this.submitted = submitted;
+            this.committed = committed;
+            this.pending = pending;
+            this.journalOpen = journalOpen;
+            this.failedBatches = failedBatches;
+            this.journalFailures = journalFailures;
+            this.lastBatchSize = lastBatchSize;
+            this.lastCommitMillis = lastCommitMillis;
+        }
+
+        public long getSubmitted() { return submitted; }
+        public long getCommitted() { return committed; }
+        public int getPending() { return pending; }
+        public int getJournalOpen() { return journalOpen; }
+        public long getFailedBatches() { return failedBatches; }
+        public long getJournalFailures() { return journalFailures; }
+        public int getLastBatchSize() { return lastBatchSize; }
+        public long getLastCommitMillis() { return lastCommitMillis; }
+
+        @Override
+        public String toString() {
+            return "QueueStats{" +
+                    "submitted=" + submitted +
+                    ", committed=" + committed +
+                    ", pending=" + pending +
+                    ", journalOpen=" + journalOpen +
+                    ", failedBatches=" + failedBatches +
+                    ", journalFailures=" + journalFailures +
+                    ", lastBatchSize=" + lastBatchSize +
+                    ", lastCommitMillis=" + lastCommitMillis +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.simplemounts.core;
+
+import com.simplemounts.data.MountType;
+import com.simplemounts.data.TamingItem;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Taming items grouped by material, built with the config snapshot. A right-click with an
+ * item whose material no taming item uses is rejected by one map lookup; otherwise only
+ * the few candidates for that material are tested, type-specific items before the default.
+ */
+public final class TamingItemIndex {
+
+    private final Map<Material, Candidate[]> byMaterial = new EnumMap<>(Material.class);
+
+    TamingItemIndex(TamingItem defaultItem, Map<MountType, TamingItem> typeItems) {
+        // Types that fall back to the default share its instance; group by identity
+        Map<TamingItem, Set<MountType>> typesByItem = new IdentityHashMap<>();
+        for (Map.Entry<MountType, TamingItem> entry : typeItems.entrySet()) {
+            if (entry.getValue() != defaultItem) {
+                typesByItem.computeIfAbsent(entry.getValue(), item -> EnumSet.noneOf(MountType.class)).add(entry.getKey());
+            }
+        }
+
+        Map<Material, List<Candidate>> grouped = new EnumMap<>(Material.class);
+        for (Map.Entry<TamingItem, Set<MountType>> entry : typesByItem.entrySet()) {
+            add(grouped, new Candidate(entry.getKey(), entry.getValue()));
+        }
+        // The default applies to every type and is always tried last
+        add(grouped, new Candidate(defaultItem, EnumSet.allOf(MountType.class)));
+
+        for (Map.Entry<Material, List<Candidate>> entry : grouped.entrySet()) {
+            byMaterial.put(entry.getKey(), entry.getValue().toArray(new Candidate[0]));
+        }
+    }
+
+    public boolean isTamingMaterial(Material material) {
+        return byMaterial.containsKey(material);
+    }
+
+    /**
+     * The taming item the stack counts as for this mount type, or null if it is none.
+     */
+    public TamingItem match(MountType mountType, ItemStack item) {
+        if (item == null) {
+            return null;
+        }
+        Candidate[] candidates = byMaterial.get(item.getType());
+        if (candidates == null) {
+            return null;
+        }
+        for (Candidate candidate : candidates) {
+            if (candidate.types.contains(mountType) && candidate.item.matches(item)) {
+                return candidate.item;
+            }
+        }
+        return null;
+    }
+
+    private static void add(Map<Material, List<Candidate>> grouped, Candidate candidate) {
+        if (candidate.item.isValid()) {
+            grouped.computeIfAbsent(candidate.item.getMaterial(), material -> new ArrayList<>()).add(candidate);
+        }
+    }
+
+    private static final class Candidate {
+        private final TamingItem item;
+        private final Set<MountType> types;
+
+        private Candidate(TamingItem item, Set<MountType> types) {
+            this.item = item;
+            this.types = types;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -19,6 +20,9 @@ public class TamingItem {
     private final Integer customModelData;
     private final Map<Enchantment, Integer> enchantments;
     private final boolean consumeOnUse;
+    // Color codes translated once; matches() compares against these directly
+    private final String displayName;
+    private final List<String> displayLore;
     
     public TamingItem(Material material, String name, List<String> lore, Integer customModelData, 
                       Map<Enchantment, Integer> enchantments, boolean consumeOnUse) {
@@ -28,6 +32,12 @@ public class TamingItem {
         this.customModelData = customModelData;
         this.enchantments = enchantments;
         this.consumeOnUse = consumeOnUse;
+        this.displayName = name != null && !name.isEmpty() ? ChatColor.translateAlternateColorCodes('&', name) : null;
+        List<String> coloredLore = new ArrayList<>(this.lore.size());
+        for (String line : this.lore) {
+            coloredLore.add(ChatColor.translateAlternateColorCodes('&', line));
+        }
+        this.displayLore = Collections.unmodifiableList(coloredLore);
     }
     
     public Material getMaterial() {
@@ -59,16 +69,12 @@ public class TamingItem {
         ItemMeta meta = item.getItemMeta();
         
         if (meta != null) {
-            if (name != null && !name.isEmpty()) {
-                meta.setDisplayName(ChatColor.translateAlternateColorCodes('&', name));
+            if (displayName != null) {
+                meta.setDisplayName(displayName);
             }
             
-            if (!lore.isEmpty()) {
-                List<String> coloredLore = new ArrayList<>();
-                for (String line : lore) {
-                    coloredLore.add(ChatColor.translateAlternateColorCodes('&', line));
-                }
-                meta.setLore(coloredLore);
+            if (!displayLore.isEmpty()) {
+                meta.setLore(new ArrayList<>(displayLore));
             }
             
             if (customModelData != null) {
@@ -87,6 +93,9 @@ public class TamingItem {
         return item;
     }
     
+    /**
+     * Checks run cheapest first: material, custom model data, name, lore, enchantments.
+     */
     public boolean matches(ItemStack item) {
         if (item == null || item.getType() != material) {
             return false;
@@ -94,25 +103,17 @@ public class TamingItem {
         
         ItemMeta meta = item.getItemMeta();
         if (meta == null) {
-            return customModelData == null && (name == null || name.isEmpty()) && lore.isEmpty();
+            return customModelData == null && displayName == null && displayLore.isEmpty();
         }
         
-        // Debug logging
-        System.out.println("DEBUG TamingItem.matches() - Expected: " + this.toString());
-        System.out.println("DEBUG TamingItem.matches() - Item: " + item.getType() + 
-            " name: " + (meta.hasDisplayName() ? meta.getDisplayName() : "none") +
-            " customModelData: " + (meta.hasCustomModelData() ? meta.getCustomModelData() : "none") +
-            " lore: " + (meta.hasLore() ? meta.getLore() : "none"));
-        
         if (customModelData != null) {
             if (!meta.hasCustomModelData() || meta.getCustomModelData() != customModelData) {
                 return false;
             }
         }
         
-        if (name != null && !name.isEmpty()) {
-            String expectedName = ChatColor.translateAlternateColorCodes('&', name);
-            if (!meta.hasDisplayName() || !meta.getDisplayName().equals(expectedName)) {
+        if (displayName != null) {
+            if (!meta.hasDisplayName() || !meta.getDisplayName().equals(displayName)) {
                 return false;
             }
         } else if (meta.hasDisplayName()) {
@@ -120,18 +121,8 @@ public class TamingItem {
             return false;
         }
         
-        if (!lore.isEmpty()) {
-            if (!meta.hasLore()) {
-                return false;
-            }
-            
-            List<String> itemLore = meta.getLore();
-            List<String> expectedLore = new ArrayList<>();
-            for (String line : lore) {
-                expectedLore.add(ChatColor.translateAlternateColorCodes('&', line));
-            }
-            
-            if (!itemLore.equals(expectedLore)) {
+        if (!displayLore.isEmpty()) {
+            if (!meta.hasLore() || !displayLore.equals(meta.getLore())) {
                 return false;
             }
         }
@@ -139,8 +130,7 @@ public class TamingItem {
         if (enchantments != null && !enchantments.isEmpty()) {
             Map<Enchantment, Integer> itemEnchantments = item.getEnchantments();
             for (Map.Entry<Enchantment, Integer> entry : enchantments.entrySet()) {
-                if (!itemEnchantments.containsKey(entry.getKey()) || 
-                    !itemEnchantments.get(entry.getKey()).equals(entry.getValue())) {
+                if (!entry.getValue().equals(itemEnchantments.get(entry.getKey()))) {
                     return false;
                 }
             }
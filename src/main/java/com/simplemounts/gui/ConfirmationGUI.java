@@ -26,22 +26,23 @@ public class ConfirmationGUI {
         String title = ChatColor.RED + "" + ChatColor.BOLD + "Confirm Action";
         Inventory inventory = Bukkit.createInventory(null, 27, title);
         
-        // Fill background
-        GUIManager.fillBackground(inventory);
+        // Background and confirmation items in one call
+        ItemStack[] contents = GUITemplates.confirmationFrame();
+        addConfirmationItems(contents);
+        inventory.setContents(contents);
         
-        // Add confirmation items
-        addConfirmationItems(inventory);
+        GUISession session = plugin.getGUIManager().sessionFor(player, GUIManager.GUIType.CONFIRMATION, 0);
+        session.attach(inventory, title, contents);
         
         player.openInventory(inventory);
     }
     
-    private void addConfirmationItems(Inventory inventory) {
+    private void addConfirmationItems(ItemStack[] contents) {
         // Main question item
-        ItemStack questionItem = createQuestionItem();
-        inventory.setItem(13, questionItem);
+        contents[13] = createQuestionItem();
         
         // Confirm button
-        ItemStack confirmButton = GUIManager.createActionItem(
+        contents[11] = GUITemplates.action(
             Material.LIME_CONCRETE,
             "Confirm",
             "confirm_" + action,
@@ -49,10 +50,9 @@ public class ConfirmationGUI {
             getActionDescription(),
             ChatColor.GREEN + "This will proceed with the action"
         );
-        inventory.setItem(11, confirmButton);
         
         // Cancel button
-        ItemStack cancelButton = GUIManager.createActionItem(
+        contents[15] = GUITemplates.action(
             Material.RED_CONCRETE,
             "Cancel",
             "cancel_action",
@@ -60,7 +60,6 @@ public class ConfirmationGUI {
             "No changes will be made",
             ChatColor.RED + "This will abort the action"
         );
-        inventory.setItem(15, cancelButton);
     }
     
     private ItemStack createQuestionItem() {
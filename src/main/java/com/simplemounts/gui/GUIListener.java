@@ -3,6 +3,7 @@ package com.simplemounts.gui;
 import com.simplemounts.SimpleMounts;
 import com.simplemounts.data.MountData;
 import com.simplemounts.core.MountManager;
+import com.simplemounts.core.RateLimiter;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
@@ -36,19 +37,31 @@ public class GUIListener implements Listener {
     
     @EventHandler
     public void onInventoryClick(InventoryClickEvent event) {
+        // Only clicks from players with an open SimpleMounts GUI get past this
+        if (!plugin.getEventPrefilter().admitGuiClick(event.getWhoClicked())) {
+            return;
+        }
+        
         Player player = (Player) event.getWhoClicked();
         
-        // Check if player has an active GUI session
-        if (!guiManager.hasActiveSession(player)) {
+        // Only clicks while the session's own inventory is open belong to the GUI
+        GUISession session = guiManager.getSession(player);
+        if (session == null) {
+            return;
+        }
+        if (!session.isShowing(event.getView().getTopInventory())) {
+            // Still loading: what is on screen is the GUI being replaced, so keep it locked
+            if (session.getInventory() == null) {
+                event.setCancelled(true);
+            }
             return;
         }
         
         // Prevent moving items in GUI
         event.setCancelled(true);
         
-        // Get the GUI session
-        GUISession session = guiManager.getSession(player);
-        if (session == null) {
+        // Drop click spam before doing any work
+        if (!plugin.getMountManager().getRateLimiter().tryAcquire(player.getUniqueId(), RateLimiter.Action.GUI_CLICK)) {
             return;
         }
         
@@ -212,21 +225,19 @@ public class GUIListener implements Listener {
                 plugin.runAsync(() -> {
                     // The summonMount method already handles dismissing existing mounts
                     mountManager.summonMount(player, mountId).thenAccept(summoned -> {
-                        plugin.runSync(() -> {
-                            player.closeInventory();
-                            guiManager.closeSession(player);
-                        });
+                        plugin.runSync(() -> refreshOrClose(player));
                     });
                 });
                 break;
                 
             case "store_mount":
+                if (!mountManager.getRateLimiter().tryAcquire(player.getUniqueId(), RateLimiter.Action.STORE)) {
+                    player.sendMessage(plugin.getConfigManager().formatMessage(player, "rate_limit_exceeded"));
+                    break;
+                }
                 plugin.runAsync(() -> {
                     mountManager.storeMount(player, mountId).thenAccept(stored -> {
-                        plugin.runSync(() -> {
-                            player.closeInventory();
-                            guiManager.closeSession(player);
-                        });
+                        plugin.runSync(() -> refreshOrClose(player));
                     });
                 });
                 break;
@@ -252,6 +263,21 @@ public class GUIListener implements Listener {
         }
     }
     
+    /**
+     * After an action started from the mount list, update the changed slots of the open list;
+     * from any other GUI, close it as before.
+     */
+    private void refreshOrClose(Player player) {
+        GUISession session = guiManager.getSession(player);
+        if (session != null && session.getType() == GUIManager.GUIType.MOUNT_LIST
+                && session.isShowing(player.getOpenInventory().getTopInventory())) {
+            new MountListGUI(plugin, player, session.getPage()).refresh();
+            return;
+        }
+        player.closeInventory();
+        guiManager.closeSession(player);
+    }
+    
     @EventHandler
     public void onPlayerChat(AsyncPlayerChatEvent event) {
         Player player = event.getPlayer();
@@ -291,9 +317,11 @@ public class GUIListener implements Listener {
     public void onInventoryClose(InventoryCloseEvent event) {
         Player player = (Player) event.getPlayer();
         
-        // Always close GUI session when inventory closes
-        // This prevents players from getting stuck in GUI interaction mode
-        if (guiManager.hasActiveSession(player)) {
+        // Close the GUI session when its inventory closes, so players don't get stuck in GUI
+        // interaction mode. Opening the next GUI closes the previous inventory first; that
+        // close must not end the session that belongs to the new one.
+        GUISession session = guiManager.getSession(player);
+        if (session != null && session.isShowing(event.getInventory())) {
             guiManager.closeSession(player);
         }
     }
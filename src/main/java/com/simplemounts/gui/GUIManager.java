@@ -36,6 +36,7 @@ public class GUIManager {
         plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, () -> {
             // Clean up sessions for offline players
             activeSessions.entrySet().removeIf(entry -> !entry.getKey().isOnline());
+            GUITemplates.retainPlayers(uuid -> plugin.getServer().getPlayer(uuid) != null);
             
             // Clean up sessions that are older than 5 minutes (safety net)
             long fiveMinutesAgo = System.currentTimeMillis() - (5 * 60 * 1000);
@@ -45,32 +46,43 @@ public class GUIManager {
     }
     
     public void openMountGUI(Player player) {
-        GUISession session = new GUISession(player, GUIType.MOUNT_LIST, 0);
-        activeSessions.put(player, session);
+        beginSession(player, GUIType.MOUNT_LIST, 0);
         
         MountListGUI mountGUI = new MountListGUI(plugin, player);
         mountGUI.open();
     }
     
     public void openMountInfoGUI(Player player, Integer mountId) {
-        GUISession session = new GUISession(player, GUIType.MOUNT_INFO, 0);
+        GUISession session = beginSession(player, GUIType.MOUNT_INFO, 0);
         session.setSelectedMountId(mountId);
-        activeSessions.put(player, session);
         
         MountInfoGUI infoGUI = new MountInfoGUI(plugin, player, mountId);
         infoGUI.open();
     }
     
     public void openConfirmationGUI(Player player, String action, Integer mountId) {
-        GUISession session = new GUISession(player, GUIType.CONFIRMATION, 0);
+        GUISession session = beginSession(player, GUIType.CONFIRMATION, 0);
         session.setSelectedMountId(mountId);
         session.setAction(action);
-        activeSessions.put(player, session);
         
         ConfirmationGUI confirmGUI = new ConfirmationGUI(plugin, player, action, mountId);
         confirmGUI.open();
     }
     
+    GUISession beginSession(Player player, GUIType type, int page) {
+        GUISession session = new GUISession(player, type, page);
+        activeSessions.put(player, session);
+        return session;
+    }
+    
+    /**
+     * The player's session of the given type, or a new one if they have none or a different one.
+     */
+    GUISession sessionFor(Player player, GUIType type, int page) {
+        GUISession session = activeSessions.get(player);
+        return session != null && session.getType() == type ? session : beginSession(player, type, page);
+    }
+    
     public GUISession getSession(Player player) {
         return activeSessions.get(player);
     }
@@ -79,6 +91,10 @@ public class GUIManager {
         activeSessions.remove(player);
     }
     
+    public boolean hasActiveSessions() {
+        return !activeSessions.isEmpty();
+    }
+    
     public boolean hasActiveSession(Player player) {
         return activeSessions.containsKey(player);
     }
@@ -101,14 +117,7 @@ public class GUIManager {
     // Utility methods for creating GUI items
     
     public static ItemStack createBackgroundItem() {
-        ItemStack item = new ItemStack(Material.GRAY_STAINED_GLASS_PANE);
-        ItemMeta meta = item.getItemMeta();
-        if (meta != null) {
-            meta.setDisplayName(" ");
-            meta.addItemFlags(ItemFlag.HIDE_ATTRIBUTES);
-            item.setItemMeta(meta);
-        }
-        return item;
+        return GUITemplates.background().clone();
     }
     
     public static ItemStack createNavigationItem(Material material, String name, String... lore) {
@@ -148,6 +157,10 @@ public class GUIManager {
     }
     
     public static ItemStack createPlayerHead(Player player) {
+        return GUITemplates.playerHead(player).clone();
+    }
+    
+    static ItemStack buildPlayerHead(Player player) {
         ItemStack skull = new ItemStack(Material.PLAYER_HEAD);
         SkullMeta meta = (SkullMeta) skull.getItemMeta();
         if (meta != null) {
@@ -168,7 +181,7 @@ public class GUIManager {
     }
     
     public static void fillBackground(Inventory inventory) {
-        ItemStack background = createBackgroundItem();
+        ItemStack background = GUITemplates.background();
         for (int i = 0; i < inventory.getSize(); i++) {
             if (inventory.getItem(i) == null) {
                 inventory.setItem(i, background);
@@ -177,13 +190,7 @@ public class GUIManager {
     }
     
     public static void addBorder(Inventory inventory) {
-        ItemStack border = new ItemStack(Material.BLACK_STAINED_GLASS_PANE);
-        ItemMeta meta = border.getItemMeta();
-        if (meta != null) {
-            meta.setDisplayName(" ");
-            meta.addItemFlags(ItemFlag.HIDE_ATTRIBUTES);
-            border.setItemMeta(meta);
-        }
+        ItemStack border = GUITemplates.border();
         
         int size = inventory.getSize();
         int rows = size / 9;
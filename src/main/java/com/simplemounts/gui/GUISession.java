@@ -1,16 +1,33 @@
 package com.simplemounts.gui;
 
+import com.simplemounts.data.MountData;
 import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 
 public class GUISession {
     
     private final Player player;
     private final GUIManager.GUIType type;
-    private final int page;
+    private int page;
     private Integer selectedMountId;
     private String action;
     private long lastInteraction;
     
+    // The inventory this session is showing and what is in each slot, so updates only touch changed slots
+    private Inventory inventory;
+    private String title;
+    private ItemStack[] slots;
+    // Mounts loaded for the list, so pages can be flipped without going back to the database
+    private List<MountData> mounts;
+    private final Map<Integer, ParsedAttributes> parsedAttributes = new HashMap<>();
+    
     public GUISession(Player player, GUIManager.GUIType type, int page) {
         this.player = player;
         this.type = type;
@@ -30,6 +47,10 @@ public class GUISession {
         return page;
     }
     
+    public void setPage(int page) {
+        this.page = page;
+    }
+    
     public Integer getSelectedMountId() {
         return selectedMountId;
     }
@@ -60,6 +81,81 @@ public class GUISession {
         return System.currentTimeMillis() - lastInteraction > timeoutMs;
     }
     
+    public Inventory getInventory() {
+        return inventory;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    /**
+     * Record the inventory about to be opened for this session and the contents it was created with.
+     */
+    void attach(Inventory inventory, String title, ItemStack[] contents) {
+        this.inventory = inventory;
+        this.title = title;
+        this.slots = contents.clone();
+    }
+    
+    /**
+     * True while the player still has this session's inventory open.
+     */
+    boolean isShowing(Inventory topInventory) {
+        return inventory != null && inventory.equals(topInventory);
+    }
+    
+    /**
+     * Bring the open inventory to the given contents, setting only the slots that differ
+     * from what it shows now. Returns how many slots were set.
+     */
+    int update(ItemStack[] contents) {
+        int changed = 0;
+        for (int slot = 0; slot < slots.length; slot++) {
+            ItemStack next = slot < contents.length ? contents[slot] : null;
+            ItemStack current = slots[slot];
+            // Templates are shared, so unchanged frame slots are the same instance
+            if (current == next || (current != null && current.equals(next))) {
+                continue;
+            }
+            inventory.setItem(slot, next);
+            slots[slot] = next;
+            changed++;
+        }
+        return changed;
+    }
+    
+    public List<MountData> getMounts() {
+        return mounts;
+    }
+    
+    void setMounts(List<MountData> mounts) {
+        this.mounts = mounts;
+    }
+    
+    /**
+     * A mount's parsed attribute map, parsed again only when its stored data has changed.
+     */
+    Map<String, Object> getParsedAttributes(MountData mountData, Function<String, Map<String, Object>> parser) {
+        String yaml = mountData.getMountDataYaml();
+        ParsedAttributes cached = parsedAttributes.get(mountData.getId());
+        if (cached == null || !Objects.equals(cached.yaml, yaml)) {
+            cached = new ParsedAttributes(yaml, parser.apply(yaml));
+            parsedAttributes.put(mountData.getId(), cached);
+        }
+        return cached.attributes;
+    }
+    
+    private static final class ParsedAttributes {
+        private final String yaml;
+        private final Map<String, Object> attributes;
+        
+        private ParsedAttributes(String yaml, Map<String, Object> attributes) {
+            this.yaml = yaml;
+            this.attributes = attributes;
+        }
+    }
+    
     @Override
     public String toString() {
         return "GUISession{" +
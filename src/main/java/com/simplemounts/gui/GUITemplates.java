@@ -0,0 +1,157 @@
+package com.simplemounts.gui;
+
+import org.bukkit.ChatColor;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Prebuilt stacks for the parts of the GUIs that never change: border and background panes,
+ * navigation and action buttons, and whole frames (border plus fixed buttons) that a new
+ * inventory takes in one setContents call. Inventories copy what they are given, so the
+ * templates themselves are shared; anything handed out for the caller to modify is cloned.
+ * Player heads are built once per player, since setting the skull owner is the costly part.
+ */
+final class GUITemplates {
+
+    // Static items keyed by material, name and lore; page arrows are the only ones that vary
+    private static final int MAX_CACHED_ITEMS = 256;
+    private static final Map<String, ItemStack> items = new ConcurrentHashMap<>();
+    private static final Map<UUID, ItemStack> playerHeads = new ConcurrentHashMap<>();
+
+    private GUITemplates() {
+    }
+
+    // Built on first use, once the server's item factory is available
+    private static final class Frames {
+        static final ItemStack BORDER = pane(Material.BLACK_STAINED_GLASS_PANE);
+        static final ItemStack BACKGROUND = pane(Material.GRAY_STAINED_GLASS_PANE);
+        static final ItemStack[] BORDER_54 = bordered(54);
+        static final ItemStack[] INFO = buildInfoFrame();
+        static final ItemStack[] CONFIRMATION = filled(27);
+    }
+
+    static ItemStack border() {
+        return Frames.BORDER;
+    }
+
+    static ItemStack background() {
+        return Frames.BACKGROUND;
+    }
+
+    /**
+     * Contents for a new 54-slot inventory: the border only. The returned array is the
+     * caller's to fill in; the stacks in it are shared templates.
+     */
+    static ItemStack[] borderFrame() {
+        return Frames.BORDER_54.clone();
+    }
+
+    /**
+     * Contents for a new mount info inventory: border plus back, close, refresh, rename
+     * and release buttons.
+     */
+    static ItemStack[] infoFrame() {
+        return Frames.INFO.clone();
+    }
+
+    static ItemStack[] confirmationFrame() {
+        return Frames.CONFIRMATION.clone();
+    }
+
+    static ItemStack navigation(Material material, String name, String... lore) {
+        return cached("n|" + material + "|" + name + "|" + String.join("|", lore),
+                () -> GUIManager.createNavigationItem(material, name, lore));
+    }
+
+    static ItemStack action(Material material, String name, String action, String... lore) {
+        return cached("a|" + material + "|" + name + "|" + action + "|" + String.join("|", lore),
+                () -> GUIManager.createActionItem(material, name, action, lore));
+    }
+
+    static ItemStack playerHead(Player player) {
+        return playerHeads.computeIfAbsent(player.getUniqueId(), uuid -> GUIManager.buildPlayerHead(player));
+    }
+
+    static void retainPlayers(Predicate<UUID> online) {
+        playerHeads.keySet().removeIf(uuid -> !online.test(uuid));
+    }
+
+    private static ItemStack cached(String key, Supplier<ItemStack> builder) {
+        ItemStack item = items.get(key);
+        if (item == null) {
+            if (items.size() >= MAX_CACHED_ITEMS) {
+                items.clear();
+            }
+            item = builder.get();
+            items.put(key, item);
+        }
+        return item;
+    }
+
+    private static ItemStack pane(Material material) {
+        ItemStack item = new ItemStack(material);
+        ItemMeta meta = item.getItemMeta();
+        if (meta != null) {
+            meta.setDisplayName(" ");
+            meta.addItemFlags(ItemFlag.HIDE_ATTRIBUTES);
+            item.setItemMeta(meta);
+        }
+        return item;
+    }
+
+    private static ItemStack[] bordered(int size) {
+        ItemStack[] contents = new ItemStack[size];
+        int rows = size / 9;
+        for (int i = 0; i < 9; i++) {
+            contents[i] = Frames.BORDER;
+            if (rows > 1) {
+                contents[size - 9 + i] = Frames.BORDER;
+            }
+        }
+        for (int i = 1; i < rows - 1; i++) {
+            contents[i * 9] = Frames.BORDER;
+            contents[i * 9 + 8] = Frames.BORDER;
+        }
+        return contents;
+    }
+
+    private static ItemStack[] filled(int size) {
+        ItemStack[] contents = new ItemStack[size];
+        Arrays.fill(contents, Frames.BACKGROUND);
+        return contents;
+    }
+
+    private static ItemStack[] buildInfoFrame() {
+        ItemStack[] contents = bordered(54);
+        contents[45] = GUIManager.createNavigationItem(Material.ARROW, "Back to Mount List", "Return to the main mount manager");
+        contents[49] = GUIManager.createNavigationItem(Material.BARRIER, "Close", "Close the mount manager");
+        contents[53] = GUIManager.createNavigationItem(Material.LIME_DYE, "Refresh", "Refresh the mount information");
+        contents[50] = GUIManager.createActionItem(
+            Material.NAME_TAG,
+            "Rename Mount",
+            "rename_mount",
+            "Click to rename this mount",
+            "You'll need to type the new name",
+            "in chat after clicking"
+        );
+        contents[52] = GUIManager.createActionItem(
+            Material.LAVA_BUCKET,
+            "Release Mount",
+            "release_mount",
+            "Click to permanently release this mount",
+            ChatColor.RED + "WARNING: This cannot be undone!",
+            "The mount will be deleted forever"
+        );
+        return contents;
+    }
+}
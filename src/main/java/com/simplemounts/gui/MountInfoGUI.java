@@ -30,35 +30,43 @@ public class MountInfoGUI {
         String title = ChatColor.DARK_PURPLE + "" + ChatColor.BOLD + "Mount Info - #" + mountId;
         Inventory inventory = Bukkit.createInventory(null, 54, title);
         
-        // Add border
-        GUIManager.addBorder(inventory);
+        // Border while the mount loads
+        ItemStack[] contents = GUITemplates.borderFrame();
+        inventory.setContents(contents);
         
-        // Load mount data
-        loadMountInfo(inventory);
+        GUISession session = plugin.getGUIManager().sessionFor(player, GUIManager.GUIType.MOUNT_INFO, 0);
+        session.setSelectedMountId(mountId);
+        session.attach(inventory, title, contents);
         
         player.openInventory(inventory);
+        
+        // Load mount data
+        loadMountInfo(session);
     }
     
-    private void loadMountInfo(Inventory inventory) {
+    private void loadMountInfo(GUISession session) {
         plugin.runAsync(() -> {
             plugin.getMountManager().getMountData(player, mountId).thenAccept(mountData -> {
                 plugin.runSync(() -> {
-                    if (mountData != null) {
-                        displayMountInfo(inventory, mountData);
-                    } else {
-                        displayNotFound(inventory);
+                    // Only the slots that changed since the last load are sent
+                    if (!session.isShowing(player.getOpenInventory().getTopInventory())) {
+                        return;
                     }
+                    session.update(mountData != null ? buildMountInfo(mountData) : buildNotFound());
                 });
             });
         });
     }
     
-    private void displayMountInfo(Inventory inventory, MountData mountData) {
+    private ItemStack[] buildMountInfo(MountData mountData) {
+        // Border, navigation, rename and release come from the cached frame
+        ItemStack[] contents = GUITemplates.infoFrame();
+        
         // Parse mount attributes
         Map<String, Object> attributes = parseAttributes(mountData.getMountDataYaml());
         
-        // Check if mount is active (we'll assume not active for now, can be enhanced later)
-        boolean isActive = false;
+        // Check if mount is active by ID
+        boolean isActive = plugin.getMountManager().isMountActive(player, mountData.getId());
         
         // Main mount display item
         ItemStack mainItem = GUIManager.createMountItem(
@@ -72,19 +80,18 @@ public class MountInfoGUI {
             getDoubleAttribute(attributes, "jumpStrength", 0.7),
             plugin
         );
-        inventory.setItem(22, mainItem);
+        contents[22] = mainItem;
         
         // Detailed stats
-        addDetailedStats(inventory, attributes, mountData);
+        addDetailedStats(contents, attributes, mountData);
         
-        // Action buttons
-        addActionButtons(inventory, mountData, isActive);
+        // Summon or store, depending on state
+        addActionButton(contents, isActive);
         
-        // Navigation
-        addNavigationButtons(inventory);
+        return contents;
     }
     
-    private void addDetailedStats(Inventory inventory, Map<String, Object> attributes, MountData mountData) {
+    private void addDetailedStats(ItemStack[] contents, Map<String, Object> attributes, MountData mountData) {
         // Health stat
         ItemStack healthItem = GUIManager.createNavigationItem(
             Material.RED_DYE,
@@ -93,7 +100,7 @@ public class MountInfoGUI {
             "Maximum: " + String.format("%.1f", getDoubleAttribute(attributes, "maxHealth", 20.0)),
             "Percentage: " + String.format("%.1f", (getDoubleAttribute(attributes, "health", 20.0) / getDoubleAttribute(attributes, "maxHealth", 20.0)) * 100) + "%"
         );
-        inventory.setItem(12, healthItem);
+        contents[12] = healthItem;
         
         // Speed stat
         double speed = getDoubleAttribute(attributes, "speed", 0.2);
@@ -104,7 +111,7 @@ public class MountInfoGUI {
             "Blocks/Second: " + String.format("%.1f", speed * 43.17),
             "Percentage: " + String.format("%.1f", (speed / 0.3375) * 100) + "%"
         );
-        inventory.setItem(14, speedItem);
+        contents[14] = speedItem;
         
         // Jump stat
         double jump = getDoubleAttribute(attributes, "jumpStrength", 0.7);
@@ -115,7 +122,7 @@ public class MountInfoGUI {
             "Jump Height: " + String.format("%.1f", getJumpHeight(jump)) + " blocks",
             "Percentage: " + String.format("%.1f", (jump / 1.0) * 100) + "%"
         );
-        inventory.setItem(30, jumpItem);
+        contents[30] = jumpItem;
         
         // Mount info
         SimpleDateFormat dateFormat = new SimpleDateFormat("MMM dd, yyyy HH:mm");
@@ -127,7 +134,7 @@ public class MountInfoGUI {
             "Last Used: " + dateFormat.format(new Date(mountData.getLastAccessed())),
             "Has Chest: " + (mountData.hasChestInventory() ? "Yes" : "No")
         );
-        inventory.setItem(32, infoItem);
+        contents[32] = infoItem;
         
         // Equipment info
         if (hasEquipment(attributes)) {
@@ -138,14 +145,13 @@ public class MountInfoGUI {
                 "Armor: " + getStringAttribute(attributes, "armor", "None"),
                 "Chest: " + (getBooleanAttribute(attributes, "carryingChest", false) ? "Yes" : "No")
             );
-            inventory.setItem(20, equipmentItem);
+            contents[20] = equipmentItem;
         }
     }
     
-    private void addActionButtons(Inventory inventory, MountData mountData, boolean isActive) {
-        // Summon/Store button
+    private void addActionButton(ItemStack[] contents, boolean isActive) {
         if (isActive) {
-            ItemStack storeButton = GUIManager.createActionItem(
+            contents[48] = GUITemplates.action(
                 Material.ENDER_CHEST,
                 "Store Mount",
                 "store_mount",
@@ -153,9 +159,8 @@ public class MountInfoGUI {
                 "The mount will be safely stored",
                 "and removed from the world"
             );
-            inventory.setItem(48, storeButton);
         } else {
-            ItemStack summonButton = GUIManager.createActionItem(
+            contents[48] = GUITemplates.action(
                 Material.GRASS_BLOCK,
                 "Summon Mount",
                 "summon_mount",
@@ -163,59 +168,11 @@ public class MountInfoGUI {
                 "The mount will appear near you",
                 "ready to be ridden"
             );
-            inventory.setItem(48, summonButton);
         }
-        
-        // Rename button
-        ItemStack renameButton = GUIManager.createActionItem(
-            Material.NAME_TAG,
-            "Rename Mount",
-            "rename_mount",
-            "Click to rename this mount",
-            "You'll need to type the new name",
-            "in chat after clicking"
-        );
-        inventory.setItem(50, renameButton);
-        
-        // Release button
-        ItemStack releaseButton = GUIManager.createActionItem(
-            Material.LAVA_BUCKET,
-            "Release Mount",
-            "release_mount",
-            "Click to permanently release this mount",
-            ChatColor.RED + "WARNING: This cannot be undone!",
-            "The mount will be deleted forever"
-        );
-        inventory.setItem(52, releaseButton);
     }
     
-    private void addNavigationButtons(Inventory inventory) {
-        // Back button
-        ItemStack backButton = GUIManager.createNavigationItem(
-            Material.ARROW,
-            "Back to Mount List",
-            "Return to the main mount manager"
-        );
-        inventory.setItem(45, backButton);
-        
-        // Close button
-        ItemStack closeButton = GUIManager.createNavigationItem(
-            Material.BARRIER,
-            "Close",
-            "Close the mount manager"
-        );
-        inventory.setItem(49, closeButton);
-        
-        // Refresh button
-        ItemStack refreshButton = GUIManager.createNavigationItem(
-            Material.LIME_DYE,
-            "Refresh",
-            "Refresh the mount information"
-        );
-        inventory.setItem(53, refreshButton);
-    }
-    
-    private void displayNotFound(Inventory inventory) {
+    private ItemStack[] buildNotFound() {
+        ItemStack[] contents = GUITemplates.borderFrame();
         ItemStack notFoundItem = GUIManager.createNavigationItem(
             Material.BARRIER,
             "Mount Not Found",
@@ -223,15 +180,15 @@ public class MountInfoGUI {
             "It may have been released or renamed.",
             "Click to return to the mount list."
         );
-        inventory.setItem(22, notFoundItem);
+        contents[22] = notFoundItem;
         
         // Back button
-        ItemStack backButton = GUIManager.createNavigationItem(
+        contents[49] = GUITemplates.navigation(
             Material.ARROW,
             "Back to Mount List",
             "Return to the main mount manager"
         );
-        inventory.setItem(49, backButton);
+        return contents;
     }
     
     private Map<String, Object> parseAttributes(String yamlData) {
@@ -280,8 +237,16 @@ public class MountInfoGUI {
         return 6.0;
     }
     
+    /**
+     * Reload the mount and update the open inventory in place, or open it if it is not showing.
+     */
     public void refresh() {
-        MountInfoGUI refreshedGUI = new MountInfoGUI(plugin, player, mountId);
-        refreshedGUI.open();
+        GUISession session = plugin.getGUIManager().getSession(player);
+        if (session != null && session.getType() == GUIManager.GUIType.MOUNT_INFO
+                && session.isShowing(player.getOpenInventory().getTopInventory())) {
+            loadMountInfo(session);
+        } else {
+            open();
+        }
     }
 }
\ No newline at end of file
@@ -36,93 +36,104 @@ public class MountListGUI {
         plugin.runAsync(() -> {
             plugin.getMountManager().getPlayerMounts(player).thenAccept(mounts -> {
                 plugin.runSync(() -> {
-                    // Get mount limit for this player
-                    int maxMounts = getPlayerMountLimit();
-                    int currentMounts = mounts.size();
-                    
-                    // Create title with mount count
-                    String title = ChatColor.GOLD + "" + ChatColor.BOLD + "Mounts " + 
-                                  ChatColor.WHITE + "(" + currentMounts + "/" + maxMounts + ")";
-                    if (page > 0) {
-                        title += ChatColor.GOLD + " - P" + (page + 1);
+                    if (player.isOnline()) {
+                        GUISession session = plugin.getGUIManager().sessionFor(player, GUIManager.GUIType.MOUNT_LIST, page);
+                        show(session, mounts);
                     }
-                    
-                    Inventory inventory = Bukkit.createInventory(null, 54, title);
-                    
-                    // Add border
-                    GUIManager.addBorder(inventory);
-                    
-                    // Add player head and navigation items
-                    addNavigationItems(inventory);
-                    
-                    // Display the loaded mounts
-                    displayMounts(inventory, mounts);
-                    
-                    player.openInventory(inventory);
                 });
             });
         });
     }
     
-    private int getPlayerMountLimit() {
-        // Check for unlimited permission
-        if (player.hasPermission("simplemounts.unlimited")) {
-            return 999;
+    /**
+     * Show the given mounts in the session's inventory. If the player still has it open and
+     * the title is unchanged, only the slots that differ are set; otherwise a new inventory
+     * is opened.
+     */
+    private void show(GUISession session, List<MountData> mounts) {
+        session.setMounts(mounts);
+        
+        // A release can leave the session on a page that no longer exists
+        int lastPage = mounts.isEmpty() ? 0 : (mounts.size() - 1) / itemsPerPage;
+        if (session.getPage() > lastPage) {
+            session.setPage(lastPage);
         }
         
-        // Check for specific limit permissions (highest takes precedence)
-        if (player.hasPermission("simplemounts.limit.100")) return 100;
-        if (player.hasPermission("simplemounts.limit.50")) return 50;
-        if (player.hasPermission("simplemounts.limit.25")) return 25;
-        if (player.hasPermission("simplemounts.limit.10")) return 10;
+        // Get mount limit for this player
+        int maxMounts = plugin.getMountManager().getPermissionCache().get(player).getMaxMounts();
+        
+        // Title carries only the mount count, so flipping pages never needs a new window
+        String title = ChatColor.GOLD + "" + ChatColor.BOLD + "Mounts " + 
+                      ChatColor.WHITE + "(" + mounts.size() + "/" + (maxMounts < 0 ? "\u221E" : maxMounts) + ")";
+        
+        // Cached border, then player head, navigation and mounts
+        ItemStack[] contents = GUITemplates.borderFrame();
+        addNavigationItems(contents, session.getPage());
+        displayMounts(contents, session, mounts);
+        
+        if (title.equals(session.getTitle()) && session.isShowing(player.getOpenInventory().getTopInventory())) {
+            session.update(contents);
+            return;
+        }
         
-        // Default limit from config
-        return plugin.getConfigManager().getDefaultMountLimit();
+        Inventory inventory = Bukkit.createInventory(null, 54, title);
+        inventory.setContents(contents);
+        session.attach(inventory, title, contents);
+        player.openInventory(inventory);
+    }
+    
+    private void showPage(int targetPage) {
+        GUISession session = plugin.getGUIManager().sessionFor(player, GUIManager.GUIType.MOUNT_LIST, targetPage);
+        session.setPage(Math.max(0, targetPage));
+        if (session.getMounts() == null) {
+            reload(session);
+            return;
+        }
+        // Mounts are already loaded; rebuild the page from them without a database query
+        show(session, session.getMounts());
     }
     
-    private void addNavigationItems(Inventory inventory) {
+    private void addNavigationItems(ItemStack[] contents, int currentPage) {
         // Player head in center bottom
-        ItemStack playerHead = GUIManager.createPlayerHead(player);
-        inventory.setItem(49, playerHead);
+        contents[49] = GUITemplates.playerHead(player);
         
         // Previous page (if applicable)
-        if (page > 0) {
-            ItemStack prevButton = GUIManager.createNavigationItem(
+        if (currentPage > 0) {
+            contents[46] = GUITemplates.navigation(
                 Material.ARROW,
                 "Previous Page",
-                "Go to page " + page
+                "Go to page " + currentPage
             );
-            inventory.setItem(46, prevButton);
         }
     }
     
     
-    private void displayMounts(Inventory inventory, List<MountData> mounts) {
+    private void displayMounts(ItemStack[] contents, GUISession session, List<MountData> mounts) {
+        int currentPage = session.getPage();
+        
         if (mounts.isEmpty()) {
             // Show empty state
-            ItemStack emptyState = GUIManager.createNavigationItem(
+            contents[22] = GUITemplates.navigation(
                 Material.SADDLE,
                 "No Mounts Found",
                 "You don't have any stored mounts yet.",
                 "Use custom taming items on rideable",
                 "entities to claim them as mounts!"
             );
-            inventory.setItem(22, emptyState);
             return;
         }
         
         // Calculate pagination
-        int startIndex = page * itemsPerPage;
+        int startIndex = currentPage * itemsPerPage;
         int endIndex = Math.min(startIndex + itemsPerPage, mounts.size());
         
         // Add next page button if needed
         if (endIndex < mounts.size()) {
-            ItemStack nextButton = GUIManager.createNavigationItem(
+            contents[52] = GUITemplates.navigation(
                 Material.ARROW,
                 "Next Page",
-                "Go to page " + (page + 2)
+                "Go to page " + (currentPage + 2)
             );
-            inventory.setItem(52, nextButton);
         }
         
         // Display mounts
@@ -143,8 +154,8 @@ public class MountListGUI {
                 break;
             }
             
-            // Parse mount attributes
-            Map<String, Object> attributes = parseAttributes(mountData.getMountDataYaml());
+            // Parse mount attributes (cached in the session until the stored data changes)
+            Map<String, Object> attributes = session.getParsedAttributes(mountData, this::parseAttributes);
             
             // Check if mount is active by ID
             boolean isActive = plugin.getMountManager().isMountActive(player, mountData.getId());
@@ -162,18 +173,17 @@ public class MountListGUI {
                 plugin
             );
             
-            inventory.setItem(slot, mountItem);
+            contents[slot] = mountItem;
             slot++;
         }
         
         // Add page info (only if multiple pages)
         if (mounts.size() > itemsPerPage) {
-            ItemStack pageInfo = GUIManager.createNavigationItem(
+            contents[47] = GUITemplates.navigation(
                 Material.PAPER,
                 "Page Info",
-                "Page: " + (page + 1) + "/" + ((mounts.size() - 1) / itemsPerPage + 1)
+                "Page: " + (currentPage + 1) + "/" + ((mounts.size() - 1) / itemsPerPage + 1)
             );
-            inventory.setItem(47, pageInfo);
         }
     }
     
@@ -191,19 +201,37 @@ public class MountListGUI {
     }
     
     public void nextPage() {
-        MountListGUI nextPageGUI = new MountListGUI(plugin, player, page + 1);
-        nextPageGUI.open();
+        showPage(page + 1);
     }
     
     public void previousPage() {
         if (page > 0) {
-            MountListGUI prevPageGUI = new MountListGUI(plugin, player, page - 1);
-            prevPageGUI.open();
+            showPage(page - 1);
         }
     }
     
+    /**
+     * Reload the mounts, e.g. after a summon or store, and update the open inventory in place.
+     * Does nothing if the list is not open.
+     */
     public void refresh() {
-        MountListGUI refreshedGUI = new MountListGUI(plugin, player, page);
-        refreshedGUI.open();
+        GUISession session = plugin.getGUIManager().getSession(player);
+        if (session != null && session.getType() == GUIManager.GUIType.MOUNT_LIST) {
+            reload(session);
+        }
+    }
+    
+    /**
+     * Load the mounts and show them in this session, unless by then the player has closed
+     * the list or moved to another GUI. Only open() brings up a new window.
+     */
+    private void reload(GUISession session) {
+        plugin.getMountManager().getPlayerMounts(player).thenAccept(mounts -> plugin.runSync(() -> {
+            if (player.isOnline()
+                    && plugin.getGUIManager().getSession(player) == session
+                    && session.isShowing(player.getOpenInventory().getTopInventory())) {
+                show(session, mounts);
+            }
+        }));
     }
 }
\ No newline at end of file
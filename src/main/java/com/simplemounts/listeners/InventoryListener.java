@@ -2,8 +2,6 @@ package com.simplemounts.listeners;
 
 import com.simplemounts.SimpleMounts;
 import com.simplemounts.core.MountManager;
-import org.bukkit.ChatColor;
-import org.bukkit.entity.AbstractHorse;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -15,6 +13,8 @@ import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.HorseInventory;
 import org.bukkit.inventory.Inventory;
 
+import java.util.UUID;
+
 public class InventoryListener implements Listener {
     
     private final SimpleMounts plugin;
@@ -43,7 +43,7 @@ public class InventoryListener implements Listener {
             return;
         }
         
-        if (!isPlayerOwnedMount(entity, player)) {
+        if (!mountManager.getOwnership().isOwnedBy(entity, player)) {
             if (plugin.getConfigManager().protectChestAccess()) {
                 event.setCancelled(true);
                 sendMessage(player, "mount_protected");
@@ -78,7 +78,7 @@ public class InventoryListener implements Listener {
             return;
         }
         
-        if (!isPlayerOwnedMount(entity, player)) {
+        if (!mountManager.getOwnership().isOwnedBy(entity, player)) {
             if (plugin.getConfigManager().protectChestAccess()) {
                 event.setCancelled(true);
                 sendMessage(player, "mount_protected");
@@ -103,46 +103,20 @@ public class InventoryListener implements Listener {
     }
     
     private Entity getEntityFromInventory(Inventory inventory) {
-        if (inventory instanceof HorseInventory) {
-            HorseInventory horseInventory = (HorseInventory) inventory;
-            return (Entity) horseInventory.getHolder();
+        if (inventory.getHolder() instanceof Entity) {
+            return (Entity) inventory.getHolder();
         }
         
-        // Try to find the entity by checking all entities in the world
-        // This is a fallback method and might be less reliable
-        for (org.bukkit.World world : plugin.getServer().getWorlds()) {
-            for (Entity entity : world.getEntities()) {
-                if (entity instanceof AbstractHorse) {
-                    AbstractHorse horse = (AbstractHorse) entity;
-                    if (horse.getInventory().equals(inventory)) {
-                        return entity;
-                    }
-                }
-            }
+        // Fall back to the inventory index kept for active mounts
+        UUID entityUuid = mountManager.getEntityForInventory(inventory);
+        if (entityUuid != null) {
+            return plugin.getServer().getEntity(entityUuid);
         }
         
         return null;
     }
     
-    private boolean isPlayerOwnedMount(Entity entity, Player player) {
-        org.bukkit.NamespacedKey ownerKey = new org.bukkit.NamespacedKey(plugin, "simplemounts_owner");
-        String ownerUuid = entity.getPersistentDataContainer().get(ownerKey, org.bukkit.persistence.PersistentDataType.STRING);
-        
-        if (ownerUuid == null) {
-            return false;
-        }
-        
-        return ownerUuid.equals(player.getUniqueId().toString());
-    }
-    
     private void sendMessage(Player player, String messageKey, String... replacements) {
-        String message = plugin.getConfigManager().getMessage(messageKey);
-        String prefix = plugin.getConfigManager().getMessagePrefix();
-        
-        if (replacements.length > 0) {
-            message = message.replace("{name}", replacements[0]);
-        }
-        
-        player.sendMessage(ChatColor.translateAlternateColorCodes('&', prefix + message));
+        player.sendMessage(plugin.getConfigManager().formatMessage(player, messageKey, replacements));
     }
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.simplemounts.listeners;
+
+import com.simplemounts.SimpleMounts;
+import com.simplemounts.core.MountManager;
+import com.simplemounts.core.MountSpatialIndex;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityTeleportEvent;
+import org.bukkit.event.vehicle.VehicleMoveEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+
+/**
+ * Keeps the chunk-keyed mount index in step with entity movement and chunk entity loading.
+ */
+public class MountIndexListener implements Listener {
+
+    private final SimpleMounts plugin;
+    private final MountManager mountManager;
+    private final MountSpatialIndex spatialIndex;
+
+    public MountIndexListener(SimpleMounts plugin) {
+        this.plugin = plugin;
+        this.mountManager = plugin.getMountManager();
+        this.spatialIndex = mountManager.getSpatialIndex();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onVehicleMove(VehicleMoveEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+
+        // Only chunk border crossings change the index
+        if (from.getWorld() == to.getWorld()
+                && (from.getBlockX() >> 4) == (to.getBlockX() >> 4)
+                && (from.getBlockZ() >> 4) == (to.getBlockZ() >> 4)) {
+            return;
+        }
+
+        Entity vehicle = event.getVehicle();
+        if (mountManager.isActiveMount(vehicle.getUniqueId())) {
+            spatialIndex.update(vehicle.getUniqueId(), to.getWorld(), to.getBlockX() >> 4, to.getBlockZ() >> 4);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityTeleport(EntityTeleportEvent event) {
+        Location to = event.getTo();
+        if (to == null || to.getWorld() == null) {
+            return;
+        }
+
+        Entity entity = event.getEntity();
+        if (mountManager.isActiveMount(entity.getUniqueId())) {
+            spatialIndex.update(entity.getUniqueId(), to.getWorld(), to.getBlockX() >> 4, to.getBlockZ() >> 4);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        refresh(event.getEntities());
+        
+        // Rows left in active_mounts by the last run are verified as their chunks load
+        mountManager.getReconciler().onEntitiesLoad(event.getChunk(), event.getEntities());
+        
+        // Mounts whose owner logged out while this chunk was unloaded
+        for (Entity entity : event.getEntities()) {
+            if (mountManager.hasDeferredStore(entity.getUniqueId())) {
+                plugin.runSync(() -> mountManager.storeDeferredMount(entity));
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        // Record where wandering mounts actually were when their chunk went away
+        refresh(event.getEntities());
+        mountManager.recordActiveMountLocations(event.getEntities());
+    }
+
+    private void refresh(Iterable<Entity> entities) {
+        for (Entity entity : entities) {
+            if (mountManager.isActiveMount(entity.getUniqueId())) {
+                spatialIndex.update(entity);
+            }
+        }
+    }
+}
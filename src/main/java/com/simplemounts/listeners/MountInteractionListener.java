@@ -1,8 +1,8 @@
 package com.simplemounts.listeners;
 
 import com.simplemounts.SimpleMounts;
+import com.simplemounts.api.MountChange;
 import com.simplemounts.core.MountManager;
-import org.bukkit.ChatColor;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -39,7 +39,7 @@ public class MountInteractionListener implements Listener {
             return;
         }
         
-        if (!isPlayerOwnedMount(vehicle, player)) {
+        if (!mountManager.getOwnership().isOwnedBy(vehicle, player)) {
             if (plugin.getConfigManager().preventMountStealing()) {
                 event.setCancelled(true);
                 sendMessage(player, "mount_protected");
@@ -68,17 +68,25 @@ public class MountInteractionListener implements Listener {
             return;
         }
         
-        // Update active mount location
+        UUID ownerUuid = mountManager.getOwnership().getOwner(vehicle);
+        Integer mountId = mountManager.getMountId(vehicle.getUniqueId());
+        if (ownerUuid == null || mountId == null) {
+            return;
+        }
+        
+        // Snapshot the location on the main thread, then update the active mount record
+        String mountName = mountManager.getMountName(vehicle.getUniqueId());
+        org.bukkit.Location location = vehicle.getLocation();
         plugin.runAsync(() -> {
             plugin.getDatabaseManager().addActiveMount(
                 vehicle.getUniqueId(),
-                UUID.fromString(vehicle.getMetadata("simplemounts.owner").get(0).asString()),
-                mountManager.getMountId(vehicle.getUniqueId()),
-                mountManager.getMountName(vehicle.getUniqueId()),
-                vehicle.getWorld().getName(),
-                vehicle.getLocation().getX(),
-                vehicle.getLocation().getY(),
-                vehicle.getLocation().getZ()
+                ownerUuid,
+                mountId,
+                mountName,
+                location.getWorld().getName(),
+                location.getX(),
+                location.getY(),
+                location.getZ()
             );
         });
     }
@@ -88,11 +96,11 @@ public class MountInteractionListener implements Listener {
         Player player = event.getPlayer();
         Entity entity = event.getRightClicked();
         
-        if (!mountManager.isActiveMount(entity.getUniqueId())) {
+        if (!plugin.getEventPrefilter().admitMountInteraction(entity)) {
             return;
         }
         
-        if (!isPlayerOwnedMount(entity, player)) {
+        if (!mountManager.getOwnership().isOwnedBy(entity, player)) {
             if (plugin.getConfigManager().protectMountInteraction()) {
                 event.setCancelled(true);
                 sendMessage(player, "mount_protected");
@@ -118,7 +126,7 @@ public class MountInteractionListener implements Listener {
         if (damager instanceof Player) {
             Player player = (Player) damager;
             
-            if (!isPlayerOwnedMount(damaged, player)) {
+            if (!mountManager.getOwnership().isOwnedBy(damaged, player)) {
                 if (plugin.getConfigManager().protectMountInteraction()) {
                     event.setCancelled(true);
                     sendMessage(player, "mount_protected");
@@ -141,17 +149,20 @@ public class MountInteractionListener implements Listener {
             return;
         }
         
-        String ownerUuidString = entity.getMetadata("simplemounts.owner").get(0).asString();
-        UUID ownerUuid = UUID.fromString(ownerUuidString);
+        UUID ownerUuid = mountManager.getOwnership().getOwner(entity);
+        Integer mountId = mountManager.getMountId(entity.getUniqueId());
+        if (ownerUuid == null) {
+            return;
+        }
         
         plugin.runAsync(() -> {
             // Remove from active mounts
             plugin.getDatabaseManager().removeActiveMount(entity.getUniqueId());
             
             // Remove from stored mounts
-            Integer mountId = mountManager.getMountId(entity.getUniqueId());
             if (mountId != null) {
                 plugin.getDatabaseManager().deleteMountData(ownerUuid, mountId);
+                plugin.getMountService().publish(MountChange.Type.DIED, ownerUuid, mountId, mountName, entity.getUniqueId());
             }
             
             // Notify owner if online
@@ -164,25 +175,7 @@ public class MountInteractionListener implements Listener {
         });
     }
     
-    private boolean isPlayerOwnedMount(Entity entity, Player player) {
-        org.bukkit.NamespacedKey ownerKey = new org.bukkit.NamespacedKey(plugin, "simplemounts_owner");
-        String ownerUuid = entity.getPersistentDataContainer().get(ownerKey, org.bukkit.persistence.PersistentDataType.STRING);
-        
-        if (ownerUuid == null) {
-            return false;
-        }
-        
-        return ownerUuid.equals(player.getUniqueId().toString());
-    }
-    
     private void sendMessage(Player player, String messageKey, String... replacements) {
-        String message = plugin.getConfigManager().getMessage(messageKey);
-        String prefix = plugin.getConfigManager().getMessagePrefix();
-        
-        if (replacements.length > 0) {
-            message = message.replace("{name}", replacements[0]);
-        }
-        
-        player.sendMessage(ChatColor.translateAlternateColorCodes('&', prefix + message));
+        player.sendMessage(plugin.getConfigManager().formatMessage(player, messageKey, replacements));
     }
 }
\ No newline at end of file
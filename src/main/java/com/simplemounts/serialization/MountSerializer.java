@@ -21,24 +21,27 @@ import java.util.zip.GZIPOutputStream;
 public class MountSerializer {
     
     private final SimpleMounts plugin;
-    private final Yaml yaml;
+    // SnakeYAML instances are not thread-safe and batch operations deserialize in parallel
+    private final ThreadLocal<Yaml> yaml;
     private final InventorySerializer inventorySerializer;
     
     public MountSerializer(SimpleMounts plugin) {
         this.plugin = plugin;
         this.inventorySerializer = new InventorySerializer(plugin);
         
-        DumperOptions options = new DumperOptions();
-        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
-        options.setPrettyFlow(true);
-        options.setIndent(2);
-        this.yaml = new Yaml(options);
+        this.yaml = ThreadLocal.withInitial(() -> {
+            DumperOptions options = new DumperOptions();
+            options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+            options.setPrettyFlow(true);
+            options.setIndent(2);
+            return new Yaml(options);
+        });
     }
     
     public String serializeAttributes(MountAttributes attributes) {
         try {
             Map<String, Object> attributeMap = attributes.getAttributes();
-            String yamlString = yaml.dump(attributeMap);
+            String yamlString = yaml.get().dump(attributeMap);
             
             if (plugin.getConfigManager().compressInventoryData()) {
                 return compressString(yamlString);
@@ -48,7 +51,7 @@ public class MountSerializer {
             
         } catch (Exception e) {
             plugin.getLogger().log(Level.SEVERE, "Error serializing mount attributes", e);
-            return yaml.dump(new HashMap<>());
+            return yaml.get().dump(new HashMap<>());
         }
     }
     
@@ -64,7 +67,7 @@ public class MountSerializer {
             }
             
             @SuppressWarnings("unchecked")
-            Map<String, Object> attributeMap = yaml.load(yamlString);
+            Map<String, Object> attributeMap = yaml.get().load(yamlString);
             
             if (attributeMap == null) {
                 return new MountAttributes();
@@ -84,9 +87,21 @@ public class MountSerializer {
                 return null;
             }
             
-            ChestInventoryData chestData = ChestInventoryData.fromInventory(inventory);
+            return serializeChestData(ChestInventoryData.fromInventory(inventory));
             
-            if (chestData.isEmpty()) {
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Error serializing chest inventory", e);
+            return null;
+        }
+    }
+    
+    /**
+     * Serialize chest contents captured earlier with ChestInventoryData.fromInventory. The
+     * capture must happen on the main thread; this part may run on any thread.
+     */
+    public String serializeChestData(ChestInventoryData chestData) {
+        try {
+            if (chestData == null || chestData.isEmpty()) {
                 return null;
             }
             
@@ -118,7 +133,7 @@ public class MountSerializer {
                 }
             }
             
-            String yamlString = yaml.dump(inventoryMap);
+            String yamlString = yaml.get().dump(inventoryMap);
             
             if (plugin.getConfigManager().compressInventoryData()) {
                 return compressString(yamlString);
@@ -144,7 +159,7 @@ public class MountSerializer {
             }
             
             @SuppressWarnings("unchecked")
-            Map<String, Object> inventoryMap = yaml.load(yamlString);
+            Map<String, Object> inventoryMap = yaml.get().load(yamlString);
             
             if (inventoryMap == null) {
                 return;
@@ -257,7 +272,7 @@ public class MountSerializer {
                 yamlString = decompressString(serializedData);
             }
             
-            Object parsed = yaml.load(yamlString);
+            Object parsed = yaml.get().load(yamlString);
             return parsed != null;
             
         } catch (Exception e) {
@@ -277,7 +292,7 @@ public class MountSerializer {
             }
             
             @SuppressWarnings("unchecked")
-            Map<String, Object> result = yaml.load(yamlString);
+            Map<String, Object> result = yaml.get().load(yamlString);
             
             return result != null ? result : new HashMap<>();
             
@@ -289,7 +304,7 @@ public class MountSerializer {
     
     public String serializeMap(Map<String, Object> map) {
         try {
-            String yamlString = yaml.dump(map);
+            String yamlString = yaml.get().dump(map);
             
             if (plugin.getConfigManager().compressInventoryData()) {
                 return compressString(yamlString);
@@ -299,7 +314,7 @@ public class MountSerializer {
             
         } catch (Exception e) {
             plugin.getLogger().log(Level.SEVERE, "Error serializing map", e);
-            return yaml.dump(new HashMap<>());
+            return yaml.get().dump(new HashMap<>());
         }
     }
     
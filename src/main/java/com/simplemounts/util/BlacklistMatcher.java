@@ -0,0 +1,223 @@
+package com.simplemounts.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aho–Corasick automaton over the blacklisted words. Finding whether a name contains any
+ * of them takes one pass over the name, however many words the list has. Immutable once
+ * built, so NameValidator can build a new one off the main thread and swap it in.
+ */
+final class BlacklistMatcher {
+
+    // Leetspeak digits and symbols mapped to the letter they usually stand in for
+    private static final char[] ASCII_FOLD = new char[128];
+
+    static {
+        for (char c = 0; c < 128; c++) {
+            ASCII_FOLD[c] = Character.toLowerCase(c);
+        }
+        ASCII_FOLD['0'] = 'o';
+        ASCII_FOLD['1'] = 'i';
+        ASCII_FOLD['3'] = 'e';
+        ASCII_FOLD['4'] = 'a';
+        ASCII_FOLD['5'] = 's';
+        ASCII_FOLD['7'] = 't';
+        ASCII_FOLD['8'] = 'b';
+        ASCII_FOLD['@'] = 'a';
+        ASCII_FOLD['$'] = 's';
+        ASCII_FOLD['!'] = 'i';
+        ASCII_FOLD['|'] = 'l';
+    }
+
+    private final boolean normalize;
+    private final int wordCount;
+    // Per state: outgoing characters sorted ascending, with the matching target states
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    // True when a blacklisted word ends at this state or at any state on its fail chain
+    private final boolean[] accepting;
+
+    private BlacklistMatcher(boolean normalize, int wordCount, char[][] edgeChars, int[][] edgeTargets,
+                             int[] fail, boolean[] accepting) {
+        this.normalize = normalize;
+        this.wordCount = wordCount;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.accepting = accepting;
+    }
+
+    static BlacklistMatcher build(Collection<String> words, boolean normalize) {
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Boolean> terminal = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminal.add(false);
+
+        int wordCount = 0;
+        for (String word : words) {
+            if (word == null || word.isEmpty()) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < word.length(); i++) {
+                char c = fold(word.charAt(i), normalize);
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    terminal.add(false);
+                    trie.get(state).put(c, next);
+                }
+                state = next;
+            }
+            terminal.set(state, true);
+            wordCount++;
+        }
+
+        int size = trie.size();
+        char[][] edgeChars = new char[size][];
+        int[][] edgeTargets = new int[size][];
+        for (int state = 0; state < size; state++) {
+            TreeMap<Character, Integer> edges = trie.get(state);
+            edgeChars[state] = new char[edges.size()];
+            edgeTargets[state] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[state][i] = edge.getKey();
+                edgeTargets[state][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        // Breadth-first so every state's fail target is finished before its children need it
+        int[] fail = new int[size];
+        boolean[] accepting = new boolean[size];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[0]) {
+            accepting[child] = terminal.get(child);
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < edgeChars[state].length; i++) {
+                char c = edgeChars[state][i];
+                int child = edgeTargets[state][i];
+
+                int f = fail[state];
+                int target;
+                while ((target = step(edgeChars, edgeTargets, f, c)) < 0 && f != 0) {
+                    f = fail[f];
+                }
+                fail[child] = target >= 0 ? target : 0;
+                accepting[child] = terminal.get(child) || accepting[fail[child]];
+                queue.add(child);
+            }
+        }
+
+        return new BlacklistMatcher(normalize, wordCount, edgeChars, edgeTargets, fail, accepting);
+    }
+
+    /**
+     * True if any blacklisted word occurs anywhere in the text.
+     */
+    boolean matches(CharSequence text) {
+        if (wordCount == 0) {
+            return false;
+        }
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = fold(text.charAt(i), normalize);
+            int next;
+            while ((next = step(edgeChars, edgeTargets, state, c)) < 0 && state != 0) {
+                state = fail[state];
+            }
+            state = next >= 0 ? next : 0;
+            if (accepting[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int getWordCount() {
+        return wordCount;
+    }
+
+    int getStateCount() {
+        return fail.length;
+    }
+
+    boolean isNormalizing() {
+        return normalize;
+    }
+
+    private static int step(char[][] edgeChars, int[][] edgeTargets, int state, char c) {
+        char[] chars = edgeChars[state];
+        int low = 0;
+        int high = chars.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char value = chars[mid];
+            if (value < c) {
+                low = mid + 1;
+            } else if (value > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[state][mid];
+            }
+        }
+        return -1;
+    }
+
+    static char fold(char c, boolean normalize) {
+        if (!normalize) {
+            return Character.toLowerCase(c);
+        }
+        if (c < 128) {
+            return ASCII_FOLD[c];
+        }
+        c = Character.toLowerCase(c);
+        // Fullwidth Latin letters
+        if (c >= '\uFF41' && c <= '\uFF5A') {
+            return (char) ('a' + (c - '\uFF41'));
+        }
+        switch (c) {
+            // Cyrillic
+            case '\u0430': return 'a';
+            case '\u0432': return 'b';
+            case '\u0435': return 'e';
+            case '\u0451': return 'e';
+            case '\u043A': return 'k';
+            case '\u043C': return 'm';
+            case '\u043D': return 'h';
+            case '\u043E': return 'o';
+            case '\u0440': return 'p';
+            case '\u0441': return 'c';
+            case '\u0442': return 't';
+            case '\u0443': return 'y';
+            case '\u0445': return 'x';
+            case '\u0455': return 's';
+            case '\u0456': return 'i';
+            case '\u0458': return 'j';
+            // Greek
+            case '\u03B1': return 'a';
+            case '\u03B5': return 'e';
+            case '\u03B9': return 'i';
+            case '\u03BA': return 'k';
+            case '\u03BD': return 'v';
+            case '\u03BF': return 'o';
+            case '\u03C1': return 'p';
+            case '\u03C4': return 't';
+            case '\u03C5': return 'u';
+            case '\u03C7': return 'x';
+            default: return c;
+        }
+    }
+}
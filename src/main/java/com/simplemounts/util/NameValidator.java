@@ -7,16 +7,20 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.regex.Pattern;
 
 public class NameValidator {
     
     private final SimpleMounts plugin;
-    private final Set<String> blacklistedNames;
     private final File blacklistFile;
+    // Rebuilt off the main thread on reload and swapped in whole
+    private volatile BlacklistMatcher blacklist;
     
     // Pattern to match color codes and formatting codes
     private static final Pattern COLOR_CODE_PATTERN = Pattern.compile("(?i)&[0-9A-FK-OR]");
@@ -25,10 +29,10 @@ public class NameValidator {
     
     public NameValidator(SimpleMounts plugin) {
         this.plugin = plugin;
-        this.blacklistedNames = new HashSet<>();
         this.blacklistFile = new File(plugin.getDataFolder(), "name-blacklist.txt");
         
-        loadBlacklist();
+        BlacklistMatcher loaded = loadBlacklist();
+        this.blacklist = loaded != null ? loaded : BlacklistMatcher.build(Collections.emptyList(), false);
     }
     
     /**
@@ -50,7 +54,7 @@ public class NameValidator {
         }
         
         // Check blacklist (case insensitive)
-        if (isBlacklisted(sanitizedName)) {
+        if (isBlockedName(rawName, sanitizedName)) {
             return null;
         }
         
@@ -95,21 +99,22 @@ public class NameValidator {
             return false;
         }
         
-        String lowerName = name.toLowerCase().trim();
-        
-        // Check exact matches
-        if (blacklistedNames.contains(lowerName)) {
+        return blacklist.matches(name);
+    }
+    
+    /**
+     * Sanitizing drops look-alike letters such as Cyrillic ones, so with normalization on
+     * the color-stripped raw name is checked as well.
+     */
+    private boolean isBlockedName(String rawName, String sanitizedName) {
+        if (isBlacklisted(sanitizedName)) {
             return true;
         }
-        
-        // Check if name contains any blacklisted words
-        for (String blacklisted : blacklistedNames) {
-            if (lowerName.contains(blacklisted)) {
-                return true;
-            }
+        if (!blacklist.isNormalizing() || rawName == null) {
+            return false;
         }
-        
-        return false;
+        String withoutColors = ChatColor.stripColor(COLOR_CODE_PATTERN.matcher(rawName).replaceAll(""));
+        return withoutColors != null && blacklist.matches(withoutColors);
     }
     
     /**
@@ -126,9 +131,9 @@ public class NameValidator {
     }
     
     /**
-     * Load blacklist from file
+     * Load blacklist from file and build its matcher. Returns null if the file can't be read.
      */
-    private void loadBlacklist() {
+    private BlacklistMatcher loadBlacklist() {
         try {
             // Create default blacklist file if it doesn't exist
             if (!blacklistFile.exists()) {
@@ -137,20 +142,23 @@ public class NameValidator {
             
             // Read blacklist from file
             List<String> lines = Files.readAllLines(blacklistFile.toPath());
-            blacklistedNames.clear();
+            Set<String> words = new LinkedHashSet<>();
             
             for (String line : lines) {
                 line = line.trim();
                 // Skip empty lines and comments
                 if (!line.isEmpty() && !line.startsWith("#")) {
-                    blacklistedNames.add(line.toLowerCase());
+                    words.add(line.toLowerCase());
                 }
             }
             
-            plugin.getLogger().info("Loaded " + blacklistedNames.size() + " blacklisted names from " + blacklistFile.getName());
+            BlacklistMatcher matcher = BlacklistMatcher.build(words, plugin.getConfigManager().normalizeNameBlacklist());
+            plugin.getLogger().info("Loaded " + matcher.getWordCount() + " blacklisted names from " + blacklistFile.getName());
+            return matcher;
             
         } catch (IOException e) {
             plugin.getLogger().warning("Failed to load name blacklist: " + e.getMessage());
+            return null;
         }
     }
     
@@ -217,10 +225,74 @@ public class NameValidator {
     }
     
     /**
-     * Reload blacklist from file
+     * Reload blacklist from file. The matcher is rebuilt asynchronously; names are checked
+     * against the previous list until it is ready.
      */
     public void reloadBlacklist() {
-        loadBlacklist();
+        plugin.runAsync(() -> {
+            BlacklistMatcher rebuilt = loadBlacklist();
+            if (rebuilt != null) {
+                blacklist = rebuilt;
+            }
+        });
+    }
+    
+    public int getBlacklistSize() {
+        return blacklist.getWordCount();
+    }
+    
+    /**
+     * Time building a matcher for a generated word list and checking names against it,
+     * compared with testing every word in turn. Does not touch the live blacklist.
+     */
+    public BlacklistBenchmark benchmark(int wordCount, int nameCount) {
+        Random random = new Random(42);
+        List<String> words = new ArrayList<>(wordCount);
+        for (int i = 0; i < wordCount; i++) {
+            words.add(randomWord(random, 4 + random.nextInt(7)));
+        }
+        List<String> names = new ArrayList<>(nameCount);
+        for (int i = 0; i < nameCount; i++) {
+            names.add(randomWord(random, plugin.getConfigManager().getMaxNameLength()));
+        }
+        boolean normalize = plugin.getConfigManager().normalizeNameBlacklist();
+        
+        long start = System.nanoTime();
+        BlacklistMatcher matcher = BlacklistMatcher.build(words, normalize);
+        long buildNanos = System.nanoTime() - start;
+        
+        int automatonHits = 0;
+        start = System.nanoTime();
+        for (String name : names) {
+            if (matcher.matches(name)) {
+                automatonHits++;
+            }
+        }
+        long automatonNanos = System.nanoTime() - start;
+        
+        int scanHits = 0;
+        start = System.nanoTime();
+        for (String name : names) {
+            String lowerName = name.toLowerCase();
+            for (String word : words) {
+                if (lowerName.contains(word)) {
+                    scanHits++;
+                    break;
+                }
+            }
+        }
+        long scanNanos = System.nanoTime() - start;
+        
+        return new BlacklistBenchmark(wordCount, nameCount, matcher.getStateCount(), buildNanos,
+            automatonNanos, scanNanos, automatonHits, scanHits);
+    }
+    
+    private static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(26)));
+        }
+        return word.toString();
     }
     
     /**
@@ -239,7 +311,7 @@ public class NameValidator {
             }
         }
         
-        if (isBlacklisted(sanitizedName)) {
+        if (isBlockedName(rawName, sanitizedName)) {
             return "Name is not allowed";
         }
         
@@ -250,4 +322,58 @@ public class NameValidator {
         
         return null; // No error
     }
+    
+    public static class BlacklistBenchmark {
+        private final int words;
+        private final int names;
+        private final int states;
+        private final long buildNanos;
+        private final long automatonNanos;
+        private final long scanNanos;
+        private final int automatonHits;
+        private final int scanHits;
+        
+        public BlacklistBenchmark(int words, int names, int states, long buildNanos, long automatonNanos,
+                                  long scanNanos, int automatonHits, int scanHits) {
+            this.words = words;
+            this.names = names;
+            this.states = states;
+            this.buildNanos = buildNanos;
+            this.automatonNanos = automatonNanos;
+            this.scanNanos = scanNanos;
+            this.automatonHits = automatonHits;
+            this.scanHits = scanHits;
+        }
+        
+        public int getWords() { return words; }
+        public int getNames() { return names; }
+        public int getStates() { return states; }
+        public long getBuildNanos() { return buildNanos; }
+        public long getAutomatonNanos() { return automatonNanos; }
+        public long getScanNanos() { return scanNanos; }
+        public int getAutomatonHits() { return automatonHits; }
+        public int getScanHits() { return scanHits; }
+        
+        public double getAutomatonNanosPerName() {
+            return names == 0 ? 0.0 : (double) automatonNanos / names;
+        }
+        
+        public double getScanNanosPerName() {
+            return names == 0 ? 0.0 : (double) scanNanos / names;
+        }
+        
+        @Override
+        public String toString() {
+            return "BlacklistBenchmark{" +
+                    "words=" + words +
+                    ", names=" + names +
+                    ", states=" + states +
+                    ", buildNanos=" + buildNanos +
+                    ", automatonNanos=" + automatonNanos +
+                    ", scanNanos=" + scanNanos +
+                    ", automatonHits=" + automatonHits +
+                    ", scanHits=" + scanHits +
+                    '}';
+        }
+    }
 }
\ No newline at end of file
@@ -2,14 +2,16 @@ package com.simplemounts.util;
 
 import com.simplemounts.core.ConfigManager;
 import org.bukkit.entity.Player;
-
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import org.bukkit.permissions.PermissionAttachmentInfo;
 
 public class PermissionUtils {
     
-    private static final Pattern LIMIT_PERMISSION_PATTERN = Pattern.compile("simplemounts\\.limit\\.(\\d+)");
+    private static final String LIMIT_PREFIX = "simplemounts.limit.";
     
+    /**
+     * Scans the player's effective permissions once. Callers on hot paths should use
+     * MountManager's PermissionCache, which keeps the result per player.
+     */
     public static int getMaxMounts(Player player, ConfigManager config) {
         if (player.hasPermission("simplemounts.unlimited")) {
             return -1; // Unlimited
@@ -18,19 +20,11 @@ public class PermissionUtils {
         int maxLimit = config.getDefaultMaxMounts();
         
         // Check for specific limit permissions
-        for (String permission : player.getEffectivePermissions().stream()
-                .map(perm -> perm.getPermission())
-                .toArray(String[]::new)) {
-            
-            Matcher matcher = LIMIT_PERMISSION_PATTERN.matcher(permission);
-            if (matcher.matches()) {
-                try {
-                    int limit = Integer.parseInt(matcher.group(1));
-                    if (limit > maxLimit) {
-                        maxLimit = limit;
-                    }
-                } catch (NumberFormatException e) {
-                    // Ignore invalid permission format
+        for (PermissionAttachmentInfo info : player.getEffectivePermissions()) {
+            if (info.getValue()) {
+                int limit = parseLimit(info.getPermission());
+                if (limit > maxLimit) {
+                    maxLimit = limit;
                 }
             }
         }
@@ -38,6 +32,25 @@ public class PermissionUtils {
         return maxLimit;
     }
     
+    /**
+     * The N of a simplemounts.limit.N node, or -1 for any other permission.
+     */
+    private static int parseLimit(String permission) {
+        if (!permission.startsWith(LIMIT_PREFIX) || permission.length() == LIMIT_PREFIX.length()
+                || permission.length() > LIMIT_PREFIX.length() + 9) {
+            return -1;
+        }
+        int limit = 0;
+        for (int i = LIMIT_PREFIX.length(); i < permission.length(); i++) {
+            char c = permission.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            limit = limit * 10 + (c - '0');
+        }
+        return limit;
+    }
+    
     public static boolean hasPermission(Player player, String permission) {
         return player.hasPermission(permission);
     }
@@ -122,20 +135,12 @@ public class PermissionUtils {
         int highestLimit = 0;
         String highestPermission = "simplemounts.limit.0";
         
-        for (String permission : player.getEffectivePermissions().stream()
-                .map(perm -> perm.getPermission())
-                .toArray(String[]::new)) {
-            
-            Matcher matcher = LIMIT_PERMISSION_PATTERN.matcher(permission);
-            if (matcher.matches()) {
-                try {
-                    int limit = Integer.parseInt(matcher.group(1));
-                    if (limit > highestLimit) {
-                        highestLimit = limit;
-                        highestPermission = permission;
-                    }
-                } catch (NumberFormatException e) {
-                    // Ignore invalid permission format
+        for (PermissionAttachmentInfo info : player.getEffectivePermissions()) {
+            if (info.getValue()) {
+                int limit = parseLimit(info.getPermission());
+                if (limit > highestLimit) {
+                    highestLimit = limit;
+                    highestPermission = info.getPermission();
                 }
             }
         }
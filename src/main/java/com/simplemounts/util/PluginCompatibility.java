@@ -1,19 +1,59 @@
 package com.simplemounts.util;
 
 import com.simplemounts.SimpleMounts;
+import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
+import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.PluginManager;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 
 public class PluginCompatibility {
     
+    /**
+     * Whether a protection plugin's regions stop a player from claiming mounts at a location.
+     */
+    @FunctionalInterface
+    public interface RegionCheck {
+        boolean isProtected(Player player, Location location);
+    }
+    
+    private static final long DECISION_TTL_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final int MAX_DECISIONS = 4096;
+    
+    private static final String[] GENERIC_MARKERS = {
+        "protected", "no-tame", "mount-protected", "shopkeeper", "quest-npc", "custom-entity",
+        "horse-plugin", "mounts", "custom-mount"
+    };
+    private static final NamespacedKey HORSES_OWNER = new NamespacedKey("horses", "owner");
+    private static final NamespacedKey ULTIMATEHORSES_OWNER = new NamespacedKey("ultimatehorses", "owner");
+    
     private final SimpleMounts plugin;
     private final Map<String, Boolean> pluginCache;
+    private final Map<String, RegionCheck> registeredRegionChecks = new ConcurrentHashMap<>();
+    
+    // Resolved by detectProtectionPlugins()
+    private volatile String[] pluginMarkers = new String[0];
+    private volatile RegionCheck[] regionChecks = new RegionCheck[0];
+    private volatile List<String> activeRegionChecks = Collections.emptyList();
+    
+    private final Map<DecisionKey, Decision> decisions = new ConcurrentHashMap<>();
+    private final LongAdder decisionHits = new LongAdder();
+    private final LongAdder decisionMisses = new LongAdder();
+    private final LongAdder entityBlocks = new LongAdder();
     
     public PluginCompatibility(SimpleMounts plugin) {
         this.plugin = plugin;
@@ -46,162 +86,150 @@ public class PluginCompatibility {
         }
     }
     
-    public boolean isEntityProtected(Entity entity, Player player) {
-        if (!plugin.getConfigManager().respectProtectionPlugins()) {
-            return false;
-        }
+    /**
+     * Resolve which protection plugins are present into fixed arrays, so claim checks do
+     * not look plugins up. Run once the server has finished enabling plugins, and again on
+     * reload or when a region check is registered.
+     */
+    public void detectProtectionPlugins() {
+        pluginCache.clear();
+        List<String> markers = new ArrayList<>();
+        List<RegionCheck> checks = new ArrayList<>();
+        List<String> checkNames = new ArrayList<>();
         
-        // Check Citizens NPCs
-        if (plugin.getConfigManager().ignoreNpcs() && isPluginEnabled("Citizens")) {
-            if (entity.hasMetadata("NPC")) {
-                return true;
+        for (String pluginName : plugin.getConfigManager().getProtectionPlugins()) {
+            if (!isPluginEnabled(pluginName)) {
+                continue;
             }
-        }
-        
-        // Check MythicMobs
-        if (plugin.getConfigManager().ignoreMythicMobs() && isPluginEnabled("MythicMobs")) {
-            if (entity.hasMetadata("MythicMob")) {
-                return true;
+            markers.add(pluginName.toLowerCase() + ".protected");
+            RegionCheck check = registeredRegionChecks.get(pluginName.toLowerCase());
+            if (check != null) {
+                checks.add(check);
+                checkNames.add(pluginName);
             }
         }
         
-        // Check WorldGuard
-        if (isPluginEnabled("WorldGuard")) {
-            if (checkWorldGuardProtection(entity, player)) {
-                return true;
-            }
+        pluginMarkers = markers.toArray(new String[0]);
+        regionChecks = checks.toArray(new RegionCheck[0]);
+        activeRegionChecks = checkNames;
+        decisions.clear();
+    }
+    
+    /**
+     * Let an integration answer whether a plugin's regions protect mounts from a player.
+     * Only used while that plugin is enabled and listed under protection_plugins.
+     */
+    public void registerRegionCheck(String pluginName, RegionCheck check) {
+        registeredRegionChecks.put(pluginName.toLowerCase(), check);
+        detectProtectionPlugins();
+    }
+    
+    public void unregisterRegionCheck(String pluginName) {
+        if (registeredRegionChecks.remove(pluginName.toLowerCase()) != null) {
+            detectProtectionPlugins();
         }
-        
-        // Check GriefPrevention
-        if (isPluginEnabled("GriefPrevention")) {
-            if (checkGriefPreventionProtection(entity, player)) {
-                return true;
-            }
+    }
+    
+    public boolean isEntityProtected(Entity entity, Player player) {
+        if (!plugin.getConfigManager().respectProtectionPlugins()) {
+            return false;
         }
         
-        // Check Towny
-        if (isPluginEnabled("Towny")) {
-            if (checkTownyProtection(entity, player)) {
-                return true;
-            }
+        if (hasProtectionMarker(entity)) {
+            entityBlocks.increment();
+            return true;
         }
         
-        // Check Factions
-        if (isPluginEnabled("Factions")) {
-            if (checkFactionsProtection(entity, player)) {
-                return true;
-            }
+        RegionCheck[] checks = regionChecks;
+        if (checks.length == 0) {
+            return false;
         }
         
-        // Check Lands
-        if (isPluginEnabled("Lands")) {
-            if (checkLandsProtection(entity, player)) {
-                return true;
-            }
+        // Region answers depend only on who is claiming where, so every entity in the same
+        // chunk shares one decision until it expires
+        Location location = entity.getLocation();
+        DecisionKey key = new DecisionKey(player.getUniqueId(), location.getWorld().getUID(),
+            ((long) (location.getBlockX() >> 4) << 32) | ((location.getBlockZ() >> 4) & 0xFFFFFFFFL));
+        long now = System.nanoTime();
+        Decision cached = decisions.get(key);
+        if (cached != null && now < cached.expiresAt) {
+            decisionHits.increment();
+            return cached.isProtected;
         }
+        decisionMisses.increment();
         
-        // Check ClaimChunk
-        if (isPluginEnabled("ClaimChunk")) {
-            if (checkClaimChunkProtection(entity, player)) {
-                return true;
+        boolean isProtected = false;
+        for (RegionCheck check : checks) {
+            try {
+                if (check.isProtected(player, location)) {
+                    isProtected = true;
+                    break;
+                }
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "Error checking region protection", e);
             }
         }
         
-        return false;
+        if (decisions.size() >= MAX_DECISIONS) {
+            decisions.clear();
+        }
+        decisions.put(key, new Decision(isProtected, now + DECISION_TTL_NANOS));
+        return isProtected;
     }
     
-    private boolean checkWorldGuardProtection(Entity entity, Player player) {
-        try {
-            // This would require WorldGuard API integration
-            // For now, we'll use a simple metadata check
-            if (entity.hasMetadata("worldguard.protected")) {
+    private boolean hasProtectionMarker(Entity entity) {
+        // Citizens NPCs and MythicMobs
+        if (plugin.getConfigManager().ignoreNpcs() && entity.hasMetadata("NPC")) {
+            return true;
+        }
+        if (plugin.getConfigManager().ignoreMythicMobs() && entity.hasMetadata("MythicMob")) {
+            return true;
+        }
+        
+        // Generic protection markers and entities owned by other mount plugins
+        for (String marker : GENERIC_MARKERS) {
+            if (entity.hasMetadata(marker)) {
                 return true;
             }
-            
-            // Check for region flags if WorldGuard API is available
-            // This is a placeholder - actual implementation would require WorldGuard dependency
-            return false;
-            
-        } catch (Exception e) {
-            plugin.getLogger().log(Level.WARNING, "Error checking WorldGuard protection", e);
-            return false;
         }
-    }
-    
-    private boolean checkGriefPreventionProtection(Entity entity, Player player) {
-        try {
-            // This would require GriefPrevention API integration
-            // For now, we'll use a simple metadata check
-            if (entity.hasMetadata("griefprevention.protected")) {
+        if (entity.getPersistentDataContainer().has(HORSES_OWNER, PersistentDataType.STRING) ||
+            entity.getPersistentDataContainer().has(ULTIMATEHORSES_OWNER, PersistentDataType.STRING)) {
+            return true;
+        }
+        
+        // Markers set by the protection plugins that are installed
+        for (String marker : pluginMarkers) {
+            if (entity.hasMetadata(marker)) {
                 return true;
             }
-            
-            return false;
-            
-        } catch (Exception e) {
-            plugin.getLogger().log(Level.WARNING, "Error checking GriefPrevention protection", e);
-            return false;
         }
+        return false;
     }
     
-    private boolean checkTownyProtection(Entity entity, Player player) {
-        try {
-            // This would require Towny API integration
-            if (entity.hasMetadata("towny.protected")) {
-                return true;
-            }
-            
-            return false;
-            
-        } catch (Exception e) {
-            plugin.getLogger().log(Level.WARNING, "Error checking Towny protection", e);
-            return false;
-        }
+    /**
+     * Drop cached region decisions for a player, e.g. when they log out or their
+     * permissions change.
+     */
+    public void invalidateDecisions(UUID playerUuid) {
+        decisions.keySet().removeIf(key -> key.playerUuid.equals(playerUuid));
     }
     
-    private boolean checkFactionsProtection(Entity entity, Player player) {
-        try {
-            // This would require Factions API integration
-            if (entity.hasMetadata("factions.protected")) {
-                return true;
-            }
-            
-            return false;
-            
-        } catch (Exception e) {
-            plugin.getLogger().log(Level.WARNING, "Error checking Factions protection", e);
-            return false;
-        }
+    /**
+     * Drop cached region decisions for a chunk, for integrations that see a claim change.
+     */
+    public void invalidateDecisions(World world, int chunkX, int chunkZ) {
+        UUID worldUuid = world.getUID();
+        long chunkKey = ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+        decisions.keySet().removeIf(key -> key.chunkKey == chunkKey && key.worldUuid.equals(worldUuid));
     }
     
-    private boolean checkLandsProtection(Entity entity, Player player) {
-        try {
-            // This would require Lands API integration
-            if (entity.hasMetadata("lands.protected")) {
-                return true;
-            }
-            
-            return false;
-            
-        } catch (Exception e) {
-            plugin.getLogger().log(Level.WARNING, "Error checking Lands protection", e);
-            return false;
-        }
+    public void invalidateAllDecisions() {
+        decisions.clear();
     }
     
-    private boolean checkClaimChunkProtection(Entity entity, Player player) {
-        try {
-            // This would require ClaimChunk API integration
-            if (entity.hasMetadata("claimchunk.protected")) {
-                return true;
-            }
-            
-            return false;
-            
-        } catch (Exception e) {
-            plugin.getLogger().log(Level.WARNING, "Error checking ClaimChunk protection", e);
-            return false;
-        }
+    public ProtectionStats getStats() {
+        return new ProtectionStats(activeRegionChecks, pluginMarkers.length, decisions.size(),
+            decisionHits.sum(), decisionMisses.sum(), entityBlocks.sum());
     }
     
     public boolean hasEconomySupport() {
@@ -278,6 +306,7 @@ public class PluginCompatibility {
     
     public void reloadCompatibility() {
         clearCache();
+        detectProtectionPlugins();
         checkConflictingPlugins();
         logCompatibilityInfo();
         
@@ -286,4 +315,85 @@ public class PluginCompatibility {
             plugin.getLogger().warning("Please whitelist mount teleportation in your anti-cheat configuration");
         }
     }
+    
+    private static final class DecisionKey {
+        private final UUID playerUuid;
+        private final UUID worldUuid;
+        private final long chunkKey;
+        
+        private DecisionKey(UUID playerUuid, UUID worldUuid, long chunkKey) {
+            this.playerUuid = playerUuid;
+            this.worldUuid = worldUuid;
+            this.chunkKey = chunkKey;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof DecisionKey)) return false;
+            DecisionKey that = (DecisionKey) o;
+            return chunkKey == that.chunkKey && playerUuid.equals(that.playerUuid) && worldUuid.equals(that.worldUuid);
+        }
+        
+        @Override
+        public int hashCode() {
+            int result = playerUuid.hashCode();
+            result = 31 * result + worldUuid.hashCode();
+            result = 31 * result + Long.hashCode(chunkKey);
+            return result;
+        }
+    }
+    
+    private static final class Decision {
+        private final boolean isProtected;
+        private final long expiresAt;
+        
+        private Decision(boolean isProtected, long expiresAt) {
+            this.isProtected = isProtected;
+            this.expiresAt = expiresAt;
+        }
+    }
+    
+    public static class ProtectionStats {
+        private final List<String> regionChecks;
+        private final int pluginMarkers;
+        private final int cachedDecisions;
+        private final long decisionHits;
+        private final long decisionMisses;
+        private final long entityBlocks;
+        
+        public ProtectionStats(List<String> regionChecks, int pluginMarkers, int cachedDecisions,
+                               long decisionHits, long decisionMisses, long entityBlocks) {
+            this.regionChecks = regionChecks;
+            this.pluginMarkers = pluginMarkers;
+            this.cachedDecisions = cachedDecisions;
+            this.decisionHits = decisionHits;
+            this.decisionMisses = decisionMisses;
+            this.entityBlocks = entityBlocks;
+        }
+        
+        public List<String> getRegionChecks() { return regionChecks; }
+        public int getPluginMarkers() { return pluginMarkers; }
+        public int getCachedDecisions() { return cachedDecisions; }
+        public long getDecisionHits() { return decisionHits; }
+        public long getDecisionMisses() { return decisionMisses; }
+        public long getEntityBlocks() { return entityBlocks; }
+        
+        public double getHitRate() {
+            long total = decisionHits + decisionMisses;
+            return total == 0 ? 0.0 : (double) decisionHits / total;
+        }
+        
+        @Override
+        public String toString() {
+            return "ProtectionStats{" +
+                    "regionChecks=" + regionChecks +
+                    ", pluginMarkers=" + pluginMarkers +
+                    ", cachedDecisions=" + cachedDecisions +
+                    ", decisionHits=" + decisionHits +
+                    ", decisionMisses=" + decisionMisses +
+                    ", entityBlocks=" + entityBlocks +
+                    '}';
+        }
+    }
 }
\ No newline at end of file